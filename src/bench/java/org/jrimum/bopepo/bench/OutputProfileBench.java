@@ -0,0 +1,168 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 11:02:17
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 11:02:17
+ * 
+ */
+
+
+package org.jrimum.bopepo.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.util.GregorianCalendar;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.view.BoletoViewer;
+import org.jrimum.bopepo.view.OutputProfile;
+import org.jrimum.domkee.comum.pessoa.endereco.CEP;
+import org.jrimum.domkee.comum.pessoa.endereco.Endereco;
+import org.jrimum.domkee.comum.pessoa.endereco.UnidadeFederativa;
+import org.jrimum.domkee.financeiro.banco.febraban.Agencia;
+import org.jrimum.domkee.financeiro.banco.febraban.Carteira;
+import org.jrimum.domkee.financeiro.banco.febraban.Cedente;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.domkee.financeiro.banco.febraban.NumeroDaConta;
+import org.jrimum.domkee.financeiro.banco.febraban.Sacado;
+import org.jrimum.domkee.financeiro.banco.febraban.SacadorAvalista;
+import org.jrimum.domkee.financeiro.banco.febraban.TipoDeTitulo;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+
+/**
+ * <p>
+ * Mede, para cada {@link OutputProfile}, o tempo de CPU e o tamanho do PDF de
+ * um boleto nos templates embutidos (sem e com sacador avalista), tanto
+ * preenchendo o formulário quanto com
+ * {@linkplain BoletoViewer#setDirectDraw(boolean) escrita direta}.
+ * </p>
+ * <p>
+ * Cada combinação é repetida algumas vezes e vale a rodada mais rápida, para
+ * descontar o aquecimento da JVM. O tempo é o de CPU da thread corrente, não o
+ * de relógio.
+ * </p>
+ * 
+ * <pre>
+ * java -cp classes:bench-classes:lib/* org.jrimum.bopepo.bench.OutputProfileBench [boletos por rodada] [rodadas]
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class OutputProfileBench {
+
+	private static final int BOLETOS_PADRAO = 200;
+
+	private static final int RODADAS_PADRAO = 8;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 */
+	private OutputProfileBench() {
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	public static void main(String[] args) {
+
+		final int boletos = args.length > 0 ? Integer.parseInt(args[0]) : BOLETOS_PADRAO;
+		final int rodadas = args.length > 1 ? Integer.parseInt(args[1]) : RODADAS_PADRAO;
+
+		final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+		System.out.printf("%-22s %-9s %-8s %14s %14s%n", "template", "escrita", "perfil", "ms CPU/boleto", "bytes/boleto");
+
+		for (boolean comSacadorAvalista : new boolean[] { false, true }) {
+
+			for (boolean directDraw : new boolean[] { false, true }) {
+
+				for (OutputProfile perfil : OutputProfile.values()) {
+
+					long melhor = Long.MAX_VALUE;
+					long bytes = 0;
+
+					for (int rodada = 0; rodada < rodadas; rodada++) {
+
+						long total = 0;
+
+						final long inicio = threads.getCurrentThreadCpuTime();
+
+						for (int i = 0; i < boletos; i++) {
+
+							total += new BoletoViewer(boleto(i, comSacadorAvalista)).setDirectDraw(directDraw).setOutputProfile(perfil).getPdfAsByteArray().length;
+						}
+
+						melhor = Math.min(melhor, threads.getCurrentThreadCpuTime() - inicio);
+						bytes = total / boletos;
+					}
+
+					System.out.printf("%-22s %-9s %-8s %14.2f %14d%n", comSacadorAvalista ? "ComSacadorAvalista" : "SemSacadorAvalista",
+							directDraw ? "direta" : "acroform", perfil, melhor / 1e6 / boletos, bytes);
+				}
+			}
+		}
+	}
+
+	private static Boleto boleto(int i, boolean comSacadorAvalista) {
+
+		ContaBancaria conta = new ContaBancaria(BancosSuportados.BANCO_BRADESCO.create());
+		conta.setAgencia(new Agencia(1234, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(123456, "0"));
+		conta.setCarteira(new Carteira(30));
+
+		Endereco endereco = new Endereco();
+		endereco.setUF(UnidadeFederativa.RN);
+		endereco.setLocalidade("Natal");
+		endereco.setCep(new CEP("59064-120"));
+		endereco.setBairro("Grande Centro");
+		endereco.setLogradouro("Rua poeta dos bits");
+		endereco.setNumero("1");
+
+		Sacado sacado = new Sacado("Sacado " + i, "222.222.222-22");
+		sacado.addEndereco(endereco);
+
+		Cedente cedente = new Cedente("Cedente de Teste Ltda", "00.000.208/0001-00");
+
+		Titulo titulo = comSacadorAvalista ? new Titulo(conta, sacado, cedente, new SacadorAvalista("Sacador Avalista", "00.000.000/0001-91"))
+				: new Titulo(conta, sacado, cedente);
+
+		titulo.setNumeroDoDocumento(String.valueOf(100000 + i));
+		titulo.setNossoNumero(String.format("%011d", 99345678912L + i));
+		titulo.setDigitoDoNossoNumero("5");
+		titulo.setValor(BigDecimal.valueOf(10023 + i, 2));
+		titulo.setDataDoDocumento(new GregorianCalendar(2020, 0, 1).getTime());
+		titulo.setDataDoVencimento(new GregorianCalendar(2020, 1, 1).getTime());
+		titulo.setTipoDeDocumento(TipoDeTitulo.DM_DUPLICATA_MERCANTIL);
+		titulo.setAceite(Titulo.EnumAceite.A);
+
+		Boleto boleto = new Boleto(titulo);
+		boleto.setLocalPagamento("Pagável em qualquer banco até o vencimento");
+		boleto.setInstrucao1("Não receber após o vencimento");
+
+		return boleto;
+	}
+}
@@ -0,0 +1,483 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 11:48:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 11:48:05
+ * 
+ */
+
+
+package org.jrimum.bopepo;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.campolivre.CampoLivre;
+import org.jrimum.bopepo.campolivre.CampoLivreDaConta;
+import org.jrimum.bopepo.campolivre.CampoLivreFactory;
+import org.jrimum.bopepo.campolivre.NotSupportedBancoException;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Fábrica de boletos em lote para títulos de uma mesma conta bancária.
+ * </p>
+ * <p>
+ * A conta bancária é verificada e o banco é localizado entre os
+ * {@link BancosSuportados} uma única vez por lote, assim como a parte do campo
+ * livre que vem da conta ({@link CampoLivreFactory#prepare(ContaBancaria, BancosSuportados)});
+ * para cada título restam o nosso número, o código de barras e a linha
+ * digitável. Os bancos sem preparação e os títulos fora do caso comum do banco
+ * têm o campo livre criado título a título, como em {@link Boleto#Boleto(Titulo)}.
+ * </p>
+ * <p>
+ * Cada título deve ser da conta do lote: a mesma instância ou uma conta com o
+ * mesmo banco, agência, número e carteira.
+ * </p>
+ * <p>
+ * Problemas de um título não interrompem o lote: a exceção é guardada como uma
+ * {@link Falha} no {@link Resultado} e o boleto correspondente fica nulo.
+ * Somente problemas da conta bancária, que afetariam todos os títulos, são
+ * lançados.
+ * </p>
+ * 
+ * <pre>
+ * BoletoBatchFactory.Resultado lote = BoletoBatchFactory.create(conta, titulos);
+ * 
+ * for (BoletoBatchFactory.Falha falha : lote.getFalhas()) {
+ * 	log.warn(falha);
+ * }
+ * 
+ * lote.stream().forEach(...);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class BoletoBatchFactory {
+
+	private static Logger log = Logger.getLogger(BoletoBatchFactory.class);
+
+	/**
+	 * <p>
+	 * Quantidade de títulos abaixo da qual uma tarefa paralela deixa de ser
+	 * dividida.
+	 * </p>
+	 */
+	private static final int LIMITE_DA_TAREFA = 1024;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws AssertionError
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private BoletoBatchFactory() {
+
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * <p>
+	 * Cria os boletos dos títulos na thread corrente.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta bancária de todos os títulos
+	 * @param titulos
+	 *            títulos do lote
+	 * @return boletos e falhas do lote, na ordem dos títulos
+	 * @throws IllegalArgumentException
+	 *             Caso a conta bancária ou os títulos sejam nulos ou a conta
+	 *             não tenha banco, agência, número ou carteira.
+	 * @throws NotSupportedBancoException
+	 *             Caso o banco da conta não seja suportado.
+	 */
+	public static Resultado create(ContaBancaria conta, Iterable<Titulo> titulos) {
+
+		return create(conta, titulos, null);
+	}
+
+	/**
+	 * <p>
+	 * Cria os boletos dos títulos dividindo o trabalho no pool informado. Com
+	 * pool nulo o lote é processado na thread corrente.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta bancária de todos os títulos
+	 * @param titulos
+	 *            títulos do lote
+	 * @param pool
+	 *            pool de execução ou <code>null</code>
+	 * @return boletos e falhas do lote, na ordem dos títulos
+	 * @throws IllegalArgumentException
+	 *             Caso a conta bancária ou os títulos sejam nulos ou a conta
+	 *             não tenha banco, agência, número ou carteira.
+	 * @throws NotSupportedBancoException
+	 *             Caso o banco da conta não seja suportado.
+	 */
+	public static Resultado create(ContaBancaria conta, Iterable<Titulo> titulos, ForkJoinPool pool) {
+
+		Objects.checkNotNull(titulos, "Títulos nulos!");
+
+		final Lote lote = new Lote(conta, paraArray(titulos));
+
+		if (Objects.isNull(pool) || lote.titulos.length <= LIMITE_DA_TAREFA) {
+
+			lote.processar(0, lote.titulos.length);
+
+		} else {
+
+			pool.invoke(new Tarefa(lote, 0, lote.titulos.length));
+		}
+
+		final Resultado resultado = new Resultado(lote.boletos, lote.falhas());
+
+		if (log.isDebugEnabled()) {
+
+			log.debug(format("Lote de %d títulos com %d falhas", resultado.size(), resultado.getFalhas().size()));
+		}
+
+		return resultado;
+	}
+
+	private static Titulo[] paraArray(Iterable<Titulo> titulos) {
+
+		if (titulos instanceof Collection) {
+
+			return ((Collection<Titulo>) titulos).toArray(new Titulo[0]);
+		}
+
+		final List<Titulo> lista = new ArrayList<Titulo>();
+
+		for (Titulo titulo : titulos) {
+
+			lista.add(titulo);
+		}
+
+		return lista.toArray(new Titulo[lista.size()]);
+	}
+
+	/**
+	 * <p>
+	 * Estado de um lote: a conta já verificada, o banco resolvido, o campo
+	 * livre preparado para a conta e os arrays de entrada e saída. Cada posição é escrita por uma única tarefa.
+	 * </p>
+	 */
+	private static final class Lote {
+
+		private final ContaBancaria conta;
+
+		private final BancosSuportados banco;
+
+		private final CampoLivreDaConta campoLivre;
+
+		private final Titulo[] titulos;
+
+		private final Boleto[] boletos;
+
+		private final Falha[] falhas;
+
+		Lote(ContaBancaria conta, Titulo[] titulos) {
+
+			Objects.checkNotNull(conta, "Conta bancária nula!");
+			Objects.checkNotNull(conta.getBanco(), "Banco da conta bancária nulo!");
+			Objects.checkNotNull(conta.getAgencia(), "Agência da conta bancária nula!");
+			Objects.checkNotNull(conta.getNumeroDaConta(), "Número da conta bancária nulo!");
+			Objects.checkNotNull(conta.getCarteira(), "Carteira da conta bancária nula!");
+
+			final String codigo = conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado();
+
+			if (!BancosSuportados.isSuportado(codigo)) {
+
+				throw new NotSupportedBancoException();
+			}
+
+			this.conta = conta;
+			this.banco = BancosSuportados.suportados.get(codigo);
+			this.campoLivre = CampoLivreFactory.prepare(conta, banco);
+			this.titulos = titulos;
+			this.boletos = new Boleto[titulos.length];
+			this.falhas = new Falha[titulos.length];
+		}
+
+		void processar(int inicio, int fim) {
+
+			for (int i = inicio; i < fim; i++) {
+
+				final Titulo titulo = titulos[i];
+
+				try {
+
+					boletos[i] = criar(titulo);
+
+				} catch (RuntimeException e) {
+
+					falhas[i] = new Falha(i, titulo, e);
+				}
+			}
+		}
+
+		private Boleto criar(Titulo titulo) {
+
+			Objects.checkNotNull(titulo, "Título nulo!");
+
+			if (!isDaConta(titulo.getContaBancaria())) {
+
+				throw new IllegalArgumentException("O título não pertence à conta bancária do lote!");
+			}
+
+			final CampoLivre campoLivre = this.campoLivre.create(titulo);
+
+			return new Boleto(titulo, campoLivre);
+		}
+
+		/**
+		 * <p>
+		 * Compara pelos valores que entram no campo livre: código do banco,
+		 * agência, número da conta e carteira. Contas iguais carregadas em
+		 * instâncias diferentes, como é comum ao ler os títulos de um
+		 * arquivo, pertencem ao lote.
+		 * </p>
+		 */
+		private boolean isDaConta(ContaBancaria outra) {
+
+			if (outra == conta) {
+
+				return true;
+			}
+
+			if (Objects.isNull(outra) || Objects.isNull(outra.getBanco())
+					|| Objects.isNull(outra.getBanco().getCodigoDeCompensacaoBACEN()) || Objects.isNull(outra.getAgencia())
+					|| Objects.isNull(outra.getNumeroDaConta()) || Objects.isNull(outra.getCarteira())) {
+
+				return false;
+			}
+
+			return igual(outra.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado(), conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado())
+					&& igual(outra.getAgencia().getCodigo(), conta.getAgencia().getCodigo())
+					&& igual(outra.getAgencia().getDigitoVerificador(), conta.getAgencia().getDigitoVerificador())
+					&& igual(outra.getNumeroDaConta().getCodigoDaConta(), conta.getNumeroDaConta().getCodigoDaConta())
+					&& igual(outra.getNumeroDaConta().getDigitoDaConta(), conta.getNumeroDaConta().getDigitoDaConta())
+					&& igual(outra.getCarteira().getCodigo(), conta.getCarteira().getCodigo());
+		}
+
+		private static boolean igual(Object a, Object b) {
+
+			return Objects.isNull(a) ? Objects.isNull(b) : a.equals(b);
+		}
+
+		List<Falha> falhas() {
+
+			List<Falha> lista = null;
+
+			for (Falha falha : falhas) {
+
+				if (Objects.isNotNull(falha)) {
+
+					if (Objects.isNull(lista)) {
+
+						lista = new ArrayList<Falha>();
+					}
+
+					lista.add(falha);
+				}
+			}
+
+			return Objects.isNull(lista) ? Collections.<Falha> emptyList() : Collections.unmodifiableList(lista);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Divide o intervalo de títulos ao meio até o
+	 * {@linkplain #LIMITE_DA_TAREFA limite} e processa cada parte.
+	 * </p>
+	 */
+	@SuppressWarnings("serial")
+	private static final class Tarefa extends RecursiveAction {
+
+		private final Lote lote;
+
+		private final int inicio;
+
+		private final int fim;
+
+		Tarefa(Lote lote, int inicio, int fim) {
+
+			this.lote = lote;
+			this.inicio = inicio;
+			this.fim = fim;
+		}
+
+		@Override
+		protected void compute() {
+
+			if (fim - inicio <= LIMITE_DA_TAREFA) {
+
+				lote.processar(inicio, fim);
+
+			} else {
+
+				final int meio = (inicio + fim) >>> 1;
+
+				invokeAll(new Tarefa(lote, inicio, meio), new Tarefa(lote, meio, fim));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Boletos criados por um lote. A posição de cada boleto é a mesma do seu
+	 * título na entrada; títulos com falha ficam com boleto nulo.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class Resultado {
+
+		private final Boleto[] boletos;
+
+		private final List<Falha> falhas;
+
+		private Resultado(Boleto[] boletos, List<Falha> falhas) {
+
+			this.boletos = boletos;
+			this.falhas = falhas;
+		}
+
+		/**
+		 * @return cópia dos boletos na ordem dos títulos, com
+		 *         <code>null</code> nas posições que falharam
+		 */
+		public Boleto[] getBoletos() {
+
+			return boletos.clone();
+		}
+
+		/**
+		 * @param indice
+		 *            posição do título no lote
+		 * @return boleto do título ou <code>null</code> se ele falhou
+		 */
+		public Boleto getBoleto(int indice) {
+
+			return boletos[indice];
+		}
+
+		/**
+		 * @return falhas do lote na ordem dos títulos, lista vazia se não
+		 *         houve nenhuma
+		 */
+		public List<Falha> getFalhas() {
+
+			return falhas;
+		}
+
+		/**
+		 * @return <code>true</code> se algum título falhou
+		 */
+		public boolean hasFalhas() {
+
+			return !falhas.isEmpty();
+		}
+
+		/**
+		 * @return quantidade de títulos do lote, incluindo os que falharam
+		 */
+		public int size() {
+
+			return boletos.length;
+		}
+
+		/**
+		 * @return boletos criados com sucesso, na ordem dos títulos
+		 */
+		public Stream<Boleto> stream() {
+
+			return Arrays.stream(boletos).filter(java.util.Objects::nonNull);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Título que não pôde virar boleto e o motivo.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class Falha {
+
+		private final int indice;
+
+		private final Titulo titulo;
+
+		private final RuntimeException causa;
+
+		private Falha(int indice, Titulo titulo, RuntimeException causa) {
+
+			this.indice = indice;
+			this.titulo = titulo;
+			this.causa = causa;
+		}
+
+		/**
+		 * @return posição do título no lote
+		 */
+		public int getIndice() {
+
+			return indice;
+		}
+
+		public Titulo getTitulo() {
+
+			return titulo;
+		}
+
+		public RuntimeException getCausa() {
+
+			return causa;
+		}
+
+		@Override
+		public String toString() {
+
+			return format("Título %d: %s", indice, causa);
+		}
+	}
+}
@@ -0,0 +1,501 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 14:26:51
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 14:26:51
+ * 
+ */
+
+
+package org.jrimum.bopepo;
+
+import static java.lang.String.format;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.view.BoletoViewer;
+import org.jrimum.domkee.comum.pessoa.endereco.CEP;
+import org.jrimum.domkee.comum.pessoa.endereco.Endereco;
+import org.jrimum.domkee.comum.pessoa.endereco.UnidadeFederativa;
+import org.jrimum.domkee.financeiro.banco.ParametrosBancariosMap;
+import org.jrimum.domkee.financeiro.banco.febraban.Agencia;
+import org.jrimum.domkee.financeiro.banco.febraban.Carteira;
+import org.jrimum.domkee.financeiro.banco.febraban.Cedente;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.domkee.financeiro.banco.febraban.Modalidade;
+import org.jrimum.domkee.financeiro.banco.febraban.NumeroDaConta;
+import org.jrimum.domkee.financeiro.banco.febraban.Sacado;
+import org.jrimum.domkee.financeiro.banco.febraban.TipoDeCobranca;
+import org.jrimum.domkee.financeiro.banco.febraban.TipoDeTitulo;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Ponto de entrada para tarefas do componente como um todo.
+ * </p>
+ * <p>
+ * O primeiro boleto gerado depois que a aplicação sobe paga por tudo o que é
+ * carregado sob demanda: os templates e as logos, as classes de campo livre de
+ * cada banco, a inicialização do iText e do <code>ImageIO</code> e a
+ * compilação pelo JIT dos cálculos de módulo 10 e 11. O
+ * {@link #warmUp(WarmUpOptions) aquecimento} antecipa esse custo para a
+ * inicialização da aplicação, antes dela se declarar pronta:
+ * </p>
+ * 
+ * <pre>
+ * Bopepo.WarmUpReport relatorio = Bopepo.warmUp(new Bopepo.WarmUpOptions().setBoletosPorBanco(2000).setPdfsPorBanco(20));
+ * 
+ * log.info(relatorio);
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class Bopepo {
+
+	private static Logger log = Logger.getLogger(Bopepo.class);
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 * 
+	 * @throws AssertionError
+	 *             Caso haja alguma tentativa de utilização deste construtor.
+	 */
+	private Bopepo() {
+
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * <p>
+	 * Aquecimento com as opções padrão: carrega os recursos e gera um boleto
+	 * de exemplo por banco suportado, sem laço de compilação.
+	 * </p>
+	 * 
+	 * @return relatório do aquecimento
+	 * 
+	 * @see #warmUp(WarmUpOptions)
+	 * 
+	 * @since 0.2
+	 */
+	public static WarmUpReport warmUp() {
+
+		return warmUp(new WarmUpOptions());
+	}
+
+	/**
+	 * <p>
+	 * Carrega antecipadamente os templates, as logos e as tabelas dos bancos
+	 * e, opcionalmente, gera boletos e PDFs de exemplo de cada banco para que
+	 * o JIT compile os caminhos usados na geração.
+	 * </p>
+	 * <p>
+	 * Um banco cujo exemplo falhe não interrompe o aquecimento; a falha é
+	 * registrada no relatório.
+	 * </p>
+	 * 
+	 * @param options
+	 *            opções do aquecimento
+	 * @return relatório com os tempos de cada etapa
+	 * @throws IllegalStateException
+	 *             Caso os templates ou as logos não possam ser lidos.
+	 * 
+	 * @since 0.2
+	 */
+	public static WarmUpReport warmUp(WarmUpOptions options) {
+
+		Objects.checkNotNull(options, "Opções de aquecimento nulas!");
+
+		final long inicio = System.nanoTime();
+
+		final Map<BancosSuportados, Boleto> exemplos = new EnumMap<BancosSuportados, Boleto>(BancosSuportados.class);
+		final Map<BancosSuportados, RuntimeException> falhas = new EnumMap<BancosSuportados, RuntimeException>(
+				BancosSuportados.class);
+
+		if (options.isCarregarRecursos()) {
+
+			BoletoViewer.preloadResources();
+		}
+
+		for (BancosSuportados banco : options.getBancos()) {
+
+			try {
+
+				exemplos.put(banco, new Boleto(exemplo(banco)));
+
+			} catch (RuntimeException e) {
+
+				falhas.put(banco, e);
+
+				log.warn(format("Aquecimento do banco %s falhou: %s", banco, e.getLocalizedMessage()));
+			}
+		}
+
+		final long inicioDaGeracao = System.nanoTime();
+
+		for (Map.Entry<BancosSuportados, Boleto> exemplo : exemplos.entrySet()) {
+
+			try {
+
+				final Titulo titulo = exemplo.getValue().getTitulo();
+
+				for (int i = 0; i < options.getBoletosPorBanco(); i++) {
+
+					new Boleto(titulo);
+				}
+
+				for (int i = 0; i < options.getPdfsPorBanco(); i++) {
+
+					new BoletoViewer(exemplo.getValue()).getPdfAsByteArray();
+				}
+
+			} catch (RuntimeException e) {
+
+				falhas.put(exemplo.getKey(), e);
+
+				log.warn(format("Aquecimento do banco %s falhou: %s", exemplo.getKey(), e.getLocalizedMessage()));
+			}
+		}
+
+		final long fim = System.nanoTime();
+
+		final Set<BancosSuportados> aquecidos = EnumSet.noneOf(BancosSuportados.class);
+
+		aquecidos.addAll(exemplos.keySet());
+		aquecidos.removeAll(falhas.keySet());
+
+		final WarmUpReport relatorio = new WarmUpReport(Duration.ofNanos(inicioDaGeracao - inicio), Duration
+				.ofNanos(fim - inicioDaGeracao), aquecidos, falhas);
+
+		if (log.isInfoEnabled()) {
+
+			log.info(relatorio);
+		}
+
+		return relatorio;
+	}
+
+	/**
+	 * <p>
+	 * Título fictício aceito pelo campo livre de cada banco suportado.
+	 * </p>
+	 */
+	private static Titulo exemplo(BancosSuportados banco) {
+
+		int tamanhoDoNossoNumero = 11;
+		String prefixoDoNossoNumero = "";
+		int carteira = 1;
+		int agencia = 1234;
+		ParametrosBancariosMap parametros = null;
+
+		switch (banco) {
+
+			case BANCO_DO_NORDESTE_DO_BRASIL:
+				tamanhoDoNossoNumero = 7;
+				break;
+
+			case BANCO_DO_ESTADO_DO_ESPIRITO_SANTO:
+			case BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL:
+			case BANCO_SAFRA:
+			case BANCOOB:
+				tamanhoDoNossoNumero = 8;
+				break;
+
+			case BANCO_SANTANDER:
+				carteira = 102;
+				break;
+
+			case CAIXA_ECONOMICA_FEDERAL:
+				tamanhoDoNossoNumero = 15;
+				break;
+
+			case NOSSA_CAIXA:
+				tamanhoDoNossoNumero = 9;
+				prefixoDoNossoNumero = "99";
+				break;
+
+			case BANCO_ITAU:
+				tamanhoDoNossoNumero = 8;
+				carteira = 175;
+				break;
+
+			case MERCANTIL_DO_BRASIL:
+			case HSBC:
+				tamanhoDoNossoNumero = 10;
+				break;
+
+			case BANCO_RURAL:
+				tamanhoDoNossoNumero = 7;
+				agencia = 123;
+				break;
+
+			case BANCO_SICREDI:
+				tamanhoDoNossoNumero = 8;
+				parametros = new ParametrosBancariosMap("PostoDaAgencia", 1);
+				break;
+
+			default:
+				break;
+		}
+
+		final ContaBancaria conta = new ContaBancaria(banco.create());
+
+		conta.setAgencia(new Agencia(agencia, "1"));
+		conta.setNumeroDaConta(new NumeroDaConta(12345, "0"));
+		conta.setCarteira(new Carteira(carteira, TipoDeCobranca.COM_REGISTRO));
+		conta.setModalidade(new Modalidade(1));
+
+		final Endereco endereco = new Endereco();
+
+		endereco.setUF(UnidadeFederativa.DF);
+		endereco.setLocalidade("Brasília");
+		endereco.setCep(new CEP("70000-000"));
+		endereco.setBairro("Centro");
+		endereco.setLogradouro("Rua");
+		endereco.setNumero("1");
+
+		final Sacado sacado = new Sacado("Sacado", "222.222.222-22");
+
+		sacado.addEndereco(endereco);
+
+		final Titulo titulo = new Titulo(conta, sacado, new Cedente("Cedente", "00.000.208/0001-00"));
+
+		titulo.setNumeroDoDocumento("1");
+		titulo.setNossoNumero(prefixoDoNossoNumero
+				+ "12345678901234567".substring(0, tamanhoDoNossoNumero - prefixoDoNossoNumero.length()));
+		titulo.setDigitoDoNossoNumero("1");
+		titulo.setValorEmCentavos(10000);
+		titulo.setDataDoDocumentoLocalDate(LocalDate.of(2020, 1, 1));
+		titulo.setDataDoVencimentoLocalDate(LocalDate.of(2020, 2, 1));
+		titulo.setTipoDeDocumento(TipoDeTitulo.DM_DUPLICATA_MERCANTIL);
+		titulo.setAceite(Titulo.EnumAceite.N);
+		titulo.setParametrosBancarios(parametros);
+
+		return titulo;
+	}
+
+	/**
+	 * <p>
+	 * Opções do {@linkplain Bopepo#warmUp(WarmUpOptions) aquecimento}. Por
+	 * padrão os recursos são carregados, todos os bancos suportados são
+	 * aquecidos e nenhum laço de compilação é executado.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class WarmUpOptions {
+
+		private boolean carregarRecursos = true;
+
+		private int boletosPorBanco;
+
+		private int pdfsPorBanco;
+
+		private Set<BancosSuportados> bancos = EnumSet.allOf(BancosSuportados.class);
+
+		public boolean isCarregarRecursos() {
+
+			return carregarRecursos;
+		}
+
+		/**
+		 * <p>
+		 * Define se os templates padrão e as logos dos bancos são carregados.
+		 * Desnecessário quando só templates externos e logos próprias são
+		 * usados.
+		 * </p>
+		 * 
+		 * @param carregarRecursos
+		 * @return estas opções
+		 */
+		public WarmUpOptions setCarregarRecursos(boolean carregarRecursos) {
+
+			this.carregarRecursos = carregarRecursos;
+
+			return this;
+		}
+
+		public int getBoletosPorBanco() {
+
+			return boletosPorBanco;
+		}
+
+		/**
+		 * <p>
+		 * Quantidade de boletos de exemplo gerados por banco para que o JIT
+		 * compile o campo livre, o código de barras e a linha digitável.
+		 * Alguns milhares bastam.
+		 * </p>
+		 * 
+		 * @param boletosPorBanco
+		 * @return estas opções
+		 */
+		public WarmUpOptions setBoletosPorBanco(int boletosPorBanco) {
+
+			checkQuantidade(boletosPorBanco);
+
+			this.boletosPorBanco = boletosPorBanco;
+
+			return this;
+		}
+
+		public int getPdfsPorBanco() {
+
+			return pdfsPorBanco;
+		}
+
+		/**
+		 * <p>
+		 * Quantidade de PDFs de exemplo gerados por banco, para aquecer também
+		 * o preenchimento do template. Cada PDF custa alguns milissegundos.
+		 * </p>
+		 * 
+		 * @param pdfsPorBanco
+		 * @return estas opções
+		 */
+		public WarmUpOptions setPdfsPorBanco(int pdfsPorBanco) {
+
+			checkQuantidade(pdfsPorBanco);
+
+			this.pdfsPorBanco = pdfsPorBanco;
+
+			return this;
+		}
+
+		public Set<BancosSuportados> getBancos() {
+
+			return Collections.unmodifiableSet(bancos);
+		}
+
+		/**
+		 * <p>
+		 * Restringe o aquecimento aos bancos com que a aplicação trabalha.
+		 * </p>
+		 * 
+		 * @param bancos
+		 * @return estas opções
+		 */
+		public WarmUpOptions setBancos(BancosSuportados... bancos) {
+
+			Objects.checkNotNull(bancos, "Bancos nulos!");
+
+			this.bancos = EnumSet.noneOf(BancosSuportados.class);
+			this.bancos.addAll(Arrays.asList(bancos));
+
+			return this;
+		}
+
+		private static void checkQuantidade(int quantidade) {
+
+			if (quantidade < 0) {
+
+				throw new IllegalArgumentException(format("Quantidade negativa [%d]!", quantidade));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Resultado de um {@linkplain Bopepo#warmUp(WarmUpOptions) aquecimento}.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class WarmUpReport {
+
+		private final Duration duracaoDosRecursos;
+
+		private final Duration duracaoDaGeracao;
+
+		private final Set<BancosSuportados> bancosAquecidos;
+
+		private final Map<BancosSuportados, RuntimeException> falhas;
+
+		private WarmUpReport(Duration duracaoDosRecursos, Duration duracaoDaGeracao,
+				Set<BancosSuportados> bancosAquecidos, Map<BancosSuportados, RuntimeException> falhas) {
+
+			this.duracaoDosRecursos = duracaoDosRecursos;
+			this.duracaoDaGeracao = duracaoDaGeracao;
+			this.bancosAquecidos = Collections.unmodifiableSet(bancosAquecidos);
+			this.falhas = Collections.unmodifiableMap(falhas);
+		}
+
+		/**
+		 * @return duração total do aquecimento
+		 */
+		public Duration getDuracao() {
+
+			return duracaoDosRecursos.plus(duracaoDaGeracao);
+		}
+
+		/**
+		 * @return tempo gasto com templates, logos e o boleto de exemplo de
+		 *         cada banco
+		 */
+		public Duration getDuracaoDosRecursos() {
+
+			return duracaoDosRecursos;
+		}
+
+		/**
+		 * @return tempo gasto no laço de boletos e PDFs de exemplo
+		 */
+		public Duration getDuracaoDaGeracao() {
+
+			return duracaoDaGeracao;
+		}
+
+		public Set<BancosSuportados> getBancosAquecidos() {
+
+			return bancosAquecidos;
+		}
+
+		/**
+		 * @return bancos cujo exemplo falhou e a exceção correspondente
+		 */
+		public Map<BancosSuportados, RuntimeException> getFalhas() {
+
+			return falhas;
+		}
+
+		@Override
+		public String toString() {
+
+			return format("Aquecimento em %d ms (recursos: %d ms, geração: %d ms), %d bancos aquecidos, %d falhas",
+					getDuracao().toMillis(), duracaoDosRecursos.toMillis(), duracaoDaGeracao.toMillis(),
+					bancosAquecidos.size(), falhas.size());
+		}
+	}
+}
@@ -30,7 +30,6 @@
 
 package org.jrimum.bopepo;
 
-import java.math.BigDecimal;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -119,6 +118,12 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 	 * 
 	 */
 	private static final long serialVersionUID = 748913164143978133L;
+
+	/**
+	 * Maior valor que cabe no campo de valor do código de barras (10 dígitos),
+	 * em centavos.
+	 */
+	private static final long VALOR_MAXIMO_EM_CENTAVOS = 9999999999L;
 	
 	private static Logger log = Logger.getLogger(CodigoDeBarras.class);
 	
@@ -168,9 +173,9 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 	private Field<Integer> fatorDeVencimento;
 	
 	/**
-	 * Valor do título.
+	 * Valor do título, em centavos.
 	 */
-	private Field<BigDecimal> valorNominalDoTitulo;
+	private Field<Long> valorNominalDoTitulo;
 	
 	/**
 	 * @see org.jrimum.bopepo.campolivre.CampoLivre
@@ -202,7 +207,7 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 		codigoDaMoeda = new Field<Integer>(0, 1, Filler.ZERO_LEFT);
 		digitoVerificadorGeral = new Field<Integer>(0, 1, Filler.ZERO_LEFT);
 		fatorDeVencimento = new Field<Integer>(0, 4, Filler.ZERO_LEFT);
-		valorNominalDoTitulo = new Field<BigDecimal>(new BigDecimal(0), 10, Filler.ZERO_LEFT);
+		valorNominalDoTitulo = new Field<Long>(0L, 10, Filler.ZERO_LEFT);
 		this.campoLivre = new Field<String>(StringUtils.EMPTY, 25);
 		
 		add(codigoDoBanco);
@@ -219,9 +224,9 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 		
 		//Was here DigitoVerificador 
 		//But wait
-		this.calculateAndSetFatorDeVencimento(titulo.getDataDoVencimento());
+		this.calculateAndSetFatorDeVencimento(titulo.getDataDoVencimentoEmDias());
 		
-		this.valorNominalDoTitulo.setValue(titulo.getValor().movePointRight(2));
+		this.valorNominalDoTitulo.setValue(getValorEmCentavos(titulo));
 		this.campoLivre.setValue(campoLivre.write());
 		
 		//Now you can
@@ -233,6 +238,35 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 
 	
 	
+	/**
+	 * <p>
+	 * Valor do título em centavos, verificado contra o campo de 10 dígitos do
+	 * código de barras (no máximo R$ 99.999.999,99).
+	 * </p>
+	 * 
+	 * @param titulo
+	 * @return valor em centavos
+	 * @throws CodigoDeBarrasException
+	 *             se o valor for negativo ou não couber no campo
+	 * 
+	 * @since 0.2
+	 */
+	private static long getValorEmCentavos(Titulo titulo) {
+
+		long centavos = titulo.getValorEmCentavos();
+
+		if (centavos == Titulo.SEM_VALOR) {
+			throw new CodigoDeBarrasException("Valor do título não informado!");
+		}
+
+		if (centavos < 0 || centavos > VALOR_MAXIMO_EM_CENTAVOS) {
+			throw new CodigoDeBarrasException("Valor do título fora do intervalo do código de barras (0 a "
+					+ VALOR_MAXIMO_EM_CENTAVOS + " centavos): " + centavos);
+		}
+
+		return centavos;
+	}
+
 	private void calculateAndSetDigitoVerificadorGeral() {
 		
 		if (log.isTraceEnabled())
@@ -279,11 +313,12 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 	 * </p>
 	 * 
 	 * @param vencimento
+	 *            dia do vencimento desde 01/01/1970
 	 */
-	private void calculateAndSetFatorDeVencimento(Date vencimento) {
+	private void calculateAndSetFatorDeVencimento(long vencimento) {
 
 		fatorDeVencimento.setValue(
-				FatorDeVencimento.toFator(vencimento));
+				FatorDeVencimento.toFatorDoDia(vencimento));
 	}
 
 	/**
@@ -345,14 +380,14 @@ public final class CodigoDeBarras extends AbstractLineOfFields{
 	/**
 	 * @return the valorNominalDoTitulo
 	 */
-	Field<BigDecimal> getValorNominalDoTitulo() {
+	Field<Long> getValorNominalDoTitulo() {
 		return valorNominalDoTitulo;
 	}
 
 	/**
 	 * @param valorNominalDoTitulo the valorNominalDoTitulo to set
 	 */
-	void setValorNominalDoTitulo(Field<BigDecimal> valorNominalDoTitulo) {
+	void setValorNominalDoTitulo(Field<Long> valorNominalDoTitulo) {
 		this.valorNominalDoTitulo = valorNominalDoTitulo;
 	}
 
@@ -0,0 +1,377 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 09:15:47
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 09:15:47
+ * 
+ */
+
+
+package org.jrimum.bopepo;
+
+import static org.jrimum.bopepo.BoletoUtil.checkFormatoCodigoDeBarras;
+
+import java.io.Serializable;
+
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Código de barras compactado: os 44 dígitos em BCD (dois dígitos por byte),
+ * guardados em dois <code>long</code>, um <code>int</code> e um
+ * <code>short</code> &mdash; 22 bytes de dados, contra mais de 100 bytes de uma
+ * <code>String</code> de 44 caracteres.
+ * </p>
+ * 
+ * <p>
+ * É imutável e próprio para chave de mapas e caches: <code>equals</code> e
+ * <code>hashCode</code> comparam quatro números em vez de 44 caracteres. A
+ * ordem natural é a mesma da ordem alfabética do código em texto.
+ * </p>
+ * 
+ * <p>
+ * O formato binário ({@link #writeTo(byte[], int)} e
+ * {@link #readFrom(byte[], int)}) tem sempre 22 bytes, com os dígitos na
+ * ordem em que aparecem no código.
+ * </p>
+ * 
+ * @see CodigoDeBarras
+ * @see BoletoUtil#codigoDeBarrasEmLinhaDigitavelFormatada(String)
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class CodigoDeBarrasValue implements Comparable<CodigoDeBarrasValue>, Serializable {
+
+	private static final long serialVersionUID = 5873320117650246651L;
+
+	/**
+	 * Tamanho do código no formato binário.
+	 */
+	public static final int TAMANHO_EM_BYTES = 22;
+
+	private static final int TAMANHO_DO_CODIGO = 44;
+
+	/*
+	 * Dígitos 0 a 15, 16 a 31, 32 a 39 e 40 a 43, um por nibble, o primeiro
+	 * no nibble mais significativo.
+	 */
+	private final long digitos0a15;
+	private final long digitos16a31;
+	private final int digitos32a39;
+	private final short digitos40a43;
+
+	private CodigoDeBarrasValue(long digitos0a15, long digitos16a31, int digitos32a39, short digitos40a43) {
+
+		this.digitos0a15 = digitos0a15;
+		this.digitos16a31 = digitos16a31;
+		this.digitos32a39 = digitos32a39;
+		this.digitos40a43 = digitos40a43;
+	}
+
+	/**
+	 * <p>
+	 * Compacta o código de barras em texto (44 dígitos).
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 * @return código compactado
+	 * @throws IllegalArgumentException
+	 *             quando a string é nula ou vazia
+	 * @throws CodigoDeBarrasException
+	 *             quando a string não tem 44 dígitos
+	 * 
+	 * @since 0.2
+	 */
+	public static CodigoDeBarrasValue valueOf(String codigoDeBarras) {
+
+		checkFormatoCodigoDeBarras(codigoDeBarras);
+
+		return new CodigoDeBarrasValue(
+				compactar(codigoDeBarras, 0, 16),
+				compactar(codigoDeBarras, 16, 32),
+				(int) compactar(codigoDeBarras, 32, 40),
+				(short) compactar(codigoDeBarras, 40, 44));
+	}
+
+	/**
+	 * <p>
+	 * Compacta o código de barras de um boleto.
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 * @return código compactado
+	 * 
+	 * @since 0.2
+	 */
+	public static CodigoDeBarrasValue valueOf(CodigoDeBarras codigoDeBarras) {
+
+		Objects.checkNotNull(codigoDeBarras, "Código de barras nulo!");
+
+		return valueOf(codigoDeBarras.write());
+	}
+
+	/**
+	 * <p>
+	 * Obtém o código de barras a partir da linha digitável, formatada
+	 * (<tt>ddddd.ddddd ddddd.dddddd ddddd.dddddd d dddddddddddddd</tt>) ou
+	 * só com os 47 dígitos.
+	 * </p>
+	 * 
+	 * @param linhaDigitavel
+	 * @return código compactado
+	 * @throws LinhaDigitavelException
+	 *             quando a linha não está em nenhum dos dois formatos
+	 * 
+	 * @since 0.2
+	 */
+	public static CodigoDeBarrasValue fromLinhaDigitavel(String linhaDigitavel) {
+
+		if (BoletoUtil.isLinhaDigitavelNumericaValida(linhaDigitavel)) {
+
+			return valueOf(BoletoUtil.linhaDigitavelNumericaEmCodigoDeBarras(linhaDigitavel));
+		}
+
+		return valueOf(BoletoUtil.linhaDigitavelFormatadaEmCodigoDeBarras(linhaDigitavel));
+	}
+
+	/**
+	 * <p>
+	 * Lê o código a partir do formato binário de 22 bytes.
+	 * </p>
+	 * 
+	 * @param origem
+	 * @param inicio
+	 *            - Posição do primeiro byte
+	 * @return código compactado
+	 * @throws IllegalArgumentException
+	 *             se algum nibble não for um dígito
+	 * 
+	 * @since 0.2
+	 */
+	public static CodigoDeBarrasValue readFrom(byte[] origem, int inicio) {
+
+		Objects.checkNotNull(origem, "Origem nula!");
+
+		return new CodigoDeBarrasValue(
+				ler(origem, inicio, 8),
+				ler(origem, inicio + 8, 8),
+				(int) ler(origem, inicio + 16, 4),
+				(short) ler(origem, inicio + 20, 2));
+	}
+
+	/**
+	 * <p>
+	 * Escreve os 22 bytes do código em <code>destino</code>.
+	 * </p>
+	 * 
+	 * @param destino
+	 * @param inicio
+	 *            - Posição do primeiro byte
+	 * 
+	 * @since 0.2
+	 */
+	public void writeTo(byte[] destino, int inicio) {
+
+		Objects.checkNotNull(destino, "Destino nulo!");
+
+		escrever(digitos0a15, destino, inicio, 8);
+		escrever(digitos16a31, destino, inicio + 8, 8);
+		escrever(digitos32a39 & 0xFFFFFFFFL, destino, inicio + 16, 4);
+		escrever(digitos40a43 & 0xFFFFL, destino, inicio + 20, 2);
+	}
+
+	/**
+	 * @return os 22 bytes do código
+	 * 
+	 * @since 0.2
+	 */
+	public byte[] toBytes() {
+
+		byte[] bytes = new byte[TAMANHO_EM_BYTES];
+
+		writeTo(bytes, 0);
+
+		return bytes;
+	}
+
+	/**
+	 * <p>
+	 * Dígito na posição informada (0 a 43).
+	 * </p>
+	 * 
+	 * @param posicao
+	 * @return dígito
+	 * 
+	 * @since 0.2
+	 */
+	public int getDigito(int posicao) {
+
+		if (posicao < 0 || posicao >= TAMANHO_DO_CODIGO) {
+			throw new IndexOutOfBoundsException("Posição fora do código de barras: " + posicao);
+		}
+
+		if (posicao < 16) {
+			return nibble(digitos0a15, 15 - posicao);
+		}
+
+		if (posicao < 32) {
+			return nibble(digitos16a31, 31 - posicao);
+		}
+
+		if (posicao < 40) {
+			return nibble(digitos32a39, 39 - posicao);
+		}
+
+		return nibble(digitos40a43, 43 - posicao);
+	}
+
+	/**
+	 * @return linha digitável no formato FEBRABAN
+	 * 
+	 * @since 0.2
+	 */
+	public String getLinhaDigitavelFormatada() {
+
+		return BoletoUtil.codigoDeBarrasEmLinhaDigitavelFormatada(toString());
+	}
+
+	/**
+	 * @return linha digitável só com os 47 dígitos
+	 * 
+	 * @since 0.2
+	 */
+	public String getLinhaDigitavelNumerica() {
+
+		return BoletoUtil.codigoDeBarrasEmLinhaDigitavelNumerica(toString());
+	}
+
+	public int compareTo(CodigoDeBarrasValue outro) {
+
+		// Com todos os nibbles entre 0 e 9, a comparação sem sinal dos números
+		// é a comparação dos dígitos.
+		int c = Long.compareUnsigned(digitos0a15, outro.digitos0a15);
+
+		if (c == 0) {
+			c = Long.compareUnsigned(digitos16a31, outro.digitos16a31);
+		}
+
+		if (c == 0) {
+			c = Integer.compareUnsigned(digitos32a39, outro.digitos32a39);
+		}
+
+		if (c == 0) {
+			c = Integer.compare(digitos40a43 & 0xFFFF, outro.digitos40a43 & 0xFFFF);
+		}
+
+		return c;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CodigoDeBarrasValue)) {
+			return false;
+		}
+
+		CodigoDeBarrasValue outro = (CodigoDeBarrasValue) obj;
+
+		return digitos0a15 == outro.digitos0a15 && digitos16a31 == outro.digitos16a31
+				&& digitos32a39 == outro.digitos32a39 && digitos40a43 == outro.digitos40a43;
+	}
+
+	@Override
+	public int hashCode() {
+
+		long h = digitos0a15 * 31 + digitos16a31;
+		h = h * 31 + digitos32a39;
+		h = h * 31 + digitos40a43;
+
+		return (int) (h ^ (h >>> 32));
+	}
+
+	/**
+	 * @return os 44 dígitos do código de barras
+	 */
+	@Override
+	public String toString() {
+
+		char[] codigo = new char[TAMANHO_DO_CODIGO];
+
+		for (int i = 0; i < codigo.length; i++) {
+			codigo[i] = (char) ('0' + getDigito(i));
+		}
+
+		return new String(codigo);
+	}
+
+	private static long compactar(String codigo, int de, int ate) {
+
+		long valor = 0;
+
+		for (int i = de; i < ate; i++) {
+			valor = (valor << 4) | (codigo.charAt(i) - '0');
+		}
+
+		return valor;
+	}
+
+	private static long ler(byte[] origem, int inicio, int bytes) {
+
+		long valor = 0;
+
+		for (int i = 0; i < bytes; i++) {
+
+			int b = origem[inicio + i] & 0xFF;
+
+			if ((b >>> 4) > 9 || (b & 0xF) > 9) {
+				throw new IllegalArgumentException("Byte " + (inicio + i) + " não é BCD: " + Integer.toHexString(b));
+			}
+
+			valor = (valor << 8) | b;
+		}
+
+		return valor;
+	}
+
+	private static void escrever(long valor, byte[] destino, int inicio, int bytes) {
+
+		for (int i = bytes - 1; i >= 0; i--) {
+
+			destino[inicio + i] = (byte) valor;
+			valor >>>= 8;
+		}
+	}
+
+	private static int nibble(long valor, int indice) {
+
+		return (int) (valor >>> (4 * indice)) & 0xF;
+	}
+}
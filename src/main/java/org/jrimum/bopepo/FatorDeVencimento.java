@@ -33,11 +33,10 @@ import static java.lang.String.format;
 import static org.jrimum.utilix.Objects.isNull;
 import static org.jrimum.utilix.text.DateFormat.DDMMYYYY_B;
 
-import java.util.Calendar;
+import java.time.LocalDate;
 import java.util.Date;
-import java.util.GregorianCalendar;
 
-import org.apache.commons.lang.time.DateUtils;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 import org.jrimum.utilix.Dates;
 
 /**
@@ -69,23 +68,29 @@ public class FatorDeVencimento{
 	 * FEBRABAN.
 	 * </p>
 	 */
-	private static final Calendar BASE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(1997, Calendar.OCTOBER, 7);
-	
+	private static final LocalDate DATA_BASE_DO_FATOR_DE_VENCIMENTO = LocalDate.of(1997, 10, 7);
+
+	/**
+	 *<p>
+	 * Data máxima alcançada pelo fator de vencimento com base fixada em
+	 * 07/10/1997.
+	 * </p>
+	 */
+	private static final LocalDate DATA_LIMITE_DO_FATOR_DE_VENCIMENTO = LocalDate.of(2025, 2, 21);
+
 	/**
 	 * <p>
-	 * Data base para o cálculo do fator de vencimento fixada em 07/10/1997 pela
-	 * FEBRABAN.
+	 * Data base em dias a partir de 01/01/1970 (<em>epoch day</em>).
 	 * </p>
 	 */
-	private static final Date DATA_BASE_DO_FATOR_DE_VENCIMENTO = BASE_DO_FATOR_DE_VENCIMENTO.getTime();
+	private static final long DIA_BASE_DO_FATOR_DE_VENCIMENTO = DATA_BASE_DO_FATOR_DE_VENCIMENTO.toEpochDay();
 
 	/**
-	 *<p>
-	 * Data máxima alcançada pelo fator de vencimento com base fixada em
-	 * 07/10/1997.
+	 * <p>
+	 * Data limite em dias a partir de 01/01/1970 (<em>epoch day</em>).
 	 * </p>
 	 */
-	private static final Date DATA_LIMITE_DO_FATOR_DE_VENCIMENTO = new GregorianCalendar(2025, Calendar.FEBRUARY, 21).getTime();
+	private static final long DIA_LIMITE_DO_FATOR_DE_VENCIMENTO = DATA_LIMITE_DO_FATOR_DE_VENCIMENTO.toEpochDay();
 
 	/**
 	 * <p>
@@ -144,12 +149,57 @@ public class FatorDeVencimento{
 			
 		} else {
 			
-			Date dataTruncada = DateUtils.truncate(data, Calendar.DATE);
-			
-			checkIntervalo(dataTruncada);
-				
-			return (int) Dates.calculeDiferencaEmDias(DATA_BASE_DO_FATOR_DE_VENCIMENTO, dataTruncada);
+			return toFatorDoDia(Dates.toDia(data));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Calcula o fator de vencimento como em {@link #toFator(Date)}.
+	 * </p>
+	 * 
+	 * @param data
+	 *            data de vencimento de um título
+	 * @return fator de vencimento calculado
+	 * @throws IllegalArgumentException
+	 * 
+	 * @since 0.2
+	 */
+	public static int toFator(LocalDate data) throws IllegalArgumentException {
+
+		if (isNull(data)) {
+
+			throw new IllegalArgumentException("Impossível realizar o cálculo do fator de vencimento de uma data nula!");
+		}
+
+		return toFatorDoDia(data.toEpochDay());
+	}
+
+	/**
+	 * <p>
+	 * Calcula o fator de vencimento como em {@link #toFator(Date)} a partir
+	 * do dia de vencimento contado desde 01/01/1970 (<em>epoch day</em>),
+	 * como em {@link Titulo#getDataDoVencimentoEmDias()}. Apenas aritmética
+	 * sobre o dia: não cria objetos nem depende de fuso horário.
+	 * </p>
+	 * 
+	 * @param dia
+	 *            dia de vencimento de um título ou {@link Titulo#SEM_DATA}
+	 * @return fator de vencimento calculado
+	 * @throws IllegalArgumentException
+	 * 
+	 * @since 0.2
+	 */
+	public static int toFatorDoDia(long dia) throws IllegalArgumentException {
+
+		if (dia == Titulo.SEM_DATA) {
+
+			throw new IllegalArgumentException("Impossível realizar o cálculo do fator de vencimento de uma data nula!");
 		}
+
+		checkIntervaloDoDia(dia);
+
+		return (int) (dia - DIA_BASE_DO_FATOR_DE_VENCIMENTO);
 	}
 	
 	/**
@@ -166,35 +216,68 @@ public class FatorDeVencimento{
 	 */
 	public static Date toDate(int fator) throws IllegalArgumentException {
 		
+		return Dates.toDate(toDia(fator));
+	}
+
+	/**
+	 * <p>
+	 * Transforma um fator de vencimento em data local da forma inversa
+	 * descrita em {@link #toFator(Date)}.
+	 * </p>
+	 * 
+	 * @param fator
+	 *            - Número entre o intervalo (incluíndo) 0 e 9999
+	 * @return Data do vencimento
+	 * @throws IllegalArgumentException
+	 *             Caso o {@code fator} < 0 ou {@code fator} > 9999
+	 * 
+	 * @since 0.2
+	 */
+	public static LocalDate toLocalDate(int fator) throws IllegalArgumentException {
+
+		return LocalDate.ofEpochDay(toDia(fator));
+	}
+
+	/**
+	 * <p>
+	 * Transforma um fator de vencimento no dia do vencimento contado desde
+	 * 01/01/1970 (<em>epoch day</em>).
+	 * </p>
+	 * 
+	 * @param fator
+	 *            - Número entre o intervalo (incluíndo) 0 e 9999
+	 * @return Dia do vencimento
+	 * @throws IllegalArgumentException
+	 *             Caso o {@code fator} < 0 ou {@code fator} > 9999
+	 * 
+	 * @since 0.2
+	 */
+	public static long toDia(int fator) throws IllegalArgumentException {
+
 		checkIntervalo(fator);
-		
-		Calendar date = (Calendar) BASE_DO_FATOR_DE_VENCIMENTO.clone();
-		
-		date.add(Calendar.DAY_OF_YEAR, fator);
-		
-		return  DateUtils.truncate(date.getTime(), Calendar.DATE);
+
+		return DIA_BASE_DO_FATOR_DE_VENCIMENTO + fator;
 	}
 
 	/**
 	 * <p>
-	 * Lança exceção caso a {@code dataVencimentoTruncada} esteja fora do
+	 * Lança exceção caso o {@code diaDoVencimento} esteja fora do
 	 * intervalo entre a {@link #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
 	 * {@link #DATA_LIMITE_DO_FATOR_DE_VENCIMENTO}.
 	 * </p>
 	 * 
-	 * @param dataVencimentoTruncada
-	 *            data de vencimento truncada com {@code
-	 *            DateUtils.truncate(date, Calendar.DATE)}
+	 * @param diaDoVencimento
+	 *            dia de vencimento contado desde 01/01/1970
 	 * @throws IllegalArgumentException
-	 *             Caso a data esteja {@code dataVencimentoTruncada} esteja fora
+	 *             Caso o {@code diaDoVencimento} esteja fora
 	 *             do intervalo entre a
 	 *             {@link #DATA_BASE_DO_FATOR_DE_VENCIMENTO} e a
 	 *             {@link #DATA_LIMITE_DO_FATOR_DE_VENCIMENTO}
 	 */
-	private static void checkIntervalo(Date dataVencimentoTruncada) throws IllegalArgumentException {
+	private static void checkIntervaloDoDia(long diaDoVencimento) throws IllegalArgumentException {
 		
-		if(dataVencimentoTruncada.before(DATA_BASE_DO_FATOR_DE_VENCIMENTO)
-				|| dataVencimentoTruncada.after(DATA_LIMITE_DO_FATOR_DE_VENCIMENTO)) {
+		if(diaDoVencimento < DIA_BASE_DO_FATOR_DE_VENCIMENTO
+				|| diaDoVencimento > DIA_LIMITE_DO_FATOR_DE_VENCIMENTO) {
 			
 			throw new IllegalArgumentException(
 					format("Para o cálculo do fator de vencimento se faz necessário informar uma data entre %s e %s.",
@@ -30,7 +30,9 @@
 
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
 
 /**
  * <p>
@@ -94,4 +96,25 @@ abstract class AbstractCLBancoDoBrasil extends AbstractCampoLivre {
 				);
 		}
 	}
+
+	/**
+	 * <p>
+	 * Só o convênio de 7 posições com nosso número de 17 é preparado; os
+	 * títulos com nosso número de outro tamanho seguem pelo
+	 * {@link #create(Titulo)}.
+	 * </p>
+	 * 
+	 * @see AbstractCampoLivre#prepare(ContaBancaria, org.jrimum.bopepo.BancosSuportados)
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getNumeroDaConta())
+				|| Objects.isNull(conta.getNumeroDaConta().getCodigoDaConta())
+				|| conta.getNumeroDaConta().getCodigoDaConta() < 1000000) {
+
+			return null;
+		}
+
+		return CLBancoDoBrasilNN17Convenio7.prepare(conta);
+	}
 }
@@ -30,6 +30,7 @@
 
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 
 /**
@@ -76,4 +77,12 @@ abstract class AbstractCLBradesco extends AbstractCampoLivre {
 		
 		return new CLBradesco().build(titulo);
 	}
+
+	/**
+	 * @see AbstractCampoLivre#prepare(ContaBancaria, org.jrimum.bopepo.BancosSuportados)
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		return CLBradesco.prepare(conta);
+	}
 }
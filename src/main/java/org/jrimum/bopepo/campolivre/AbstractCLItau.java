@@ -35,7 +35,9 @@ import static org.jrimum.vallia.digitoverificador.Modulo.MOD10;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
 import org.jrimum.vallia.digitoverificador.Modulo;
 
 /**
@@ -93,6 +95,24 @@ abstract class AbstractCLItau extends AbstractCampoLivre {
 	/**
 	 * {@inheritDoc}
 	 */
+	/**
+	 * <p>
+	 * Só as carteiras padrão são preparadas; as especiais seguem pelo
+	 * {@link #create(Titulo)}.
+	 * </p>
+	 * 
+	 * @see AbstractCampoLivre#prepare(ContaBancaria, org.jrimum.bopepo.BancosSuportados)
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getCarteira()) || CARTEIRAS_ESPECIAIS.contains(conta.getCarteira().getCodigo())) {
+
+			return null;
+		}
+
+		return CLItauPadrao.prepare(conta);
+	}
+
 	protected static CampoLivre create(Titulo titulo){
 		
 		checkCarteiraNotNull(titulo);
@@ -126,7 +146,7 @@ abstract class AbstractCLItau extends AbstractCampoLivre {
 	 * 
 	 * @since 
 	 */
-	protected Integer calculeDigitoVerificador(String campo) {
+	protected static Integer calculeDigitoVerificador(String campo) {
 				
 		int restoDivisao = Modulo.calculeMod10(campo, 1, 2);
 		int digito = MOD10 - restoDivisao;
@@ -1,5 +1,6 @@
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 
 /**
@@ -40,4 +41,12 @@ abstract class AbstractCLSantander extends AbstractCampoLivre {
 		
 		return new CLBancoSantander(titulo);
 	}
+
+	/**
+	 * @see AbstractCampoLivre#prepare(ContaBancaria, org.jrimum.bopepo.BancosSuportados)
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		return CLBancoSantander.prepare(conta);
+	}
 }
@@ -30,15 +30,16 @@
 package org.jrimum.bopepo.campolivre;
 
 import static java.lang.String.format;
-import static java.math.BigDecimal.ZERO;
 import static org.jrimum.domkee.financeiro.banco.febraban.Banco.isCodigoDeCompensacaoOK;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.log4j.Logger;
 import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.text.AbstractLineOfFields;
+import org.jrimum.utilix.text.Centavos;
 import org.jrimum.utilix.text.Field;
 import org.jrimum.utilix.text.Strings;
 
@@ -187,78 +188,7 @@ abstract class AbstractCampoLivre extends AbstractLineOfFields implements CampoL
 
 				final BancosSuportados banco = BancosSuportados.suportados.get( titulo.getContaBancaria().getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado());
 
-				switch (banco) {
-
-					case BANCO_BRADESCO:
-						return AbstractCLBradesco.create(titulo);
-					
-					case BANCO_DO_BRASIL:
-						return AbstractCLBancoDoBrasil.create(titulo);
-	
-					case BANCO_DO_NORDESTE_DO_BRASIL:
-						return AbstractCLBancoDoNordesteDoBrasil.create(titulo);
-	
-					case BANCO_ABN_AMRO_REAL:
-						return AbstractCLBancoReal.create(titulo);
-	
-					case CAIXA_ECONOMICA_FEDERAL:
-						return AbstractCLCaixaEconomicaFederal.create(titulo);
-	
-					case HSBC:
-						return AbstractCLHSBC.create(titulo);
-						
-					case UNIBANCO:
-						return AbstractCLUnibanco.create(titulo);
-	
-					case BANCO_ITAU:
-						return AbstractCLItau.create(titulo);
-	
-					case BANCO_SAFRA:
-						return AbstractCLBancoSafra.create(titulo);
-	
-					case BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL:
-						return AbstractCLBanrisul.create(titulo);
-						
-					case MERCANTIL_DO_BRASIL:
-						return AbstractCLMercantilDoBrasil.create(titulo);
-						
-					case NOSSA_CAIXA:
-						return AbstractCLNossaCaixa.create(titulo);
-					
-					case BANCO_DO_ESTADO_DO_ESPIRITO_SANTO:
-						return AbstractCLBanestes.create(titulo);
-						
-					case BANCO_RURAL:
-						return AbstractCLBancoRural.create(titulo);
-						
-					case BANCO_SANTANDER:
-						return AbstractCLSantander.create(titulo);
-						
-					case BANCO_INTEMEDIUM:
-						return AbstractCLBancoIntermedium.create(titulo);
-						
-					case BANCO_SICREDI:
-						return AbstractCLSicredi.create(titulo);
-
-					case BANCOOB:
-						return AbstractCLBancoob.create(titulo);
-						
-					default:
-						/*
-						 * Se chegar neste ponto e nenhum campo livre foi definido, então é
-						 * sinal de que existe implementações de campo livre para o banco em
-						 * questão, só que nenhuma destas implementações serviu e a classe
-						 * abstrata responsável por fornecer o campo livre não gerou a
-						 * exceção NotSupportedCampoLivreException. Trata-se de uma mensagem
-						 * genérica que será utilizada somente em último caso.
-						 */
-						throw new NotSupportedCampoLivreException(
-								"Não há implementações de campo livre para o banco "
-										+ titulo.getContaBancaria().getBanco()
-												.getCodigoDeCompensacaoBACEN().getCodigoFormatado()
-										+ " compatíveis com as "
-										+ "caracteríticas do título informado.");
-				}
+				return create(titulo, banco);
 			} else {
 				
 				/*
@@ -283,6 +213,167 @@ abstract class AbstractCampoLivre extends AbstractLineOfFields implements CampoL
 		}
 	}
 	
+	/**
+	 * <p>
+	 * Cria o campo livre do título para um banco já conhecido, sem verificar
+	 * de novo o título, a conta e o banco nem consultar os bancos suportados.
+	 * Usado quando muitos títulos da mesma conta são processados de uma vez.
+	 * </p>
+	 * 
+	 * @param titulo
+	 *            com todos os dados para a geração do campo livre
+	 * @param banco
+	 *            banco da conta bancária do título
+	 * @return instância de campo livre
+	 * @throws NotSupportedCampoLivreException
+	 *             Caso nenhuma das implementações de campo livre do banco seja
+	 *             adequada para os dados do título.
+	 * @throws CampoLivreException
+	 *             Caso ocorra algum problema na geração do campo livre.
+	 * 
+	 * @since 0.2
+	 */
+	protected static CampoLivre create(Titulo titulo, BancosSuportados banco) throws NotSupportedCampoLivreException,
+			CampoLivreException {
+
+		try {
+
+			switch (banco) {
+
+				case BANCO_BRADESCO:
+					return AbstractCLBradesco.create(titulo);
+				
+				case BANCO_DO_BRASIL:
+					return AbstractCLBancoDoBrasil.create(titulo);
+
+				case BANCO_DO_NORDESTE_DO_BRASIL:
+					return AbstractCLBancoDoNordesteDoBrasil.create(titulo);
+
+				case BANCO_ABN_AMRO_REAL:
+					return AbstractCLBancoReal.create(titulo);
+
+				case CAIXA_ECONOMICA_FEDERAL:
+					return AbstractCLCaixaEconomicaFederal.create(titulo);
+
+				case HSBC:
+					return AbstractCLHSBC.create(titulo);
+					
+				case UNIBANCO:
+					return AbstractCLUnibanco.create(titulo);
+
+				case BANCO_ITAU:
+					return AbstractCLItau.create(titulo);
+
+				case BANCO_SAFRA:
+					return AbstractCLBancoSafra.create(titulo);
+
+				case BANCO_DO_ESTADO_DO_RIO_GRANDE_DO_SUL:
+					return AbstractCLBanrisul.create(titulo);
+					
+				case MERCANTIL_DO_BRASIL:
+					return AbstractCLMercantilDoBrasil.create(titulo);
+					
+				case NOSSA_CAIXA:
+					return AbstractCLNossaCaixa.create(titulo);
+				
+				case BANCO_DO_ESTADO_DO_ESPIRITO_SANTO:
+					return AbstractCLBanestes.create(titulo);
+					
+				case BANCO_RURAL:
+					return AbstractCLBancoRural.create(titulo);
+					
+				case BANCO_SANTANDER:
+					return AbstractCLSantander.create(titulo);
+					
+				case BANCO_INTEMEDIUM:
+					return AbstractCLBancoIntermedium.create(titulo);
+					
+				case BANCO_SICREDI:
+					return AbstractCLSicredi.create(titulo);
+
+				case BANCOOB:
+					return AbstractCLBancoob.create(titulo);
+					
+				default:
+					/*
+					 * Se chegar neste ponto e nenhum campo livre foi definido, então é
+					 * sinal de que existe implementações de campo livre para o banco em
+					 * questão, só que nenhuma destas implementações serviu e a classe
+					 * abstrata responsável por fornecer o campo livre não gerou a
+					 * exceção NotSupportedCampoLivreException. Trata-se de uma mensagem
+					 * genérica que será utilizada somente em último caso.
+					 */
+					throw new NotSupportedCampoLivreException(
+							"Não há implementações de campo livre para o banco "
+									+ titulo.getContaBancaria().getBanco()
+											.getCodigoDeCompensacaoBACEN().getCodigoFormatado()
+									+ " compatíveis com as "
+									+ "caracteríticas do título informado.");
+			}
+
+		} catch(CampoLivreException e) {
+
+			throw e;
+
+		} catch(Exception e) {
+
+			throw new CampoLivreException(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Prepara o campo livre dos títulos de uma conta bancária de um banco já
+	 * conhecido. Para Bradesco, Itaú (exceto carteiras especiais), Santander e
+	 * Banco do Brasil com convênio de 7 posições e nosso número de 17, os
+	 * campos da conta são escritos uma única vez; os demais bancos e os
+	 * títulos fora desses casos seguem por {@link #create(Titulo, BancosSuportados)}.
+	 * </p>
+	 * <p>
+	 * Nunca lança exceção: problemas da conta aparecem em cada título, como na
+	 * criação título a título.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta bancária dos títulos
+	 * @param banco
+	 *            banco da conta bancária
+	 * @return campo livre da conta
+	 * 
+	 * @since 0.2
+	 */
+	protected static CampoLivreDaConta prepare(ContaBancaria conta, BancosSuportados banco) {
+
+		CampoLivreDaConta campoLivre = null;
+
+		if (Objects.isNotNull(conta)) {
+
+			switch (banco) {
+
+				case BANCO_BRADESCO:
+					campoLivre = AbstractCLBradesco.prepare(conta);
+					break;
+
+				case BANCO_DO_BRASIL:
+					campoLivre = AbstractCLBancoDoBrasil.prepare(conta);
+					break;
+
+				case BANCO_ITAU:
+					campoLivre = AbstractCLItau.prepare(conta);
+					break;
+
+				case BANCO_SANTANDER:
+					campoLivre = AbstractCLSantander.prepare(conta);
+					break;
+
+				default:
+					break;
+			}
+		}
+
+		return Objects.isNotNull(campoLivre) ? campoLivre : CampoLivrePreparado.porTitulo(banco);
+	}
+
 	/**
 	 * <p>
 	 * Constrói um campo livre após executar os métodos
@@ -785,8 +876,15 @@ abstract class AbstractCampoLivre extends AbstractLineOfFields implements CampoL
 	 */
 	protected final static void checkValor(Titulo titulo){
 		
-		Objects.checkNotNull(titulo.getValor(), "Valor do título não pode ser nulo!");
-		Objects.checkArgument(titulo.getValor().compareTo(ZERO) >= 0, format("O valor do título deve ser um número positivo ou zero e não [%s].",titulo.getValor()));
+		long centavos = titulo.getValorEmCentavos();
+		
+		if (centavos == Titulo.SEM_VALOR) {
+			throw new IllegalArgumentException("Valor do título não pode ser nulo!");
+		}
+		
+		if (centavos < 0) {
+			throw new IllegalArgumentException(format("O valor do título deve ser um número positivo ou zero e não [%s].", Centavos.toBigDecimal(centavos)));
+		}
 	}
 	
 	/**
@@ -1,6 +1,9 @@
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.text.Field;
 import org.jrimum.utilix.text.Filler;
 
@@ -102,6 +105,47 @@ class CLBancoDoBrasilNN17Convenio7 extends AbstractCLBancoDoBrasil {
 		super(FIELDS_LENGTH);
 	}
 
+	/**
+	 * <p>
+	 * Escreve a constante e a carteira uma única vez; por título resta o
+	 * nosso número. Devolve <code>null</code> se a carteira não passar pelas
+	 * verificações de {@link #checkValues(Titulo)}.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta com convênio de 7 posições
+	 * @return campo livre da conta ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getCarteira()) || !CampoLivrePreparado.isPositivoAte(conta.getCarteira().getCodigo(), 99)) {
+
+			return null;
+		}
+
+		final String constante = CONSTANT_FIELD.write();
+
+		final String carteira = new Field<Integer>(conta.getCarteira().getCodigo(), CARTEIRA_LENGTH, Filler.ZERO_LEFT).write();
+
+		return new CampoLivrePreparado(BancosSuportados.BANCO_DO_BRASIL) {
+
+			@Override
+			String escrever(Titulo titulo) {
+
+				final String nossoNumero = titulo.getNossoNumero();
+
+				if (!isDigitos(nossoNumero, NN17)) {
+
+					return null;
+				}
+
+				return new StringBuilder(STRING_LENGTH).append(constante).append(nossoNumero).append(carteira).toString();
+			}
+		};
+	}
+
 	@Override
 	protected void checkValues(Titulo titulo) {
 
@@ -1,5 +1,6 @@
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.bopepo.BancosSuportados;
 import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 import org.jrimum.utilix.Objects;
@@ -117,6 +118,75 @@ class CLBancoSantander extends AbstractCLSantander implements CampoLivre {
 	 */
 	private static final int CARTEIRA_SIMPLES_SEM_REGISTRO = 102;
 
+	/**
+	 * <p>
+	 * Escreve a constante, a conta e a carteira uma única vez; por título
+	 * restam o nosso número com o seu dígito. Títulos com o parâmetro
+	 * {@value #IOF_SEGURADORA} seguem pelo construtor. Devolve
+	 * <code>null</code> se a conta ou a carteira não forem aceitas.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return campo livre da conta ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getNumeroDaConta()) || !CampoLivrePreparado.isPositivoAte(conta.getNumeroDaConta().getCodigoDaConta(), 9999999)
+				|| Objects.isNull(conta.getCarteira()) || Objects.isNull(conta.getCarteira().getCodigo())) {
+
+			return null;
+		}
+
+		switch (conta.getCarteira().getCodigo()) {
+		case CARTEIRA_RAPIDA_COM_REGISTRO:
+		case CARTEIRA_RAPIDA_SEM_REGISTRO:
+		case CARTEIRA_SIMPLES_SEM_REGISTRO:
+			break;
+		default:
+			return null;
+		}
+
+		final String inicio = new Field<Integer>(CONSTANTE, 1).write()
+				+ new Field<Integer>(conta.getNumeroDaConta().getCodigoDaConta(), 7, Filler.ZERO_LEFT).write();
+
+		final String fim = new Field<Integer>(0, 1).write()
+				+ new Field<Integer>(conta.getCarteira().getCodigo(), 3, Filler.ZERO_LEFT).write();
+
+		return new CampoLivrePreparado(BancosSuportados.BANCO_SANTANDER) {
+
+			@Override
+			String escrever(Titulo titulo) {
+
+				if (Objects.isNotNull(titulo.getParametrosBancarios())
+						&& Objects.isNotNull(titulo.getParametrosBancarios().getValor(IOF_SEGURADORA))) {
+
+					return null;
+				}
+
+				final String nossoNumero = titulo.getNossoNumero();
+				final String digito = titulo.getDigitoDoNossoNumero();
+
+				if (Objects.isNull(nossoNumero) || Objects.isNull(digito)
+						|| nossoNumero.length() + digito.length() > 13
+						|| !isDigitos(nossoNumero, nossoNumero.length()) || !isDigitos(digito, digito.length())) {
+
+					return null;
+				}
+
+				final StringBuilder campoLivre = new StringBuilder(STRING_LENGTH).append(inicio);
+
+				for (int i = nossoNumero.length() + digito.length(); i < 13; i++) {
+
+					campoLivre.append('0');
+				}
+
+				return campoLivre.append(nossoNumero).append(digito).append(fim).toString();
+			}
+		};
+	}
+
 	CLBancoSantander(Titulo titulo) {
 		super(FIELDS_LENGTH);
 
@@ -30,7 +30,10 @@
 
 package org.jrimum.bopepo.campolivre;
 
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.text.Field;
 import org.jrimum.utilix.text.Filler;
 
@@ -159,6 +162,50 @@ class CLBradesco extends AbstractCLBradesco {
 		super(FIELDS_LENGTH);
 	}
 	
+	/**
+	 * <p>
+	 * Escreve agência, carteira e conta uma única vez; por título resta o
+	 * nosso número. Devolve <code>null</code> se a conta não passar pelas
+	 * verificações de {@link #checkValues(Titulo)}.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return campo livre da conta ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getAgencia()) || !CampoLivrePreparado.isPositivoAte(conta.getAgencia().getCodigo(), 9999)
+				|| Objects.isNull(conta.getCarteira()) || !CampoLivrePreparado.isPositivoAte(conta.getCarteira().getCodigo(), 99)
+				|| Objects.isNull(conta.getNumeroDaConta()) || !CampoLivrePreparado.isPositivoAte(conta.getNumeroDaConta().getCodigoDaConta(), 9999999)) {
+
+			return null;
+		}
+
+		final String antes = new Field<Integer>(conta.getAgencia().getCodigo(), AGENCIA_LENGTH, Filler.ZERO_LEFT).write()
+				+ new Field<Integer>(conta.getCarteira().getCodigo(), CARTEIRA_LENGTH, Filler.ZERO_LEFT).write();
+
+		final String depois = new Field<Integer>(conta.getNumeroDaConta().getCodigoDaConta(), CONTA_LENGTH, Filler.ZERO_LEFT).write()
+				+ CONSTANT_FIELD.write();
+
+		return new CampoLivrePreparado(BancosSuportados.BANCO_BRADESCO) {
+
+			@Override
+			String escrever(Titulo titulo) {
+
+				final String nossoNumero = titulo.getNossoNumero();
+
+				if (!isDigitos(nossoNumero, NN11)) {
+
+					return null;
+				}
+
+				return new StringBuilder(STRING_LENGTH).append(antes).append(nossoNumero).append(depois).toString();
+			}
+		};
+	}
+
 	@Override
 	protected void checkValues(Titulo titulo){
 		
@@ -29,8 +29,7 @@
 
 package org.jrimum.bopepo.campolivre;
 
-import java.util.Calendar;
-import java.util.Date;
+import java.time.LocalDate;
 
 import org.jrimum.domkee.financeiro.banco.ParametrosBancariosMap;
 import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
@@ -150,7 +149,7 @@ class CLHSBCCobrancaNaoRegistrada extends AbstractCLHSBC {
 		this.add(new Field<String>(nossoNumero, 13, Filler.ZERO_LEFT));
 
 		this.add(new Field<String>(getDataVencimentoFormatoJuliano(
-				tipoIdentificadorCNR, titulo.getDataDoVencimento()), 4,
+				tipoIdentificadorCNR, titulo.getDataDoVencimentoLocalDate()), 4,
 				Filler.ZERO_LEFT));
 
 		// 2 FIXO (Código do Aplicativo CNR - Cob. Não Registrada)
@@ -158,7 +157,7 @@ class CLHSBCCobrancaNaoRegistrada extends AbstractCLHSBC {
 
 	}
 
-	private String getDataVencimentoFormatoJuliano(TipoIdentificadorCNR tipoIdentificadorCNR, Date vencimento) {
+	private String getDataVencimentoFormatoJuliano(TipoIdentificadorCNR tipoIdentificadorCNR, LocalDate vencimento) {
 
 		switch (tipoIdentificadorCNR) {
 
@@ -176,13 +175,10 @@ class CLHSBCCobrancaNaoRegistrada extends AbstractCLHSBC {
 		}
 	}
 
-	private String getVencimentoFormatoJuliano(Date vencimento) {
+	private String getVencimentoFormatoJuliano(LocalDate vencimento) {
 
-		Calendar c = Calendar.getInstance();
-		c.setTime(vencimento);
-
-		return new StringBuilder(String.valueOf(c.get(Calendar.DAY_OF_YEAR)))
-				.append(String.valueOf(c.get(Calendar.YEAR) % 10))
+		return new StringBuilder(String.valueOf(vencimento.getDayOfYear()))
+				.append(String.valueOf(vencimento.getYear() % 10))
 				.toString();
 	}
 
@@ -32,8 +32,10 @@ package org.jrimum.bopepo.campolivre;
 
 import java.util.Arrays;
 
+import org.jrimum.bopepo.BancosSuportados;
 import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.text.Field;
 import org.jrimum.utilix.text.Filler;
 
@@ -122,6 +124,12 @@ class CLItauPadrao extends AbstractCLItau {
 	 */
 	private static final Integer FIELDS_LENGTH = 7;
 
+	/**
+	 * Carteiras cujo DAC da posição 31 não inclui agência e conta, em ordem
+	 * para a busca binária.
+	 */
+	private static final Integer[] CARTEIRAS_EXCECAO = {126, 131, 146, 150, 168};
+
 	/**
 	 * <p>
 	 *   Dado um título, cria o campo livre padrão do Banco Itaú.
@@ -207,25 +215,47 @@ class CLItauPadrao extends AbstractCLItau {
 	 * 
 	 * @since 0.2
 	 */
-	private Integer calculeDigitoDaPosicao31(Integer codigoDaAgencia,
+	private static Integer calculeDigitoDaPosicao31(Integer codigoDaAgencia,
 			Integer codigoDaConta, Integer codigoDaCarteira, String nossoNumero) {
 
-		Integer[] carteirasExcecao = {126, 131, 146, 150, 168};
-		StringBuilder campo = new StringBuilder();
+		StringBuilder campo = inicieCampoDaPosicao31(codigoDaAgencia, codigoDaConta, codigoDaCarteira);
 		
-		campo.append(Filler.ZERO_LEFT.fill(codigoDaCarteira.intValue(), 3));
-		campo.append(Filler.ZERO_LEFT.fill(nossoNumero, 8));
+		Filler.ZERO_LEFT.fill(nossoNumero, 8, campo);
+		
+		return calculeDigitoVerificador(campo.toString());
+	}
+
+	/**
+	 * <p>
+	 * Parte do campo do DAC da posição 31 que vem da conta: agência e conta
+	 * (exceto nas carteiras de exceção) seguidas da carteira. Falta apenas o
+	 * nosso número.
+	 * </p>
+	 * 
+	 * @param codigoDaAgencia
+	 * @param codigoDaConta
+	 * @param codigoDaCarteira
+	 * @return início do campo, com espaço para o nosso número
+	 * 
+	 * @since 0.2
+	 */
+	private static StringBuilder inicieCampoDaPosicao31(Integer codigoDaAgencia,
+			Integer codigoDaConta, Integer codigoDaCarteira) {
+
+		StringBuilder campo = new StringBuilder(20);
 		
 		/*
-		 * Se a carteira não estiver nas exceções, acrescenta a agência e a conta.
+		 * Se a carteira não estiver nas exceções, começa pela agência e a conta.
 		 */
-		if(Arrays.binarySearch(carteirasExcecao, codigoDaCarteira) < 0) {
+		if(Arrays.binarySearch(CARTEIRAS_EXCECAO, codigoDaCarteira) < 0) {
 			
-			campo.insert(0, Filler.ZERO_LEFT.fill(codigoDaConta.intValue(), 5));
-			campo.insert(0, Filler.ZERO_LEFT.fill(codigoDaAgencia.intValue(), 4));
+			Filler.ZERO_LEFT.fill(codigoDaAgencia.intValue(), 4, campo);
+			Filler.ZERO_LEFT.fill(codigoDaConta.intValue(), 5, campo);
 		}
 		
-		return calculeDigitoVerificador(campo.toString());
+		Filler.ZERO_LEFT.fill(codigoDaCarteira.intValue(), 3, campo);
+		
+		return campo;
 	}
 	
 	/**
@@ -261,15 +291,70 @@ class CLItauPadrao extends AbstractCLItau {
 	 * 
 	 * @since 0.2
 	 */
-	private Integer calculeDigitoDaPosicao41(Integer codigoDaAgencia,
+	private static Integer calculeDigitoDaPosicao41(Integer codigoDaAgencia,
 			Integer codigoDaConta) {
 
-		StringBuilder campo = new StringBuilder();
-		campo.append(Filler.ZERO_LEFT.fill(codigoDaAgencia.intValue(), 4));
-		campo.append(Filler.ZERO_LEFT.fill(codigoDaConta.intValue(), 5));
+		StringBuilder campo = new StringBuilder(9);
+		Filler.ZERO_LEFT.fill(codigoDaAgencia.intValue(), 4, campo);
+		Filler.ZERO_LEFT.fill(codigoDaConta.intValue(), 5, campo);
 		
 		return calculeDigitoVerificador(campo.toString());
 	}
+
+	/**
+	 * <p>
+	 * Escreve carteira, agência, conta e o DAC da posição 41 uma única vez e
+	 * guarda o início do campo do DAC da posição 31; por título restam o
+	 * nosso número e esse DAC. Devolve <code>null</code> se a conta não tiver
+	 * agência, conta ou carteira que caibam nos campos.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta com carteira padrão
+	 * @return campo livre da conta ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	static CampoLivreDaConta prepare(ContaBancaria conta) {
+
+		if (Objects.isNull(conta.getAgencia()) || !CampoLivrePreparado.isPositivoAte(conta.getAgencia().getCodigo(), 9999)
+				|| Objects.isNull(conta.getNumeroDaConta()) || !CampoLivrePreparado.isPositivoAte(conta.getNumeroDaConta().getCodigoDaConta(), 99999)
+				|| !CampoLivrePreparado.isPositivoAte(conta.getCarteira().getCodigo(), 999)) {
+
+			return null;
+		}
+
+		final Integer agencia = conta.getAgencia().getCodigo();
+		final Integer numeroDaConta = conta.getNumeroDaConta().getCodigoDaConta();
+		final Integer carteira = conta.getCarteira().getCodigo();
+
+		final String inicio = new Field<Integer>(carteira, 3, Filler.ZERO_LEFT).write();
+
+		final String fim = new Field<Integer>(agencia, 4, Filler.ZERO_LEFT).write()
+				+ new Field<Integer>(numeroDaConta, 5, Filler.ZERO_LEFT).write()
+				+ new Field<Integer>(calculeDigitoDaPosicao41(agencia, numeroDaConta), 1).write()
+				+ new Field<String>("000", 3).write();
+
+		final String campoDaPosicao31 = inicieCampoDaPosicao31(agencia, numeroDaConta, carteira).toString();
+
+		return new CampoLivrePreparado(BancosSuportados.BANCO_ITAU) {
+
+			@Override
+			String escrever(Titulo titulo) {
+
+				final String nossoNumero = titulo.getNossoNumero();
+
+				if (!isDigitos(nossoNumero, NN8)) {
+
+					return null;
+				}
+
+				final Integer dac = calculeDigitoVerificador(campoDaPosicao31 + nossoNumero);
+
+				return new StringBuilder(STRING_LENGTH).append(inicio).append(nossoNumero).append(dac.intValue()).append(fim).toString();
+			}
+		};
+	}
 	
 	@Override
 	protected void addFields(Titulo titulo) {
@@ -273,9 +273,9 @@ class CLNossaCaixa extends AbstractCLNossaCaixa {
 		StringBuilder numeroParaCalculo = new StringBuilder();
 		numeroParaCalculo.append(getIdentificacaoDoSistemaPeloNossoNumero(titulo.getNossoNumero()));
 		numeroParaCalculo.append(getNossoNumeroCom8Posicoes(titulo.getNossoNumero()));
-		numeroParaCalculo.append(Filler.ZERO_LEFT.fill(titulo.getContaBancaria().getAgencia().getCodigo(), 4));
+		Filler.ZERO_LEFT.fill(titulo.getContaBancaria().getAgencia().getCodigo(), 4, numeroParaCalculo);
 		numeroParaCalculo.append(modalidadeDaConta);
-		numeroParaCalculo.append(Filler.ZERO_LEFT.fill(titulo.getContaBancaria().getNumeroDaConta().getCodigoDaConta(), 6));
+		Filler.ZERO_LEFT.fill(titulo.getContaBancaria().getNumeroDaConta().getCodigoDaConta(), 6, numeroParaCalculo);
 		numeroParaCalculo.append(titulo.getContaBancaria().getBanco().getCodigoDeCompensacaoBACEN().getCodigo());
 		
 		return numeroParaCalculo.toString();
@@ -104,7 +104,7 @@ class CLUnibancoCobrancaRegistrada extends AbstractCLUnibanco {
 		Objects.checkNotNull(titulo.getNossoNumero(),"Nosso Número NULO!");
 		
 		this.add(new Field<String>(CODIGO_TRANSACAO, 2));
-		this.add(new Field<Date>(titulo.getDataDoVencimento(), 6, YYMMDD.copy()));
+		this.add(new Field<Date>(titulo.getDataDoVencimento(), 6, YYMMDD.toFormat()));
 			
 		if(conta.getAgencia().getCodigo() > 0){
 			
@@ -0,0 +1,67 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 09:12:40
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 09:12:40
+ * 
+ */
+
+
+package org.jrimum.bopepo.campolivre;
+
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+
+/**
+ * <p>
+ * Fábrica de campos livres para os títulos de uma única conta bancária,
+ * obtida com {@link CampoLivreFactory#prepare(org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria, org.jrimum.bopepo.BancosSuportados)}.
+ * </p>
+ * <p>
+ * Os campos que dependem só da conta (agência, conta e carteira já
+ * preenchidas) e a escolha da implementação do banco são feitos uma vez; para
+ * cada título resta verificar e escrever o nosso número. O resultado é o mesmo
+ * de {@link CampoLivreFactory#create(Titulo)} para o mesmo título, inclusive
+ * as exceções.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public interface CampoLivreDaConta {
+
+	/**
+	 * <p>
+	 * Devolve o campo livre do título, que deve ser da conta bancária usada na
+	 * preparação ou de uma conta com os mesmos dados.
+	 * </p>
+	 * 
+	 * @param titulo
+	 * @return Uma referência para um CampoLivre.
+	 * @throws NotSupportedCampoLivreException
+	 * @throws CampoLivreException
+	 */
+	CampoLivre create(Titulo titulo);
+}
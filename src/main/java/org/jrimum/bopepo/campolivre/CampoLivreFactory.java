@@ -35,6 +35,8 @@ import static org.apache.commons.lang.StringUtils.remove;
 import static org.apache.commons.lang.StringUtils.strip;
 
 import org.apache.log4j.Logger;
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
 import org.jrimum.utilix.Objects;
 import org.jrimum.utilix.text.Field;
@@ -87,6 +89,50 @@ public final class CampoLivreFactory {
 
 		return AbstractCampoLivre.create(titulo);
 	}
+
+	/**
+	 * <p>
+	 * Devolve um <code>CampoLivre</code> do banco informado sem refazer as
+	 * verificações do título e da conta bancária nem a busca do banco entre os
+	 * suportados. Quem chama é responsável por já ter feito essas verificações
+	 * e por garantir que o banco é o da conta bancária do título.
+	 * </p>
+	 * 
+	 * @param titulo
+	 * @param banco
+	 *            banco suportado da conta bancária do título
+	 * 
+	 * @return Uma referência para um CampoLivre.
+	 * @throws NotSupportedCampoLivreException
+	 * 
+	 * @since 0.2
+	 */
+	public static CampoLivre create(Titulo titulo, BancosSuportados banco) throws NotSupportedCampoLivreException {
+
+		return AbstractCampoLivre.create(titulo, banco);
+	}
+
+	/**
+	 * <p>
+	 * Prepara uma única vez o que o campo livre de um banco tira da conta
+	 * bancária (a implementação do banco e os campos já preenchidos), para
+	 * criar em seguida o campo livre de muitos títulos dessa conta. O campo
+	 * livre de cada título é o mesmo de {@link #create(Titulo)}.
+	 * </p>
+	 * 
+	 * @param conta
+	 *            conta bancária dos títulos
+	 * @param banco
+	 *            banco suportado da conta bancária
+	 * 
+	 * @return campo livre da conta
+	 * 
+	 * @since 0.2
+	 */
+	public static CampoLivreDaConta prepare(ContaBancaria conta, BancosSuportados banco) {
+
+		return AbstractCampoLivre.prepare(conta, banco);
+	}
 	
 	/**
 	 * Devolve um CampoLivre a partir de uma String.
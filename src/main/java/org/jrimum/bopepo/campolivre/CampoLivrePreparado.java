@@ -0,0 +1,186 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 09:20:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 09:20:05
+ * 
+ */
+
+
+package org.jrimum.bopepo.campolivre;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Base dos campos livres preparados por conta bancária. A subclasse escreve o
+ * campo livre de um título a partir dos campos da conta já preenchidos e
+ * devolve <code>null</code> quando o título foge do caso comum (nosso número
+ * ausente, com outro tamanho ou com caracteres que não sejam dígitos, ou
+ * parâmetros bancários que mudam o campo livre). Nesses casos o título segue
+ * pelo caminho normal do banco, que faz todas as verificações e lança as
+ * mesmas exceções de sempre.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+abstract class CampoLivrePreparado implements CampoLivreDaConta {
+
+	private final BancosSuportados banco;
+
+	CampoLivrePreparado(BancosSuportados banco) {
+
+		this.banco = banco;
+	}
+
+	public final CampoLivre create(Titulo titulo) {
+
+		final String campoLivre = Objects.isNotNull(titulo) ? escrever(titulo) : null;
+
+		if (Objects.isNotNull(campoLivre)) {
+
+			return new Pronto(campoLivre);
+		}
+
+		return AbstractCampoLivre.create(titulo, banco);
+	}
+
+	/**
+	 * <p>
+	 * Escreve o campo livre do título ou devolve <code>null</code> para que
+	 * ele seja criado pelo caminho normal do banco.
+	 * </p>
+	 * 
+	 * @param titulo
+	 *            título não nulo
+	 * @return campo livre com 25 dígitos ou <code>null</code>
+	 */
+	abstract String escrever(Titulo titulo);
+
+	/**
+	 * <p>
+	 * Campo livre que segue sempre pelo caminho normal do banco, usado para os
+	 * bancos e contas sem preparação.
+	 * </p>
+	 * 
+	 * @param banco
+	 * @return campo livre da conta
+	 */
+	static CampoLivreDaConta porTitulo(final BancosSuportados banco) {
+
+		return new CampoLivreDaConta() {
+
+			public CampoLivre create(Titulo titulo) {
+
+				return AbstractCampoLivre.create(titulo, banco);
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Indica se o texto tem exatamente o tamanho informado e somente dígitos
+	 * ASCII. Textos que passam aqui passam também pelas verificações de nosso
+	 * número de {@link AbstractCampoLivre} sem formatar mensagens.
+	 * </p>
+	 * 
+	 * @param texto
+	 * @param tamanho
+	 * @return <code>true</code> se o texto tiver somente dígitos no tamanho
+	 */
+	static boolean isDigitos(String texto, int tamanho) {
+
+		if (Objects.isNull(texto) || texto.length() != tamanho) {
+
+			return false;
+		}
+
+		for (int i = 0; i < tamanho; i++) {
+
+			final char c = texto.charAt(i);
+
+			if (c < '0' || c > '9') {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * <p>
+	 * Indica se o código da conta, agência ou carteira é positivo e menor que
+	 * ou igual ao limite, como pedem as verificações dos campos livres.
+	 * </p>
+	 * 
+	 * @param codigo
+	 * @param limite
+	 * @return <code>true</code> se o código for não nulo e estiver no intervalo
+	 */
+	static boolean isPositivoAte(Integer codigo, int limite) {
+
+		return Objects.isNotNull(codigo) && codigo > 0 && codigo <= limite;
+	}
+
+	/**
+	 * <p>
+	 * Campo livre já escrito.
+	 * </p>
+	 */
+	private static final class Pronto implements CampoLivre {
+
+		private static final long serialVersionUID = 4417016358234075802L;
+
+		private String campoLivre;
+
+		Pronto(String campoLivre) {
+
+			this.campoLivre = campoLivre;
+		}
+
+		public void read(String str) {
+
+			Objects.checkArgument(Objects.isNotNull(str) && str.length() == STRING_LENGTH, "O tamanho do Campo Livre deve ser igual a 25!");
+
+			this.campoLivre = str;
+		}
+
+		public String write() {
+
+			return campoLivre;
+		}
+
+		@Override
+		public String toString() {
+
+			return campoLivre;
+		}
+	}
+}
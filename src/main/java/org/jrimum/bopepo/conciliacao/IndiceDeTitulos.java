@@ -0,0 +1,710 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 18:40:33
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 18:40:33
+ * 
+ */
+
+
+package org.jrimum.bopepo.conciliacao;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.LocalDate;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.CodigoDeBarrasValue;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Índice de títulos em aberto, fora do heap, para conciliar pagamentos: dado
+ * o código de barras lido ou o banco, a agência, a conta e o nosso número de
+ * um arquivo de retorno, encontra o título correspondente sem manter milhões de
+ * <code>Titulo</code> e <code>String</code> em mapas do heap.
+ * </p>
+ * 
+ * <p>
+ * Cada título ocupa um registro fixo de 64 bytes em um buffer direto: o
+ * código de barras compactado ({@link CodigoDeBarrasValue}), banco e agência,
+ * conta, nosso número, valor em centavos, vencimento (dia desde 1970-01-01) e um
+ * identificador externo (a chave do título no sistema de origem). Duas
+ * tabelas de endereçamento aberto, também fora do heap, levam de cada chave
+ * ao registro.
+ * </p>
+ * 
+ * <p>
+ * A capacidade é fixa e definida na criação. Inclusões e baixas são
+ * sincronizadas entre si; consultas não bloqueiam e podem ser feitas por
+ * várias threads ao mesmo tempo, inclusive durante uma carga.
+ * </p>
+ * 
+ * <p>
+ * O índice pode ser gravado em arquivo ({@link #salvar(File)}) e restaurado
+ * ({@link #restaurar(File)}) mapeando o arquivo em memória, sem ler nem
+ * reconstruir nada; alterações feitas depois de restaurar não mudam o
+ * arquivo.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class IndiceDeTitulos {
+
+	private static Logger log = Logger.getLogger(IndiceDeTitulos.class);
+
+	private static final long MAGICO = 0x424F504550495832L; // "BOPEPIX2"
+
+	private static final int TAMANHO_DO_CABECALHO = 32;
+
+	/*
+	 * Layout do registro.
+	 */
+	private static final int TAMANHO_DO_REGISTRO = 64;
+	private static final int CODIGO = 0;
+	private static final int SITUACAO = 22;
+	private static final int CONTA = 24;
+	private static final int NOSSO_NUMERO = 32;
+	private static final int VALOR = 40;
+	private static final int ID = 48;
+	private static final int VENCIMENTO = 56;
+	private static final int BANCO_E_AGENCIA = 60;
+
+	/*
+	 * Banco (3 dígitos) e agência (até 5 dígitos) dividem um int: o banco
+	 * nos bits acima de BITS_DA_AGENCIA.
+	 */
+	private static final int BITS_DA_AGENCIA = 17;
+	private static final int MAIOR_BANCO = 999;
+	private static final int MAIOR_AGENCIA = 99999;
+
+	private static final short ABERTO = 1;
+	private static final short COM_CODIGO = 2;
+	private static final short BAIXADO = 4;
+
+	private final int capacidade;
+	private final int mascara;
+
+	private final ByteBuffer registros;
+	private final ByteBuffer porCodigo;
+	private final ByteBuffer porNossoNumero;
+
+	/**
+	 * <p>
+	 * Quantidade de registros gravados. É escrito depois do registro e da
+	 * entrada nas tabelas, e lido antes deles, o que torna cada inclusão
+	 * visível por inteiro para as consultas.
+	 * </p>
+	 */
+	private volatile int tamanho;
+
+	/**
+	 * <p>
+	 * Cria um índice vazio, alocando de uma vez a memória para
+	 * <code>capacidade</code> títulos (64 bytes por título mais 16 bytes das
+	 * tabelas).
+	 * </p>
+	 * 
+	 * @param capacidade
+	 *            - Quantidade máxima de títulos
+	 * 
+	 * @since 0.2
+	 */
+	public IndiceDeTitulos(int capacidade) {
+
+		if (capacidade < 1 || capacidade > Integer.MAX_VALUE / TAMANHO_DO_REGISTRO) {
+			throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+		}
+
+		this.capacidade = capacidade;
+		this.mascara = getTamanhoDaTabela(capacidade) - 1;
+
+		this.registros = ByteBuffer.allocateDirect(capacidade * TAMANHO_DO_REGISTRO);
+		this.porCodigo = ByteBuffer.allocateDirect((mascara + 1) * 4);
+		this.porNossoNumero = ByteBuffer.allocateDirect((mascara + 1) * 4);
+	}
+
+	private IndiceDeTitulos(int capacidade, int tamanho, ByteBuffer registros, ByteBuffer porCodigo, ByteBuffer porNossoNumero) {
+
+		this.capacidade = capacidade;
+		this.mascara = getTamanhoDaTabela(capacidade) - 1;
+		this.registros = registros;
+		this.porCodigo = porCodigo;
+		this.porNossoNumero = porNossoNumero;
+		this.tamanho = tamanho;
+	}
+
+	/**
+	 * <p>
+	 * Inclui o título do boleto, indexado pelo código de barras e pelo nosso
+	 * número.
+	 * </p>
+	 * 
+	 * @param boleto
+	 * @param idExterno
+	 *            - Chave do título no sistema de origem
+	 * 
+	 * @since 0.2
+	 */
+	public void adicionar(Boleto boleto, long idExterno) {
+
+		Objects.checkNotNull(boleto, "Boleto nulo!");
+
+		Titulo titulo = boleto.getTitulo();
+		ContaBancaria conta = titulo.getContaBancaria();
+
+		adicionar(boleto.getCodigoDeBarras().write(),
+				conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigo(),
+				conta.getAgencia().getCodigo(),
+				conta.getNumeroDaConta().getCodigoDaConta(),
+				getNossoNumero(titulo.getNossoNumero()),
+				getCentavos(titulo),
+				getDia(titulo),
+				idExterno);
+	}
+
+	/**
+	 * <p>
+	 * Inclui um título a partir dos seus valores, para cargas em lote (de um
+	 * banco de dados, por exemplo) sem montar <code>Titulo</code> nem
+	 * <code>Boleto</code>.
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 *            - Código de barras com 44 dígitos ou {@code null} para
+	 *            indexar só pelo nosso número
+	 * @param banco
+	 *            - Código de compensação do banco
+	 * @param agencia
+	 *            - Código da agência
+	 * @param conta
+	 *            - Código da conta
+	 * @param nossoNumero
+	 * @param valorEmCentavos
+	 * @param vencimento
+	 *            - Dia do vencimento, contado desde 1970-01-01 (
+	 *            {@link LocalDate#toEpochDay()})
+	 * @param idExterno
+	 *            - Chave do título no sistema de origem
+	 * @throws IllegalStateException
+	 *             se o índice estiver cheio
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized void adicionar(String codigoDeBarras, int banco, int agencia, long conta, long nossoNumero,
+			long valorEmCentavos, int vencimento, long idExterno) {
+
+		byte[] codigo = isNotNull(codigoDeBarras) ? CodigoDeBarrasValue.valueOf(codigoDeBarras).toBytes() : null;
+
+		if (tamanho == capacidade) {
+			throw new IllegalStateException("Índice de títulos cheio: " + capacidade + " títulos.");
+		}
+
+		int bancoEAgencia = getBancoEAgencia(banco, agencia);
+
+		int registro = tamanho;
+		int base = registro * TAMANHO_DO_REGISTRO;
+
+		short situacao = ABERTO;
+
+		if (isNotNull(codigo)) {
+
+			for (int i = 0; i < codigo.length; i++) {
+				registros.put(base + CODIGO + i, codigo[i]);
+			}
+
+			situacao |= COM_CODIGO;
+		}
+
+		registros.putLong(base + CONTA, conta);
+		registros.putLong(base + NOSSO_NUMERO, nossoNumero);
+		registros.putLong(base + VALOR, valorEmCentavos);
+		registros.putLong(base + ID, idExterno);
+		registros.putInt(base + VENCIMENTO, vencimento);
+		registros.putInt(base + BANCO_E_AGENCIA, bancoEAgencia);
+		registros.putShort(base + SITUACAO, situacao);
+
+		if (isNotNull(codigo)) {
+			inserir(porCodigo, hash(codigo), registro);
+		}
+
+		inserir(porNossoNumero, hashDoNossoNumero(bancoEAgencia, conta, nossoNumero), registro);
+
+		tamanho = registro + 1;
+	}
+
+	/**
+	 * <p>
+	 * Procura o título em aberto com o código de barras informado.
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 *            - Código de barras com 44 dígitos
+	 * @return título encontrado ou {@code null}
+	 * 
+	 * @since 0.2
+	 */
+	public Registro buscarPorCodigoDeBarras(String codigoDeBarras) {
+
+		return buscarPorCodigoDeBarras(CodigoDeBarrasValue.valueOf(codigoDeBarras));
+	}
+
+	/**
+	 * <p>
+	 * Procura o título em aberto com o código de barras informado.
+	 * </p>
+	 * 
+	 * @param codigoDeBarras
+	 * @return título encontrado ou {@code null}
+	 * 
+	 * @since 0.2
+	 */
+	public Registro buscarPorCodigoDeBarras(CodigoDeBarrasValue codigoDeBarras) {
+
+		Objects.checkNotNull(codigoDeBarras, "Código de barras nulo!");
+
+		byte[] codigo = codigoDeBarras.toBytes();
+
+		int limite = tamanho;
+		int posicao = hash(codigo) & mascara;
+
+		for (;;) {
+
+			int registro = porCodigo.getInt(posicao * 4) - 1;
+
+			if (registro < 0 || registro >= limite) {
+				return null;
+			}
+
+			int base = registro * TAMANHO_DO_REGISTRO;
+
+			if (isCodigoIgual(base, codigo) && isAberto(base)) {
+				return getRegistro(registro);
+			}
+
+			posicao = (posicao + 1) & mascara;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Procura o título em aberto pelo banco, agência, conta e nosso número,
+	 * como vêm em um arquivo de retorno.
+	 * </p>
+	 * 
+	 * @param banco
+	 * @param agencia
+	 * @param conta
+	 * @param nossoNumero
+	 * @return título encontrado ou {@code null}
+	 * 
+	 * @since 0.2
+	 */
+	public Registro buscarPorNossoNumero(int banco, int agencia, long conta, long nossoNumero) {
+
+		int bancoEAgencia = getBancoEAgencia(banco, agencia);
+
+		int limite = tamanho;
+		int posicao = hashDoNossoNumero(bancoEAgencia, conta, nossoNumero) & mascara;
+
+		for (;;) {
+
+			int registro = porNossoNumero.getInt(posicao * 4) - 1;
+
+			if (registro < 0 || registro >= limite) {
+				return null;
+			}
+
+			int base = registro * TAMANHO_DO_REGISTRO;
+
+			if (registros.getLong(base + NOSSO_NUMERO) == nossoNumero && registros.getLong(base + CONTA) == conta
+					&& registros.getInt(base + BANCO_E_AGENCIA) == bancoEAgencia && isAberto(base)) {
+
+				return getRegistro(registro);
+			}
+
+			posicao = (posicao + 1) & mascara;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Baixa o título: ele continua ocupando o seu registro, mas não é mais
+	 * encontrado pelas consultas.
+	 * </p>
+	 * 
+	 * @param registro
+	 *            - Título encontrado em uma consulta
+	 * @return false se o título já estava baixado
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized boolean baixar(Registro registro) {
+
+		Objects.checkNotNull(registro, "Registro nulo!");
+
+		int base = registro.posicao * TAMANHO_DO_REGISTRO;
+		short situacao = registros.getShort(base + SITUACAO);
+
+		if ((situacao & BAIXADO) != 0) {
+			return false;
+		}
+
+		registros.putShort(base + SITUACAO, (short) (situacao | BAIXADO));
+
+		return true;
+	}
+
+	/**
+	 * @return quantidade de títulos incluídos, inclusive os baixados
+	 * 
+	 * @since 0.2
+	 */
+	public int size() {
+
+		return tamanho;
+	}
+
+	/**
+	 * @return quantidade máxima de títulos
+	 * 
+	 * @since 0.2
+	 */
+	public int getCapacidade() {
+
+		return capacidade;
+	}
+
+	/**
+	 * <p>
+	 * Grava o índice em arquivo, no mesmo formato em que ele fica na memória.
+	 * </p>
+	 * 
+	 * @param destino
+	 * @throws IOException
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized void salvar(File destino) throws IOException {
+
+		Objects.checkNotNull(destino, "Arquivo nulo!");
+
+		long total = TAMANHO_DO_CABECALHO + (long) registros.capacity() + porCodigo.capacity() + porNossoNumero.capacity();
+
+		RandomAccessFile arquivo = new RandomAccessFile(destino, "rw");
+
+		try {
+
+			arquivo.setLength(0);
+
+			FileChannel canal = arquivo.getChannel();
+			MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, total);
+
+			mapa.putLong(MAGICO);
+			mapa.putInt(capacidade);
+			mapa.putInt(tamanho);
+			mapa.position(TAMANHO_DO_CABECALHO);
+
+			mapa.put(registros.duplicate().clear());
+			mapa.put(porCodigo.duplicate().clear());
+			mapa.put(porNossoNumero.duplicate().clear());
+
+			mapa.force();
+
+		} finally {
+
+			arquivo.close();
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug(tamanho + " títulos gravados em " + destino);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Restaura um índice gravado com {@link #salvar(File)}. O arquivo é
+	 * mapeado em memória em modo privado: as páginas são lidas sob demanda e
+	 * as inclusões e baixas feitas depois não são gravadas nele.
+	 * </p>
+	 * 
+	 * @param origem
+	 * @return índice restaurado
+	 * @throws IOException
+	 * @throws IllegalArgumentException
+	 *             se o arquivo não for um índice de títulos
+	 * 
+	 * @since 0.2
+	 */
+	public static IndiceDeTitulos restaurar(File origem) throws IOException {
+
+		Objects.checkNotNull(origem, "Arquivo nulo!");
+
+		// O modo privado exige o canal aberto para escrita, mas nada é gravado.
+		RandomAccessFile arquivo = new RandomAccessFile(origem, "rw");
+
+		try {
+
+			FileChannel canal = arquivo.getChannel();
+			MappedByteBuffer mapa = canal.map(FileChannel.MapMode.PRIVATE, 0, canal.size());
+
+			if (mapa.capacity() < TAMANHO_DO_CABECALHO || mapa.getLong(0) != MAGICO) {
+				throw new IllegalArgumentException("Não é um índice de títulos: " + origem);
+			}
+
+			int capacidade = mapa.getInt(8);
+			int tamanho = mapa.getInt(12);
+
+			int registros = capacidade * TAMANHO_DO_REGISTRO;
+			int tabela = getTamanhoDaTabela(capacidade) * 4;
+
+			if (mapa.capacity() != TAMANHO_DO_CABECALHO + (long) registros + 2L * tabela || tamanho < 0 || tamanho > capacidade) {
+				throw new IllegalArgumentException("Índice de títulos corrompido: " + origem);
+			}
+
+			return new IndiceDeTitulos(capacidade, tamanho,
+					mapa.slice(TAMANHO_DO_CABECALHO, registros),
+					mapa.slice(TAMANHO_DO_CABECALHO + registros, tabela),
+					mapa.slice(TAMANHO_DO_CABECALHO + registros + tabela, tabela));
+
+		} finally {
+
+			// O mapeamento continua válido depois de fechar o arquivo.
+			arquivo.close();
+		}
+	}
+
+	private Registro getRegistro(int registro) {
+
+		int base = registro * TAMANHO_DO_REGISTRO;
+		int bancoEAgencia = registros.getInt(base + BANCO_E_AGENCIA);
+
+		return new Registro(registro,
+				bancoEAgencia >>> BITS_DA_AGENCIA,
+				bancoEAgencia & ((1 << BITS_DA_AGENCIA) - 1),
+				registros.getLong(base + CONTA),
+				registros.getLong(base + NOSSO_NUMERO),
+				registros.getLong(base + VALOR),
+				registros.getInt(base + VENCIMENTO),
+				registros.getLong(base + ID));
+	}
+
+	private boolean isAberto(int base) {
+
+		return (registros.getShort(base + SITUACAO) & BAIXADO) == 0;
+	}
+
+	private void inserir(ByteBuffer tabela, int hash, int registro) {
+
+		int posicao = hash & mascara;
+
+		while (tabela.getInt(posicao * 4) != 0) {
+			posicao = (posicao + 1) & mascara;
+		}
+
+		tabela.putInt(posicao * 4, registro + 1);
+	}
+
+	private boolean isCodigoIgual(int base, byte[] codigo) {
+
+		if ((registros.getShort(base + SITUACAO) & COM_CODIGO) == 0) {
+			return false;
+		}
+
+		for (int i = 0; i < codigo.length; i++) {
+			if (registros.get(base + CODIGO + i) != codigo[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int hash(byte[] codigo) {
+
+		long h = 0;
+
+		for (byte b : codigo) {
+			h = h * 131 + (b & 0xFF);
+		}
+
+		return misturar(h);
+	}
+
+	private static int hashDoNossoNumero(int bancoEAgencia, long conta, long nossoNumero) {
+
+		return misturar((nossoNumero * 31 + conta) * 1009 + bancoEAgencia);
+	}
+
+	private static int getBancoEAgencia(int banco, int agencia) {
+
+		if (banco < 0 || banco > MAIOR_BANCO) {
+			throw new IllegalArgumentException("Código de banco inválido: " + banco);
+		}
+
+		if (agencia < 0 || agencia > MAIOR_AGENCIA) {
+			throw new IllegalArgumentException("Código de agência inválido: " + agencia);
+		}
+
+		return banco << BITS_DA_AGENCIA | agencia;
+	}
+
+	/**
+	 * <p>
+	 * Espalha os bits do valor (finalizador do MurmurHash3), já que a tabela
+	 * usa apenas os bits menos significativos.
+	 * </p>
+	 */
+	private static int misturar(long h) {
+
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+
+		return (int) h;
+	}
+
+	private static int getTamanhoDaTabela(int capacidade) {
+
+		// Ocupação de no máximo 50%, em potência de 2.
+		return Integer.highestOneBit(Math.max(capacidade, 1) * 2 - 1) << 1;
+	}
+
+	private static long getNossoNumero(String nossoNumero) {
+
+		if (!StringUtils.isNumeric(nossoNumero) || StringUtils.isBlank(nossoNumero) || nossoNumero.length() > 18) {
+			throw new IllegalArgumentException("Nosso número deve ser numérico: " + nossoNumero);
+		}
+
+		return Long.parseLong(nossoNumero);
+	}
+
+	private static long getCentavos(Titulo titulo) {
+
+		if (titulo.getValorEmCentavos() == Titulo.SEM_VALOR) {
+			throw new IllegalArgumentException("Valor do título nulo!");
+		}
+
+		return titulo.getValorEmCentavos();
+	}
+
+	private static int getDia(Titulo titulo) {
+
+		if (titulo.getDataDoVencimentoEmDias() == Titulo.SEM_DATA) {
+			throw new IllegalArgumentException("Data de vencimento nula!");
+		}
+
+		return (int) titulo.getDataDoVencimentoEmDias();
+	}
+
+	/**
+	 * <p>
+	 * Título encontrado no índice.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 * 
+	 * @version 0.2
+	 */
+	public static final class Registro {
+
+		private final int posicao;
+		private final int banco;
+		private final int agencia;
+		private final long conta;
+		private final long nossoNumero;
+		private final long valorEmCentavos;
+		private final int vencimento;
+		private final long idExterno;
+
+		private Registro(int posicao, int banco, int agencia, long conta, long nossoNumero, long valorEmCentavos, int vencimento,
+				long idExterno) {
+
+			this.posicao = posicao;
+			this.banco = banco;
+			this.agencia = agencia;
+			this.conta = conta;
+			this.nossoNumero = nossoNumero;
+			this.valorEmCentavos = valorEmCentavos;
+			this.vencimento = vencimento;
+			this.idExterno = idExterno;
+		}
+
+		public int getBanco() {
+			return banco;
+		}
+
+		public int getAgencia() {
+			return agencia;
+		}
+
+		public long getConta() {
+			return conta;
+		}
+
+		public long getNossoNumero() {
+			return nossoNumero;
+		}
+
+		public long getValorEmCentavos() {
+			return valorEmCentavos;
+		}
+
+		/**
+		 * @return dia do vencimento, contado desde 1970-01-01
+		 */
+		public int getVencimento() {
+			return vencimento;
+		}
+
+		public LocalDate getDataDoVencimento() {
+			return LocalDate.ofEpochDay(vencimento);
+		}
+
+		public long getIdExterno() {
+			return idExterno;
+		}
+
+		@Override
+		public String toString() {
+			return "Registro[banco=" + banco + ", agencia=" + agencia + ", conta=" + conta + ", nossoNumero=" + nossoNumero + ", valorEmCentavos="
+					+ valorEmCentavos + ", vencimento=" + getDataDoVencimento() + ", idExterno=" + idExterno + "]";
+		}
+	}
+}
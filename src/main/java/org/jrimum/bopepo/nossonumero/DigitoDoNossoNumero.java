@@ -0,0 +1,329 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 17:02:10
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 17:02:10
+ * 
+ */
+
+
+package org.jrimum.bopepo.nossonumero;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.util.Arrays;
+
+import org.jrimum.bopepo.BancosSuportados;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.text.Filler;
+import org.jrimum.vallia.digitoverificador.Modulo;
+
+/**
+ * <p>
+ * Regras de cada banco para o nosso número: quantos dígitos são numerados
+ * pelo cedente e como se calcula o dígito verificador.
+ * </p>
+ * 
+ * <ul>
+ * <li>Bradesco: 11 dígitos, módulo 11 base 7 sobre carteira (2) + nosso
+ * número; resto 1 dá <tt>P</tt>.</li>
+ * <li>Itaú: 8 dígitos, módulo 10 sobre agência (4) + conta (5) + carteira (3)
+ * + nosso número, ou só carteira + nosso número nas carteiras 126, 131, 146,
+ * 150 e 168.</li>
+ * <li>Caixa (SIGCB): 15 dígitos, módulo 11 base 9 sobre os 17 dígitos do nosso
+ * número completo (modalidade + emissão + nosso número).</li>
+ * <li>Banco do Brasil: com convênio de 7 dígitos, 10 dígitos e sem dígito
+ * verificador; com convênio de 4 ou 6 dígitos, 11 dígitos começando pelo
+ * convênio (<tt>CCCCNNNNNNN</tt> ou <tt>CCCCCCNNNNN</tt>) e módulo 11 com
+ * pesos 9 a 2 da direita para a esquerda; resto 10 dá <tt>X</tt>. O convênio
+ * é o número da conta; com 5 dígitos ou mais de 7 não há regra.</li>
+ * </ul>
+ * 
+ * <p>
+ * Exemplos:
+ * </p>
+ * <pre>
+ * Bradesco   carteira 19, nosso número 00000000002
+ *            campo 1900000000002, soma 1x2 + 9x7 + 2x2 = 69, resto 3     DV 8
+ * Itaú       agência 0057, conta 12345, carteira 110, nosso número 12345678
+ *                                                                        DV 8
+ * Caixa      carteira com registro, nosso número 000000000000019
+ *            campo 14000000000000019, soma 1x2 + 4x9 + 1x3 + 9x2 = 59, resto 4
+ *                                                                        DV 7
+ * BB conv. 4 convênio 1234, sequência 1: nosso número 12340000001
+ *            soma 1x7 + 2x8 + 3x9 + 4x2 + 1x9 = 67, resto 1              DV 1
+ * BB conv. 6 convênio 123456, sequência 1: nosso número 12345600001
+ *            soma 1x7 + 2x8 + 3x9 + 4x2 + 5x3 + 6x4 + 1x9 = 106, resto 7 DV 7
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class DigitoDoNossoNumero {
+
+	private static final Integer[] CARTEIRAS_ITAU_SEM_CONTA = { 126, 131, 146, 150, 168 };
+
+	private static final int CAIXA_COBRANCA_REGISTRADA = 1;
+	private static final int CAIXA_COBRANCA_NAO_REGISTRADA = 2;
+	private static final int CAIXA_EMISSAO_CEDENTE = 4;
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 */
+	private DigitoDoNossoNumero() {
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * <p>
+	 * Indica se há regra de nosso número para o banco da conta.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return true se o banco é suportado
+	 * 
+	 * @since 0.2
+	 */
+	public static boolean isSuportado(ContaBancaria conta) {
+
+		BancosSuportados banco = getBanco(conta);
+
+		if (isNotNull(banco)) {
+
+			switch (banco) {
+
+			case BANCO_BRADESCO:
+			case BANCO_ITAU:
+			case CAIXA_ECONOMICA_FEDERAL:
+			case BANCO_DO_BRASIL:
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Tamanho do nosso número sem o dígito verificador. No Banco do Brasil
+	 * com convênio de 4 ou 6 dígitos o tamanho inclui o
+	 * {@linkplain #getPrefixo(ContaBancaria) convênio}.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return tamanho do nosso número
+	 * @throws IllegalArgumentException
+	 *             se não houver regra para o banco da conta
+	 * 
+	 * @since 0.2
+	 */
+	public static int getTamanho(ContaBancaria conta) {
+
+		switch (getBancoSuportado(conta)) {
+
+		case BANCO_BRADESCO:
+			return 11;
+
+		case BANCO_ITAU:
+			return 8;
+
+		case CAIXA_ECONOMICA_FEDERAL:
+			return 15;
+
+		default:
+			return isConvenioDe7Digitos(conta) ? 10 : 11;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Início fixo do nosso número da conta: o convênio no Banco do Brasil com
+	 * convênio de 4 ou 6 dígitos e vazio nos demais casos. O cedente numera
+	 * apenas os dígitos seguintes.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return prefixo do nosso número, possivelmente vazio
+	 * @throws IllegalArgumentException
+	 *             se não houver regra para o banco da conta ou o convênio do
+	 *             Banco do Brasil não tiver 4, 6 ou 7 dígitos
+	 * 
+	 * @since 0.2
+	 */
+	public static String getPrefixo(ContaBancaria conta) {
+
+		if (getBancoSuportado(conta) != BancosSuportados.BANCO_DO_BRASIL || isConvenioDe7Digitos(conta)) {
+			return "";
+		}
+
+		Objects.checkNotNull(conta.getNumeroDaConta(), "Número da conta (convênio) nulo!");
+		Objects.checkNotNull(conta.getNumeroDaConta().getCodigoDaConta(), "Código da conta (convênio) nulo!");
+
+		int convenio = conta.getNumeroDaConta().getCodigoDaConta();
+
+		if (convenio > 0 && convenio <= 9999) {
+			return Filler.ZERO_LEFT.fill(convenio, 4);
+		}
+
+		if (convenio >= 100000 && convenio <= 999999) {
+			return String.valueOf(convenio);
+		}
+
+		throw new IllegalArgumentException("Convênio [" + convenio + "] do Banco do Brasil deve ter 4, 6 ou 7 dígitos!");
+	}
+
+	/**
+	 * <p>
+	 * Calcula o dígito verificador do nosso número (já com o tamanho do
+	 * banco) de acordo com a regra do banco da conta.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @param nossoNumero
+	 * @return dígito verificador ou {@code null} quando o banco não usa dígito
+	 *         nesse tipo de nosso número
+	 * @throws IllegalArgumentException
+	 *             se não houver regra para o banco da conta ou o nosso número
+	 *             não tiver o tamanho esperado ou não começar pelo
+	 *             {@linkplain #getPrefixo(ContaBancaria) prefixo}
+	 * 
+	 * @since 0.2
+	 */
+	public static String calcule(ContaBancaria conta, String nossoNumero) {
+
+		Objects.checkNotNull(nossoNumero, "Nosso número nulo!");
+
+		if (nossoNumero.length() != getTamanho(conta)) {
+			throw new IllegalArgumentException("Nosso número [" + nossoNumero + "] com tamanho diferente de " + getTamanho(conta) + " dígitos!");
+		}
+
+		String prefixo = getPrefixo(conta);
+
+		if (!nossoNumero.startsWith(prefixo)) {
+			throw new IllegalArgumentException("Nosso número [" + nossoNumero + "] deve começar pelo convênio " + prefixo + "!");
+		}
+
+		switch (getBancoSuportado(conta)) {
+
+		case BANCO_BRADESCO:
+			return calculeBradesco(conta, nossoNumero);
+
+		case BANCO_ITAU:
+			return calculeItau(conta, nossoNumero);
+
+		case CAIXA_ECONOMICA_FEDERAL:
+			return calculeCaixa(conta, nossoNumero);
+
+		default:
+			return isConvenioDe7Digitos(conta) ? null : calculeBancoDoBrasil(nossoNumero);
+		}
+	}
+
+	private static String calculeBradesco(ContaBancaria conta, String nossoNumero) {
+
+		checkCarteira(conta);
+
+		int resto = Modulo.calculeMod11(Filler.ZERO_LEFT.fill(conta.getCarteira().getCodigo(), 2) + nossoNumero, 2, 7);
+
+		if (resto == 0) {
+			return "0";
+		}
+
+		if (resto == 1) {
+			return "P";
+		}
+
+		return String.valueOf(Modulo.MOD11 - resto);
+	}
+
+	private static String calculeItau(ContaBancaria conta, String nossoNumero) {
+
+		checkCarteira(conta);
+
+		StringBuilder campo = new StringBuilder(20);
+
+		if (Arrays.binarySearch(CARTEIRAS_ITAU_SEM_CONTA, conta.getCarteira().getCodigo()) < 0) {
+
+			Filler.ZERO_LEFT.fill(conta.getAgencia().getCodigo().intValue(), 4, campo);
+			Filler.ZERO_LEFT.fill(conta.getNumeroDaConta().getCodigoDaConta().intValue(), 5, campo);
+		}
+
+		Filler.ZERO_LEFT.fill(conta.getCarteira().getCodigo().intValue(), 3, campo);
+		campo.append(nossoNumero);
+
+		int digito = Modulo.MOD10 - Modulo.calculeMod10(campo.toString(), 1, 2);
+
+		return String.valueOf(digito > 9 ? 0 : digito);
+	}
+
+	private static String calculeCaixa(ContaBancaria conta, String nossoNumero) {
+
+		checkCarteira(conta);
+
+		int modalidade = conta.getCarteira().isComRegistro() ? CAIXA_COBRANCA_REGISTRADA : CAIXA_COBRANCA_NAO_REGISTRADA;
+
+		int digito = Modulo.MOD11 - Modulo.calculeMod11("" + modalidade + CAIXA_EMISSAO_CEDENTE + nossoNumero, 2, 9);
+
+		return String.valueOf(digito > 9 ? 0 : digito);
+	}
+
+	private static String calculeBancoDoBrasil(String nossoNumero) {
+
+		int resto = (Modulo.MOD11 - Modulo.calculeMod11(nossoNumero, 2, 9)) % Modulo.MOD11;
+
+		return resto == 10 ? "X" : String.valueOf(resto);
+	}
+
+	private static boolean isConvenioDe7Digitos(ContaBancaria conta) {
+
+		return isNotNull(conta.getNumeroDaConta()) && isNotNull(conta.getNumeroDaConta().getCodigoDaConta())
+				&& conta.getNumeroDaConta().getCodigoDaConta() >= 1000000;
+	}
+
+	private static void checkCarteira(ContaBancaria conta) {
+
+		Objects.checkNotNull(conta.getCarteira(), "Carteira da conta nula!");
+		Objects.checkNotNull(conta.getCarteira().getCodigo(), "Código da carteira nulo!");
+	}
+
+	private static BancosSuportados getBanco(ContaBancaria conta) {
+
+		Objects.checkNotNull(conta, "Conta bancária nula!");
+		Objects.checkNotNull(conta.getBanco(), "Banco da conta nulo!");
+
+		return BancosSuportados.suportados.get(conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado());
+	}
+
+	private static BancosSuportados getBancoSuportado(ContaBancaria conta) {
+
+		if (!isSuportado(conta)) {
+			throw new IllegalArgumentException("Banco sem regra de nosso número: " + conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado());
+		}
+
+		return getBanco(conta);
+	}
+}
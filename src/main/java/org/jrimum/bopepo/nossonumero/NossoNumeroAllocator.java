@@ -0,0 +1,601 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 17:02:10
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 17:02:10
+ * 
+ */
+
+
+package org.jrimum.bopepo.nossonumero;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang.ObjectUtils;
+import org.apache.log4j.Logger;
+import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
+import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Alocador de nossos números sem ida ao banco de dados por título. Para cada
+ * conta (banco, agência, conta e carteira) o alocador reserva uma faixa de
+ * números de uma vez e a entrega sem bloqueio: dentro da faixa, cada número
+ * custa um incremento atômico; só quem encontra a faixa esgotada reserva a
+ * próxima.
+ * </p>
+ * 
+ * <p>
+ * O fim da última faixa reservada de cada conta (a marca d'água) fica em um
+ * arquivo local mapeado em memória, gravado em disco a cada reserva. Um
+ * número nunca é entregue duas vezes, mesmo depois de uma queda; o que se
+ * perde numa queda é apenas o resto da faixa corrente. O arquivo é travado
+ * enquanto o alocador estiver aberto, para que dois processos não
+ * compartilhem a mesma numeração.
+ * </p>
+ * 
+ * <p>
+ * O tamanho do nosso número e o dígito verificador seguem as regras de
+ * {@link DigitoDoNossoNumero}. Quando o nosso número tem um
+ * {@linkplain DigitoDoNossoNumero#getPrefixo(ContaBancaria) prefixo} (o
+ * convênio de 4 ou 6 dígitos do Banco do Brasil), só os dígitos seguintes são
+ * numerados e a faixa encolhe na mesma medida. Os números começam em 1; para
+ * continuar uma numeração existente use {@link #skipTo(ContaBancaria, long)}.
+ * </p>
+ * 
+ * <p>
+ * A numeração de cada objeto {@link ContaBancaria} é resolvida uma vez e
+ * reaproveitada enquanto banco, agência, conta e carteira não mudarem; use
+ * a mesma instância da conta para todos os títulos do lote.
+ * </p>
+ * 
+ * <pre>
+ * NossoNumeroAllocator alocador = new NossoNumeroAllocator(new File(&quot;nossonumero.dat&quot;));
+ * 
+ * alocador.allocate(titulo); // preenche nossoNumero e digitoDoNossoNumero
+ * </pre>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class NossoNumeroAllocator implements Closeable {
+
+	private static Logger log = Logger.getLogger(NossoNumeroAllocator.class);
+
+	private static final byte[] MAGICO = "BOPEPONN".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * <p>
+	 * Cada conta ocupa uma posição de 64 bytes no arquivo: a chave em ASCII
+	 * (completada com zeros) e, nos 8 últimos bytes, a marca d'água. A
+	 * primeira posição é o cabeçalho.
+	 * </p>
+	 */
+	private static final int TAMANHO_DA_POSICAO = 64;
+	private static final int TAMANHO_DA_CHAVE = TAMANHO_DA_POSICAO - 8;
+
+	private static final int POSICOES_PADRAO = 4096;
+	private static final int LOTE_PADRAO = 1000;
+
+	private final int tamanhoDoLote;
+
+	private final RandomAccessFile arquivo;
+	private final FileLock trava;
+	private final MappedByteBuffer mapa;
+	private final int capacidade;
+
+	private final Map<String, Sequencia> sequencias = new ConcurrentHashMap<String, Sequencia>();
+	private final Map<ContaBancaria, Sequencia> resolvidas = new ConcurrentHashMap<ContaBancaria, Sequencia>();
+	private final Map<String, Integer> posicoes = new ConcurrentHashMap<String, Integer>();
+	private int ocupadas;
+
+	private volatile boolean fechado;
+
+	/**
+	 * <p>
+	 * Abre (ou cria) o arquivo de marcas d'água com faixas de 1000 números.
+	 * </p>
+	 * 
+	 * @param arquivo
+	 * @throws IOException
+	 * 
+	 * @since 0.2
+	 */
+	public NossoNumeroAllocator(File arquivo) throws IOException {
+
+		this(arquivo, LOTE_PADRAO);
+	}
+
+	/**
+	 * <p>
+	 * Abre (ou cria) o arquivo de marcas d'água. Faixas maiores significam
+	 * menos gravações no arquivo e mais números perdidos numa queda.
+	 * </p>
+	 * 
+	 * @param arquivo
+	 *            - Arquivo das marcas d'água
+	 * @param tamanhoDoLote
+	 *            - Quantidade de números reservados de cada vez
+	 * @throws IOException
+	 * @throws IllegalStateException
+	 *             se o arquivo estiver em uso por outro alocador ou não for
+	 *             um arquivo de marcas d'água
+	 * 
+	 * @since 0.2
+	 */
+	public NossoNumeroAllocator(File arquivo, int tamanhoDoLote) throws IOException {
+
+		Objects.checkNotNull(arquivo, "Arquivo nulo!");
+
+		if (tamanhoDoLote < 1) {
+			throw new IllegalArgumentException("Tamanho do lote deve ser positivo: " + tamanhoDoLote);
+		}
+
+		this.tamanhoDoLote = tamanhoDoLote;
+		this.arquivo = new RandomAccessFile(arquivo, "rw");
+
+		try {
+
+			FileChannel canal = this.arquivo.getChannel();
+
+			FileLock lock;
+
+			try {
+
+				lock = canal.tryLock();
+
+			} catch (OverlappingFileLockException e) {
+
+				lock = null;
+			}
+
+			if (isNull(lock)) {
+				throw new IllegalStateException("Arquivo de nosso número em uso por outro alocador: " + arquivo);
+			}
+
+			this.trava = lock;
+
+			boolean novo = canal.size() == 0;
+
+			long tamanho = novo ? (long) (POSICOES_PADRAO + 1) * TAMANHO_DA_POSICAO : canal.size();
+
+			this.mapa = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+			this.capacidade = (int) (tamanho / TAMANHO_DA_POSICAO) - 1;
+
+			if (novo) {
+
+				mapa.put(0, MAGICO);
+				mapa.force();
+
+			} else {
+
+				carregar(arquivo);
+			}
+
+		} catch (IOException e) {
+
+			this.arquivo.close();
+			throw e;
+
+		} catch (RuntimeException e) {
+
+			this.arquivo.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Aloca o próximo nosso número da conta do título e preenche o nosso
+	 * número e o seu dígito verificador no título.
+	 * </p>
+	 * 
+	 * @param titulo
+	 * 
+	 * @since 0.2
+	 */
+	public void allocate(Titulo titulo) {
+
+		Objects.checkNotNull(titulo, "Título nulo!");
+
+		String nossoNumero = next(titulo.getContaBancaria());
+
+		titulo.setNossoNumero(nossoNumero);
+		titulo.setDigitoDoNossoNumero(DigitoDoNossoNumero.calcule(titulo.getContaBancaria(), nossoNumero));
+	}
+
+	/**
+	 * <p>
+	 * Aloca o próximo nosso número da conta, já com o tamanho e o prefixo do
+	 * banco e sem o dígito verificador.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @return nosso número
+	 * @throws IllegalStateException
+	 *             se a numeração da conta tiver se esgotado
+	 * 
+	 * @since 0.2
+	 */
+	public String next(ContaBancaria conta) {
+
+		Sequencia sequencia = getSequencia(conta);
+
+		for (;;) {
+
+			if (fechado) {
+				throw new IllegalStateException("Alocador fechado.");
+			}
+
+			Faixa faixa = sequencia.faixa;
+
+			long numero = faixa.proximo.getAndIncrement();
+
+			if (numero < faixa.fim) {
+				return sequencia.formatar(numero);
+			}
+
+			reservar(sequencia, faixa);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Garante que os próximos números da conta sejam maiores que
+	 * <code>ultimo</code>, por exemplo o último número entregue pela
+	 * numeração anterior, sem o prefixo. Números menores ou iguais já reservados não são
+	 * afetados.
+	 * </p>
+	 * 
+	 * @param conta
+	 * @param ultimo
+	 * 
+	 * @since 0.2
+	 */
+	public void skipTo(ContaBancaria conta, long ultimo) {
+
+		Sequencia sequencia = getSequencia(conta);
+
+		synchronized (sequencia) {
+
+			if (getMarca(sequencia.posicao) <= ultimo) {
+
+				setMarca(sequencia.posicao, ultimo + 1);
+
+				sequencia.faixa = Faixa.VAZIA;
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Libera o arquivo. Os números restantes das faixas correntes não são
+	 * entregues por outro alocador.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public void close() throws IOException {
+
+		synchronized (sequencias) {
+
+			if (!fechado) {
+
+				fechado = true;
+
+				mapa.force();
+				trava.release();
+				arquivo.close();
+			}
+		}
+	}
+
+	private void reservar(Sequencia sequencia, Faixa esgotada) {
+
+		synchronized (sequencia) {
+
+			if (sequencia.faixa != esgotada) {
+				return;
+			}
+
+			if (fechado) {
+				throw new IllegalStateException("Alocador fechado.");
+			}
+
+			long inicio = getMarca(sequencia.posicao);
+
+			if (inicio > sequencia.maximo) {
+				throw new IllegalStateException("Numeração esgotada para a conta " + sequencia.chave);
+			}
+
+			long fim = Math.min(inicio + tamanhoDoLote, sequencia.maximo + 1);
+
+			setMarca(sequencia.posicao, fim);
+
+			sequencia.faixa = new Faixa(inicio, fim);
+
+			if (log.isDebugEnabled()) {
+				log.debug("Faixa reservada para " + sequencia.chave + ": " + inicio + " a " + (fim - 1));
+			}
+		}
+	}
+
+	private Sequencia getSequencia(ContaBancaria conta) {
+
+		Objects.checkNotNull(conta, "Conta bancária nula!");
+
+		Sequencia sequencia = resolvidas.get(conta);
+
+		if (isNull(sequencia) || !sequencia.isDa(conta)) {
+
+			sequencia = resolver(conta);
+
+			if (resolvidas.size() >= capacidade) {
+				resolvidas.clear();
+			}
+
+			resolvidas.put(conta, sequencia);
+		}
+
+		return sequencia;
+	}
+
+	private Sequencia resolver(ContaBancaria conta) {
+
+		String prefixo = DigitoDoNossoNumero.getPrefixo(conta);
+
+		String chave = getChave(conta, DigitoDoNossoNumero.getTamanho(conta) - prefixo.length());
+
+		Sequencia sequencia = sequencias.get(chave);
+
+		if (isNull(sequencia)) {
+
+			synchronized (sequencias) {
+
+				sequencia = sequencias.get(chave);
+
+				if (isNull(sequencia)) {
+
+					if (fechado) {
+						throw new IllegalStateException("Alocador fechado.");
+					}
+
+					Integer posicao = posicoes.get(chave);
+
+					if (isNull(posicao)) {
+
+						if (ocupadas == capacidade) {
+							throw new IllegalStateException("Arquivo de nosso número cheio: " + capacidade + " contas.");
+						}
+
+						posicao = ++ocupadas;
+
+						byte[] bytes = chave.getBytes(StandardCharsets.US_ASCII);
+
+						mapa.put(posicao * TAMANHO_DA_POSICAO, bytes);
+						setMarca(posicao, 1);
+
+						posicoes.put(chave, posicao);
+					}
+
+					sequencia = new Sequencia(conta, chave, posicao, prefixo, DigitoDoNossoNumero.getTamanho(conta) - prefixo.length());
+					sequencias.put(chave, sequencia);
+				}
+			}
+		}
+
+		return sequencia;
+	}
+
+	private void carregar(File origem) {
+
+		byte[] magico = new byte[MAGICO.length];
+		mapa.get(0, magico);
+
+		if (!Arrays.equals(magico, MAGICO)) {
+			throw new IllegalStateException("Não é um arquivo de nosso número: " + origem);
+		}
+
+		byte[] bytes = new byte[TAMANHO_DA_CHAVE];
+
+		for (int posicao = 1; posicao <= capacidade; posicao++) {
+
+			mapa.get(posicao * TAMANHO_DA_POSICAO, bytes);
+
+			int tamanho = 0;
+
+			while (tamanho < bytes.length && bytes[tamanho] != 0) {
+				tamanho++;
+			}
+
+			if (tamanho == 0) {
+				break;
+			}
+
+			posicoes.put(new String(bytes, 0, tamanho, StandardCharsets.US_ASCII), posicao);
+			ocupadas = posicao;
+		}
+	}
+
+	private long getMarca(int posicao) {
+
+		return mapa.getLong(posicao * TAMANHO_DA_POSICAO + TAMANHO_DA_CHAVE);
+	}
+
+	private void setMarca(int posicao, long marca) {
+
+		mapa.putLong(posicao * TAMANHO_DA_POSICAO + TAMANHO_DA_CHAVE, marca);
+		mapa.force();
+	}
+
+	/**
+	 * <p>
+	 * Chave da conta: banco/agência/conta/carteira:dígitos, onde dígitos é a
+	 * quantidade de dígitos numerados (sem o prefixo). Ela entra na chave para
+	 * que uma mudança de regra (convênio, por exemplo) comece outra numeração
+	 * em vez de reaproveitar a antiga.
+	 * </p>
+	 */
+	private static String getChave(ContaBancaria conta, int digitos) {
+
+		Objects.checkNotNull(conta, "Conta bancária nula!");
+		Objects.checkNotNull(conta.getBanco(), "Banco da conta nulo!");
+
+		StringBuilder chave = new StringBuilder(TAMANHO_DA_CHAVE);
+
+		chave.append(conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado());
+		chave.append('/').append(isNotNull(conta.getAgencia()) ? conta.getAgencia().getCodigo() : "");
+		chave.append('/').append(isNotNull(conta.getNumeroDaConta()) ? conta.getNumeroDaConta().getCodigoDaConta() : "");
+		chave.append('/').append(isNotNull(conta.getCarteira()) ? conta.getCarteira().getCodigo() : "");
+		chave.append(':').append(digitos);
+
+		if (chave.length() > TAMANHO_DA_CHAVE) {
+			throw new IllegalArgumentException("Chave da conta muito longa: " + chave);
+		}
+
+		return chave.toString();
+	}
+
+	private static Integer getCodigoDoBanco(ContaBancaria conta) {
+
+		return isNotNull(conta.getBanco()) && isNotNull(conta.getBanco().getCodigoDeCompensacaoBACEN())
+				? conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigo() : null;
+	}
+
+	private static Integer getCodigoDaAgencia(ContaBancaria conta) {
+
+		return isNotNull(conta.getAgencia()) ? conta.getAgencia().getCodigo() : null;
+	}
+
+	private static Integer getCodigoDaConta(ContaBancaria conta) {
+
+		return isNotNull(conta.getNumeroDaConta()) ? conta.getNumeroDaConta().getCodigoDaConta() : null;
+	}
+
+	private static Integer getCodigoDaCarteira(ContaBancaria conta) {
+
+		return isNotNull(conta.getCarteira()) ? conta.getCarteira().getCodigo() : null;
+	}
+
+	/**
+	 * <p>
+	 * Numeração de uma conta e a sua faixa corrente. Guarda os códigos que
+	 * formam a chave para reconhecer, sem montar a chave de novo, uma conta já
+	 * resolvida.
+	 * </p>
+	 */
+	private static final class Sequencia {
+
+		final String chave;
+		final int posicao;
+		final String prefixo;
+		final int tamanho;
+		final long maximo;
+
+		final Integer banco;
+		final Integer agencia;
+		final Integer conta;
+		final Integer carteira;
+
+		volatile Faixa faixa = Faixa.VAZIA;
+
+		Sequencia(ContaBancaria conta, String chave, int posicao, String prefixo, int tamanho) {
+
+			this.banco = getCodigoDoBanco(conta);
+			this.agencia = getCodigoDaAgencia(conta);
+			this.conta = getCodigoDaConta(conta);
+			this.carteira = getCodigoDaCarteira(conta);
+
+			this.chave = chave;
+			this.posicao = posicao;
+			this.prefixo = prefixo;
+			this.tamanho = tamanho;
+
+			long maximo = 1;
+
+			for (int i = 0; i < tamanho; i++) {
+				maximo *= 10;
+			}
+
+			this.maximo = maximo - 1;
+		}
+
+		boolean isDa(ContaBancaria outra) {
+
+			return ObjectUtils.equals(banco, getCodigoDoBanco(outra)) && ObjectUtils.equals(agencia, getCodigoDaAgencia(outra))
+					&& ObjectUtils.equals(conta, getCodigoDaConta(outra)) && ObjectUtils.equals(carteira, getCodigoDaCarteira(outra));
+		}
+
+		String formatar(long numero) {
+
+			char[] digitos = new char[prefixo.length() + tamanho];
+
+			prefixo.getChars(0, prefixo.length(), digitos, 0);
+
+			for (int i = digitos.length - 1; i >= prefixo.length(); i--, numero /= 10) {
+				digitos[i] = (char) ('0' + numero % 10);
+			}
+
+			return new String(digitos);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Faixa reservada: números de <code>proximo</code> até <code>fim</code>
+	 * (exclusive).
+	 * </p>
+	 */
+	private static final class Faixa {
+
+		static final Faixa VAZIA = new Faixa(0, 0);
+
+		final AtomicLong proximo;
+		final long fim;
+
+		Faixa(long inicio, long fim) {
+
+			this.proximo = new AtomicLong(inicio);
+			this.fim = fim;
+		}
+	}
+}
@@ -141,7 +141,7 @@ public class Files {
 
 		Objects.checkNotNull(bytes);
 
-		ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+		ByteArrayOutputStream byteOut = new ByteArrayOutputStream(bytes.length);
 		byteOut.write(bytes);
 
 		return byteOut;
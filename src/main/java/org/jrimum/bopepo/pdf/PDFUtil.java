@@ -32,11 +32,11 @@ package org.jrimum.bopepo.pdf;
 
 import static org.jrimum.utilix.Objects.isNotNull;
 
-import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.log4j.Logger;
+import org.jrimum.utilix.BufferPool;
 
 import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
@@ -148,11 +148,11 @@ public class PDFUtil{
 			ArrayList master = null;
 			Document document = null;
 			PdfCopy writer = null;
-			ByteArrayOutputStream byteOS = null;
+			BufferPool.Buffer byteOS = null;
 
 			try {
 
-				byteOS = new ByteArrayOutputStream();
+				byteOS = BufferPool.getDefault().acquire("mergeFiles");
 				master = new ArrayList();
 
 				for (byte[] doc : pdfFiles) {
@@ -222,6 +222,8 @@ public class PDFUtil{
 
 				bytes = byteOS.toByteArray();
 
+				BufferPool.getDefault().release(byteOS);
+
 			} catch (Exception e) {
 				LOG.error("", e);
 			}
@@ -0,0 +1,93 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 09:20:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 09:20:05
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.io.IOException;
+
+import org.jrimum.bopepo.pdf.PDFUtil;
+import org.jrimum.bopepo.pdf.RectanglePDF;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+import com.lowagie.text.pdf.AcroFields;
+import com.lowagie.text.pdf.PdfStamper;
+
+/**
+ * <p>
+ * Escreve os campos através do formulário (<em>AcroForm</em>) do template,
+ * que depois é achatado pelo {@link PdfViewer} ao finalizar o documento.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class AcroFormFieldWriter implements FieldWriter {
+
+	private final PdfStamper stamper;
+	private final AcroFields form;
+
+	AcroFormFieldWriter(PdfStamper stamper) {
+
+		this.stamper = stamper;
+		this.form = stamper.getAcroFields();
+	}
+
+	public void setText(String campo, String valor) throws IOException, DocumentException {
+
+		form.setField(campo, valor);
+	}
+
+	public void setImage(String campo, Image imagem) throws DocumentException {
+
+		float[] posicoes = form.getFieldPositions(campo);
+
+		if (isNotNull(posicoes)) {
+			PDFUtil.changeFieldToImage(stamper, posicoes, imagem);
+		}
+	}
+
+	public void setBarcode(String campo, String codigo) {
+
+		// Verifcando se existe o field(campo) do código no template do boleto.
+		float[] posicoes = form.getFieldPositions(campo);
+
+		if (isNotNull(posicoes)) {
+
+			RectanglePDF field = new RectanglePDF(posicoes);
+
+			BarcodeViewer.draw(stamper.getOverContent(field.getPage()), codigo, field);
+		}
+	}
+}
@@ -0,0 +1,674 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 15:10:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 15:10:44
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Geração assíncrona de boletos em PDF, para quem não pode prender uma thread
+ * durante toda a geração (uma requisição web, por exemplo).
+ * </p>
+ * 
+ * <p>
+ * Os boletos são gerados por um número fixo de threads que consomem uma fila
+ * limitada. Quando a fila enche, o comportamento segue a
+ * {@link SaturationPolicy} escolhida, de forma que um pico de pedidos não
+ * acumule trabalho (e PDFs em memória) sem limite.
+ * </p>
+ * 
+ * <p>
+ * Exemplo:
+ * 
+ * <pre>
+ * AsyncBoletoViewer viewer = new AsyncBoletoViewer(4, 100, SaturationPolicy.REJECT);
+ * 
+ * viewer.renderAsync(boleto).thenAccept(pdf -&gt; ...);
+ * </pre>
+ * 
+ * </p>
+ * 
+ * <p>
+ * Instâncias são seguras para uso por várias threads. Ao final do uso, chame
+ * {@link #shutdown()}.
+ * </p>
+ * 
+ * @see BoletoViewer
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class AsyncBoletoViewer {
+
+	private static Logger log = Logger.getLogger(AsyncBoletoViewer.class);
+
+	/**
+	 * <p>
+	 * O que fazer com um pedido quando a fila de trabalho está cheia.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public enum SaturationPolicy {
+
+		/**
+		 * O pedido é recusado: o future é completado com uma
+		 * {@link RejectedExecutionException}.
+		 */
+		REJECT,
+
+		/**
+		 * O boleto é gerado na própria thread que fez o pedido, o que reduz o
+		 * ritmo de quem está pedindo.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * A thread que fez o pedido espera até haver espaço na fila. Em
+		 * {@link AsyncBoletoViewer#renderAll(Iterable)} nenhuma thread espera:
+		 * a assinatura retoma o agendamento quando uma geração termina.
+		 */
+		BLOCK
+	}
+
+	private final ThreadPoolExecutor executor;
+
+	private final int parallelism;
+
+	private final SaturationPolicy policy;
+
+	/**
+	 * Configurações de geração. Nunca é alterado depois de publicado: cada
+	 * mudança troca a instância inteira.
+	 */
+	private volatile BoletoViewer configuracao = new BoletoViewer();
+
+	/**
+	 * Assinaturas de {@link #renderAll(Iterable)} esperando espaço na fila
+	 * (política {@link SaturationPolicy#BLOCK}); acordadas ao fim de cada
+	 * geração.
+	 */
+	private final ConcurrentLinkedQueue<BatchSubscription> aguardandoEspaco = new ConcurrentLinkedQueue<BatchSubscription>();
+
+	/**
+	 * <p>
+	 * Gerador com uma thread por processador, fila para 16 boletos por thread
+	 * e bloqueio de quem pede quando a fila enche.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public AsyncBoletoViewer() {
+
+		this(Runtime.getRuntime().availableProcessors(), 16 * Runtime.getRuntime().availableProcessors(), SaturationPolicy.BLOCK);
+	}
+
+	/**
+	 * @param parallelism
+	 *            - Quantidade de boletos gerados ao mesmo tempo
+	 * @param queueCapacity
+	 *            - Quantidade de boletos aguardando geração
+	 * @param policy
+	 *            - O que fazer quando a fila estiver cheia
+	 * 
+	 * @since 0.2
+	 */
+	public AsyncBoletoViewer(int parallelism, int queueCapacity, SaturationPolicy policy) {
+
+		if (parallelism < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Paralelismo e capacidade da fila devem ser maiores que zero! Paralelismo: " + parallelism + ", capacidade: " + queueCapacity);
+		}
+
+		Objects.checkNotNull(policy, "Política de saturação nula!");
+
+		this.parallelism = parallelism;
+		this.policy = policy;
+
+		this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), new RenderThreadFactory(), handlerFor(policy)) {
+
+			@Override
+			protected void afterExecute(Runnable r, Throwable t) {
+
+				BatchSubscription subscription = aguardandoEspaco.poll();
+
+				if (isNotNull(subscription)) {
+
+					subscription.aguardando.set(false);
+					subscription.drain();
+				}
+			}
+		};
+
+		this.executor.prestartAllCoreThreads();
+	}
+
+	/**
+	 * <p>
+	 * Usa as configurações do visualizador informado (template, modo de
+	 * desenho, caches, modo determinístico e perfil de saída) na geração dos
+	 * próximos boletos. As configurações são copiadas: mudanças posteriores
+	 * no visualizador não têm efeito aqui.
+	 * </p>
+	 * 
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized AsyncBoletoViewer setViewer(BoletoViewer boletoViewer) {
+
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		this.configuracao = boletoViewer.copiar(null);
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Define o template usado na geração dos próximos boletos.
+	 * </p>
+	 * 
+	 * @param template
+	 *            - Template ou {@code null} para o padrão
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized AsyncBoletoViewer setTemplate(File template) {
+
+		BoletoViewer nova = configuracao.copiar(null);
+
+		nova.getPdfViewer().setTemplate(template);
+
+		this.configuracao = nova;
+
+		return this;
+	}
+
+	/**
+	 * @see BoletoViewer#setDirectDraw(boolean)
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized AsyncBoletoViewer setDirectDraw(boolean directDraw) {
+
+		this.configuracao = configuracao.copiar(null).setDirectDraw(directDraw);
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Agenda a geração do boleto em PDF.
+	 * </p>
+	 * 
+	 * @param boleto
+	 * @return future com o PDF; completado com erro caso a geração falhe ou o
+	 *         pedido seja recusado
+	 * 
+	 * @since 0.2
+	 */
+	public CompletableFuture<byte[]> renderAsync(final Boleto boleto) {
+
+		Objects.checkNotNull(boleto);
+
+		try {
+
+			return agendar(boleto, true);
+
+		} catch (RejectedExecutionException e) {
+
+			return recusado(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gera os boletos sob demanda de quem assina o publisher, entregando os
+	 * PDFs na ordem dos boletos.
+	 * </p>
+	 * 
+	 * <p>
+	 * Um boleto só é agendado quando há demanda (<code>request(n)</code>) para
+	 * ele, e no máximo {@code parallelism} boletos de cada assinatura estão em
+	 * geração ao mesmo tempo. Assim, um assinante lento (gravando em disco ou
+	 * na rede, por exemplo) segura a geração em vez de acumular PDFs em
+	 * memória. A primeira falha encerra a assinatura com
+	 * <code>onError</code>.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Boletos a gerar; percorridos uma vez por assinatura
+	 * @return publisher dos PDFs
+	 * 
+	 * @since 0.2
+	 */
+	public Flow.Publisher<byte[]> renderAll(final Iterable<Boleto> boletos) {
+
+		Objects.checkNotNull(boletos);
+
+		return new Flow.Publisher<byte[]>() {
+
+			public void subscribe(Flow.Subscriber<? super byte[]> subscriber) {
+
+				Objects.checkNotNull(subscriber);
+
+				BatchSubscription subscription = new BatchSubscription(subscriber, boletos.iterator());
+
+				subscriber.onSubscribe(subscription);
+			}
+		};
+	}
+
+	/**
+	 * <p>
+	 * Encerra as threads após a geração dos boletos já agendados. Novos
+	 * pedidos são recusados.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public void shutdown() {
+
+		executor.shutdown();
+	}
+
+	/**
+	 * <p>
+	 * Coloca a geração do boleto na fila. Sem {@code podeEsperar}, a política
+	 * {@link SaturationPolicy#BLOCK} não espera por espaço: com a fila cheia
+	 * o pedido é recusado, para que uma thread de geração (que é quem esvazia
+	 * a fila) nunca fique parada esperando por ela mesma.
+	 * </p>
+	 * 
+	 * @throws RejectedExecutionException
+	 *             Caso o pedido seja recusado.
+	 */
+	private CompletableFuture<byte[]> agendar(final Boleto boleto, boolean podeEsperar) {
+
+		final BoletoViewer configuracao = this.configuracao;
+		final CompletableFuture<byte[]> pdf = new CompletableFuture<byte[]>();
+
+		Runnable geracao = new Runnable() {
+
+			public void run() {
+
+				if (pdf.isDone()) {
+					return;
+				}
+
+				try {
+
+					pdf.complete(configuracao.copiar(boleto).getPdfAsByteArray());
+
+				} catch (Throwable e) {
+
+					pdf.completeExceptionally(e);
+				}
+			}
+		};
+
+		if (podeEsperar || policy != SaturationPolicy.BLOCK) {
+
+			executor.execute(geracao);
+
+		} else if (executor.isShutdown() || !executor.getQueue().offer(geracao)
+				|| (executor.isShutdown() && executor.remove(geracao))) {
+
+			throw new RejectedExecutionException("Fila de geração cheia!");
+		}
+
+		return pdf;
+	}
+
+	private static CompletableFuture<byte[]> recusado(RejectedExecutionException e) {
+
+		if (log.isDebugEnabled()) {
+			log.debug("Pedido de geração recusado: " + e.getLocalizedMessage());
+		}
+
+		CompletableFuture<byte[]> recusado = new CompletableFuture<byte[]>();
+		recusado.completeExceptionally(e);
+
+		return recusado;
+	}
+
+	private static RejectedExecutionHandler handlerFor(SaturationPolicy policy) {
+
+		switch (policy) {
+
+		case CALLER_RUNS:
+			return new ThreadPoolExecutor.CallerRunsPolicy();
+
+		case BLOCK:
+			return new RejectedExecutionHandler() {
+
+				public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+
+					if (executor.isShutdown()) {
+						throw new RejectedExecutionException("Gerador de boletos encerrado!");
+					}
+
+					try {
+
+						executor.getQueue().put(r);
+
+					} catch (InterruptedException e) {
+
+						Thread.currentThread().interrupt();
+
+						throw new RejectedExecutionException("Interrompido enquanto aguardava espaço na fila!", e);
+					}
+				}
+			};
+
+		default:
+			return new ThreadPoolExecutor.AbortPolicy();
+		}
+	}
+
+	/**
+	 * Threads <em>daemon</em> com nome identificável.
+	 */
+	private static final class RenderThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger POOL = new AtomicInteger();
+
+		private final int pool = POOL.incrementAndGet();
+
+		private final AtomicInteger contador = new AtomicInteger();
+
+		public Thread newThread(Runnable r) {
+
+			Thread thread = new Thread(r, "bopepo-render-" + pool + "-" + contador.incrementAndGet());
+			thread.setDaemon(true);
+
+			return thread;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Assinatura de um lote: agenda conforme a demanda e entrega em ordem.
+	 * </p>
+	 * 
+	 * <p>
+	 * Todo o estado, exceto a demanda, o cancelamento e o erro de demanda,
+	 * só é acessado dentro de {@link #drain()}, que nunca executa em duas
+	 * threads ao mesmo tempo e nunca espera por espaço na fila: com a fila
+	 * cheia, o boleto fica pendente e a assinatura é acordada pela próxima
+	 * geração concluída.
+	 * </p>
+	 */
+	private final class BatchSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super byte[]> subscriber;
+
+		private final Iterator<Boleto> boletos;
+
+		private final Deque<CompletableFuture<byte[]>> emGeracao = new ArrayDeque<CompletableFuture<byte[]>>();
+
+		private final AtomicLong demanda = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private final BiConsumer<byte[], Throwable> aoConcluir = new BiConsumer<byte[], Throwable>() {
+
+			public void accept(byte[] pdf, Throwable erro) {
+				drain();
+			}
+		};
+
+		private final AtomicBoolean aguardando = new AtomicBoolean();
+
+		private volatile boolean cancelado;
+
+		private volatile Throwable erroDeDemanda;
+
+		private boolean terminado;
+
+		private Boleto pendente;
+
+		BatchSubscription(Flow.Subscriber<? super byte[]> subscriber, Iterator<Boleto> boletos) {
+
+			this.subscriber = subscriber;
+			this.boletos = boletos;
+		}
+
+		public void request(long n) {
+
+			if (n <= 0) {
+
+				erroDeDemanda = new IllegalArgumentException("Demanda deve ser maior que zero: " + n);
+
+				drain();
+
+				return;
+			}
+
+			long atual;
+			long nova;
+
+			do {
+				atual = demanda.get();
+				nova = atual + n < 0 ? Long.MAX_VALUE : atual + n;
+			} while (!demanda.compareAndSet(atual, nova));
+
+			drain();
+		}
+
+		public void cancel() {
+
+			cancelado = true;
+
+			drain();
+		}
+
+		private void drain() {
+
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			try {
+
+				drenar();
+
+			} catch (Throwable e) {
+
+				// Falha do iterador dos boletos ou do próprio assinante: a
+				// assinatura termina com erro e deixa de ser drenada.
+				cancelarEmGeracao();
+
+				boolean avisar = !terminado;
+
+				terminado = true;
+				wip.set(0);
+
+				if (avisar) {
+					subscriber.onError(e);
+				} else {
+					log.warn("Erro no assinante após o fim da assinatura: " + e.getLocalizedMessage(), e);
+				}
+			}
+		}
+
+		private void drenar() {
+
+			do {
+
+				if (terminado) {
+					continue;
+				}
+
+				if (isNotNull(erroDeDemanda)) {
+
+					cancelarEmGeracao();
+					terminado = true;
+
+					subscriber.onError(erroDeDemanda);
+
+					continue;
+				}
+
+				if (cancelado) {
+
+					cancelarEmGeracao();
+					terminado = true;
+
+					continue;
+				}
+
+				// Entrega, em ordem, o que já ficou pronto.
+				while (!emGeracao.isEmpty() && emGeracao.peekFirst().isDone() && demanda.get() > 0) {
+
+					byte[] pdf;
+
+					try {
+
+						pdf = emGeracao.pollFirst().join();
+
+					} catch (CompletionException e) {
+
+						cancelarEmGeracao();
+						terminado = true;
+
+						subscriber.onError(isNotNull(e.getCause()) ? e.getCause() : e);
+
+						break;
+					}
+
+					demanda.decrementAndGet();
+
+					subscriber.onNext(pdf);
+				}
+
+				if (terminado) {
+					continue;
+				}
+
+				// Agenda o que há demanda e espaço para gerar.
+				boolean registrado = false;
+
+				while (!cancelado && emGeracao.size() < parallelism && emGeracao.size() < demanda.get() && (isNotNull(pendente) || boletos.hasNext())) {
+
+					Boleto boleto = isNotNull(pendente) ? pendente : boletos.next();
+					pendente = null;
+
+					CompletableFuture<byte[]> pdf;
+
+					try {
+
+						pdf = agendar(boleto, false);
+
+					} catch (RejectedExecutionException e) {
+
+						if (policy != SaturationPolicy.BLOCK || executor.isShutdown()) {
+
+							pdf = recusado(e);
+
+						} else {
+
+							pendente = boleto;
+
+							// Registra antes de tentar de novo: se a fila
+							// esvaziar entre as duas tentativas, a assinatura
+							// já está na lista para ser acordada.
+							if (!registrado) {
+
+								registrado = true;
+
+								if (aguardando.compareAndSet(false, true)) {
+									aguardandoEspaco.add(this);
+								}
+
+								continue;
+							}
+
+							break;
+						}
+					}
+
+					emGeracao.addLast(pdf);
+
+					pdf.whenComplete(aoConcluir);
+				}
+
+				if (emGeracao.isEmpty() && isNull(pendente) && !boletos.hasNext() && !cancelado) {
+
+					terminado = true;
+
+					subscriber.onComplete();
+				}
+
+			} while (wip.decrementAndGet() != 0);
+		}
+
+		private void cancelarEmGeracao() {
+
+			for (CompletableFuture<byte[]> pdf : emGeracao) {
+				pdf.cancel(false);
+			}
+
+			emGeracao.clear();
+			pendente = null;
+		}
+	}
+}
@@ -0,0 +1,548 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 14:02:31
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 14:02:31
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.CodigoDeBarras;
+import org.jrimum.utilix.Objects;
+
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
+
+/**
+ * <p>
+ * Visualização isolada do código de barras do boleto (intercalado 2 de 5,
+ * ITF), sem a geração de um PDF.
+ * </p>
+ * 
+ * <p>
+ * O código é codificado a partir de uma tabela pré-calculada com as larguras
+ * (estreita ou larga) das barras e espaços de cada um dos 100 pares de
+ * dígitos possíveis, e pode ser obtido como:
+ * <ul>
+ * <li>Larguras das barras e espaços em módulos ({@link #getRunLengths()})</li>
+ * <li>SVG ({@link #getSvg()})</li>
+ * <li>Imagem ou PNG ({@link #getImage()}, {@link #getPng()})</li>
+ * </ul>
+ * </p>
+ * 
+ * <p>
+ * Exemplo: {@code new BarcodeViewer(boleto).setModuleWidth(2).getPng();}
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class BarcodeViewer {
+
+	private static Logger log = Logger.getLogger(BarcodeViewer.class);
+
+	/**
+	 * <p>
+	 * Larguras de barras e espaços de cada dígito: {@code true} para largo.
+	 * </p>
+	 */
+	private static final boolean[][] DIGITOS = {
+		{ false, false, true, true, false }, // 0
+		{ true, false, false, false, true }, // 1
+		{ false, true, false, false, true }, // 2
+		{ true, true, false, false, false }, // 3
+		{ false, false, true, false, true }, // 4
+		{ true, false, true, false, false }, // 5
+		{ false, true, true, false, false }, // 6
+		{ false, false, false, true, true }, // 7
+		{ true, false, false, true, false }, // 8
+		{ false, true, false, true, false }  // 9
+	};
+
+	/**
+	 * <p>
+	 * Padrão de cada par de dígitos (índice {@code 10 * primeiro + segundo}):
+	 * 10 elementos alternando barra (do primeiro dígito) e espaço (do
+	 * segundo), {@code true} para largo.
+	 * </p>
+	 */
+	static final boolean[][] PARES = new boolean[100][10];
+
+	static {
+
+		for (int par = 0; par < 100; par++) {
+
+			for (int i = 0; i < 5; i++) {
+
+				PARES[par][2 * i] = DIGITOS[par / 10][i];
+				PARES[par][2 * i + 1] = DIGITOS[par % 10][i];
+			}
+		}
+	}
+
+	/**
+	 * Início: barra, espaço, barra e espaço estreitos.
+	 */
+	static final int ELEMENTOS_DO_INICIO = 4;
+
+	/**
+	 * Fim: barra larga, espaço e barra estreitos.
+	 */
+	static final int ELEMENTOS_DO_FIM = 3;
+
+	private final String codigo;
+
+	private int moduleWidth = 1;
+
+	private int wideRatio = 3;
+
+	private int barHeight = 50;
+
+	private int quietZone = 10;
+
+	/**
+	 * <p>
+	 * Código de barras do boleto.
+	 * </p>
+	 * 
+	 * @param boleto
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer(Boleto boleto) {
+
+		Objects.checkNotNull(boleto);
+
+		this.codigo = checkCodigo(boleto.getCodigoDeBarras().write());
+	}
+
+	/**
+	 * @param codigoDeBarras
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer(CodigoDeBarras codigoDeBarras) {
+
+		Objects.checkNotNull(codigoDeBarras);
+
+		this.codigo = checkCodigo(codigoDeBarras.write());
+	}
+
+	/**
+	 * @param codigo
+	 *            - Quantidade par de dígitos, como os 44 do código de barras
+	 *            do boleto
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer(String codigo) {
+
+		this.codigo = checkCodigo(codigo);
+	}
+
+	/**
+	 * @return os dígitos codificados
+	 * 
+	 * @since 0.2
+	 */
+	public String getCodigo() {
+
+		return codigo;
+	}
+
+	/**
+	 * <p>
+	 * Largura, em pixels, de um módulo (a barra estreita) no SVG e na imagem.
+	 * Padrão: 1.
+	 * </p>
+	 * 
+	 * @param moduleWidth
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer setModuleWidth(int moduleWidth) {
+
+		checkPositivo(moduleWidth, "Largura do módulo");
+
+		this.moduleWidth = moduleWidth;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Quantos módulos tem um elemento largo: 2 ou 3. Padrão: 3, a mesma razão
+	 * usada no PDF.
+	 * </p>
+	 * 
+	 * @param wideRatio
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer setWideRatio(int wideRatio) {
+
+		if (wideRatio != 2 && wideRatio != 3) {
+			throw new IllegalArgumentException("Razão entre elementos largos e estreitos deve ser 2 ou 3: " + wideRatio);
+		}
+
+		this.wideRatio = wideRatio;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Altura das barras, em pixels. Padrão: 50.
+	 * </p>
+	 * 
+	 * @param barHeight
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer setBarHeight(int barHeight) {
+
+		checkPositivo(barHeight, "Altura das barras");
+
+		this.barHeight = barHeight;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Margem em branco, em módulos, antes e depois das barras. Padrão: 10.
+	 * </p>
+	 * 
+	 * @param quietZone
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public BarcodeViewer setQuietZone(int quietZone) {
+
+		if (quietZone < 0) {
+			throw new IllegalArgumentException("Margem negativa: " + quietZone);
+		}
+
+		this.quietZone = quietZone;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Larguras, em módulos, dos elementos do código na ordem em que aparecem,
+	 * começando por uma barra e alternando barra e espaço. Não inclui as
+	 * margens em branco.
+	 * </p>
+	 * 
+	 * @return larguras das barras e espaços
+	 * 
+	 * @since 0.2
+	 */
+	public byte[] getRunLengths() {
+
+		return encode(codigo, wideRatio);
+	}
+
+	/**
+	 * @return largura total em pixels, com as margens
+	 * 
+	 * @since 0.2
+	 */
+	public int getWidth() {
+
+		return (modules(codigo.length(), wideRatio) + 2 * quietZone) * moduleWidth;
+	}
+
+	/**
+	 * @return altura total em pixels
+	 * 
+	 * @since 0.2
+	 */
+	public int getHeight() {
+
+		return barHeight;
+	}
+
+	/**
+	 * <p>
+	 * Código de barras em SVG, com as barras em um único <em>path</em>.
+	 * </p>
+	 * 
+	 * @return documento SVG
+	 * 
+	 * @since 0.2
+	 */
+	public String getSvg() {
+
+		byte[] larguras = getRunLengths();
+
+		int largura = getWidth();
+		StringBuilder svg = new StringBuilder(128 + larguras.length * 12);
+
+		svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"").append(largura)
+			.append("\" height=\"").append(barHeight)
+			.append("\" viewBox=\"0 0 ").append(largura).append(' ').append(barHeight)
+			.append("\" shape-rendering=\"crispEdges\">")
+			.append("<rect width=\"100%\" height=\"100%\" fill=\"#fff\"/>")
+			.append("<path fill=\"#000\" d=\"");
+
+		int x = quietZone * moduleWidth;
+
+		for (int i = 0; i < larguras.length; i++) {
+
+			int w = larguras[i] * moduleWidth;
+
+			if (i % 2 == 0) {
+				svg.append('M').append(x).append(" 0h").append(w).append('v').append(barHeight).append('h').append(-w).append('z');
+			}
+
+			x += w;
+		}
+
+		return svg.append("\"/></svg>").toString();
+	}
+
+	/**
+	 * <p>
+	 * Código de barras em uma imagem preto e branco.
+	 * </p>
+	 * 
+	 * @return imagem
+	 * 
+	 * @since 0.2
+	 */
+	public BufferedImage getImage() {
+
+		byte[] larguras = getRunLengths();
+
+		int largura = getWidth();
+
+		// Uma linha é montada e repetida em todas as outras.
+		int[] linha = new int[largura];
+		int x = quietZone * moduleWidth;
+
+		Arrays.fill(linha, 1);
+
+		for (int i = 0; i < larguras.length; i++) {
+
+			int w = larguras[i] * moduleWidth;
+
+			if (i % 2 == 0) {
+				Arrays.fill(linha, x, x + w, 0);
+			}
+
+			x += w;
+		}
+
+		BufferedImage imagem = new BufferedImage(largura, barHeight, BufferedImage.TYPE_BYTE_BINARY);
+		WritableRaster raster = imagem.getRaster();
+
+		for (int y = 0; y < barHeight; y++) {
+			raster.setSamples(0, y, largura, 1, 0, linha);
+		}
+
+		return imagem;
+	}
+
+	/**
+	 * @return código de barras em PNG
+	 * 
+	 * @since 0.2
+	 */
+	public byte[] getPng() {
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		writePng(out);
+
+		return out.toByteArray();
+	}
+
+	/**
+	 * <p>
+	 * Escreve o código de barras em PNG na stream, que não é fechada.
+	 * </p>
+	 * 
+	 * @param out
+	 * 
+	 * @since 0.2
+	 */
+	public void writePng(OutputStream out) {
+
+		Objects.checkNotNull(out);
+
+		try {
+
+			ImageIO.write(getImage(), "png", out);
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a criação do PNG! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a criação do PNG! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Desenha as barras como retângulos preenchidos no conteúdo de uma página
+	 * PDF, ocupando todo o retângulo informado (sem margens em branco). O
+	 * resultado é vetorial: não há imagem nem <em>XObject</em> por código.
+	 * </p>
+	 * 
+	 * @param cb
+	 *            - Conteúdo onde as barras serão desenhadas
+	 * @param codigo
+	 *            - Dígitos, em quantidade par
+	 * @param box
+	 *            - Área ocupada pelo código
+	 * 
+	 * @since 0.2
+	 */
+	static void draw(PdfContentByte cb, String codigo, Rectangle box) {
+
+		final int largo = 3;
+
+		byte[] larguras = encode(checkCodigo(codigo), largo);
+		float modulo = box.getWidth() / modules(codigo.length(), largo);
+		float x = box.getLeft();
+
+		cb.saveState();
+		cb.setGrayFill(0);
+
+		for (int i = 0; i < larguras.length; i++) {
+
+			float w = larguras[i] * modulo;
+
+			if (i % 2 == 0) {
+				cb.rectangle(x, box.getBottom(), w, box.getHeight());
+			}
+
+			x += w;
+		}
+
+		cb.fill();
+		cb.restoreState();
+	}
+
+	/**
+	 * <p>
+	 * Codifica os dígitos nas larguras, em módulos, de cada barra e espaço.
+	 * </p>
+	 * 
+	 * @param codigo
+	 *            - Dígitos, em quantidade par
+	 * @param largo
+	 *            - Módulos de um elemento largo
+	 * @return larguras das barras e espaços
+	 * 
+	 * @since 0.2
+	 */
+	static byte[] encode(String codigo, int largo) {
+
+		byte[] larguras = new byte[elements(codigo.length())];
+		int i = 0;
+
+		larguras[i++] = 1;
+		larguras[i++] = 1;
+		larguras[i++] = 1;
+		larguras[i++] = 1;
+
+		for (int d = 0; d < codigo.length(); d += 2) {
+
+			boolean[] padrao = PARES[(codigo.charAt(d) - '0') * 10 + (codigo.charAt(d + 1) - '0')];
+
+			for (int k = 0; k < padrao.length; k++) {
+				larguras[i++] = (byte) (padrao[k] ? largo : 1);
+			}
+		}
+
+		larguras[i++] = (byte) largo;
+		larguras[i++] = 1;
+		larguras[i] = 1;
+
+		return larguras;
+	}
+
+	/**
+	 * @return quantidade de barras e espaços para a quantidade de dígitos
+	 */
+	static int elements(int digitos) {
+
+		return ELEMENTOS_DO_INICIO + digitos * 5 + ELEMENTOS_DO_FIM;
+	}
+
+	/**
+	 * @return largura em módulos para a quantidade de dígitos
+	 */
+	static int modules(int digitos, int largo) {
+
+		return 4 + digitos * (2 * largo + 3) + (largo + 2);
+	}
+
+	private static String checkCodigo(String codigo) {
+
+		Objects.checkNotNull(codigo, "Código de barras nulo!");
+
+		if (codigo.length() == 0 || codigo.length() % 2 != 0) {
+			throw new IllegalArgumentException("O intercalado 2 de 5 exige uma quantidade par de dígitos: [" + codigo + "]");
+		}
+
+		for (int i = 0; i < codigo.length(); i++) {
+
+			if (codigo.charAt(i) < '0' || codigo.charAt(i) > '9') {
+				throw new IllegalArgumentException("O código de barras deve conter apenas dígitos: [" + codigo + "]");
+			}
+		}
+
+		return codigo;
+	}
+
+	private static void checkPositivo(int valor, String nome) {
+
+		if (valor < 1) {
+			throw new IllegalArgumentException(nome + " deve ser maior que zero: " + valor);
+		}
+	}
+}
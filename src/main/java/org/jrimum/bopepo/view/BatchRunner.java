@@ -0,0 +1,857 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 20:41:19
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 20:41:19
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.log4j.Logger;
+import org.jrimum.utilix.Objects;
+
+import com.lowagie.text.DocumentException;
+
+/**
+ * <p>
+ * Gera lotes grandes de boletos em um único PDF com retomada após falhas. Os
+ * boletos são gerados em segmentos (PDFs parciais com uma quantidade fixa de
+ * boletos) gravados no diretório de trabalho, e um diário (<em>journal</em>)
+ * só de acréscimos registra, de forma durável, os boletos já gerados, cada
+ * segmento concluído e cada boleto que falhou. Ao fim, os segmentos são
+ * concatenados no destino.
+ * </p>
+ * 
+ * <p>
+ * Enquanto um segmento é gerado, o PDF de cada boleto vai para um arquivo de
+ * acumulação do segmento e, a cada {@link #setIntervaloDeProgresso(int)
+ * intervalo de progresso}, o arquivo é forçado para o disco e o diário
+ * registra até qual boleto chegou. Se a execução for interrompida (queda do
+ * processo, falta de memória, etc.), basta executá-la de novo com o mesmo
+ * diretório e a mesma fonte: os segmentos concluídos não são gerados de novo
+ * e a geração continua do boleto seguinte ao último progresso registrado,
+ * mesmo no meio de um segmento. Um boleto com problema não interrompe o lote:
+ * a falha é registrada no diário e no {@link Resultado}, e o boleto fica de
+ * fora do PDF.
+ * </p>
+ * 
+ * <pre>
+ * BoletoViewer viewer = new BoletoViewer().setTemplate(template);
+ * BatchRunner.Resultado resultado = new BatchRunner(diretorio, viewer).run(fonte, destFile);
+ * 
+ * for (BatchRunner.Falha falha : resultado.getFalhas()) {
+ * 	log.warn(falha);
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Depois da concatenação, os segmentos e o diário são apagados.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class BatchRunner {
+
+	private static Logger log = Logger.getLogger(BatchRunner.class);
+
+	private static final String DIARIO = "batch.journal";
+
+	private static final String LOTE = "LOTE";
+
+	private static final String PROGRESSO = "PROGRESSO";
+
+	private static final String SEGMENTO = "SEGMENTO";
+
+	private static final String FALHA = "FALHA";
+
+	private final File diretorio;
+
+	private final BoletoViewer boletoViewer;
+
+	private int boletosPorSegmento = 1000;
+
+	private int intervaloDeProgresso = 100;
+
+	/**
+	 * @param diretorio
+	 *            - Diretório de trabalho, exclusivo do lote; criado se não
+	 *            existir
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração, por
+	 *            exemplo criado com {@link BoletoViewer#BoletoViewer()}
+	 * 
+	 * @since 0.2
+	 */
+	public BatchRunner(File diretorio, BoletoViewer boletoViewer) {
+
+		Objects.checkNotNull(diretorio, "Diretório de trabalho nulo!");
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		if (!diretorio.isDirectory() && !diretorio.mkdirs()) {
+			throw new IllegalArgumentException("Não foi possível criar o diretório de trabalho: " + diretorio);
+		}
+
+		this.diretorio = diretorio;
+		this.boletoViewer = boletoViewer;
+	}
+
+	/**
+	 * <p>
+	 * Define quantos boletos formam um segmento, ou seja, cada PDF parcial
+	 * gravado no diretório de trabalho. O padrão é 1000. Não pode mudar entre
+	 * uma execução e a sua retomada.
+	 * </p>
+	 * 
+	 * @param boletosPorSegmento
+	 * @return este runner
+	 * 
+	 * @since 0.2
+	 */
+	public BatchRunner setBoletosPorSegmento(int boletosPorSegmento) {
+
+		if (boletosPorSegmento < 1) {
+			throw new IllegalArgumentException("Quantidade de boletos por segmento deve ser maior que zero: " + boletosPorSegmento);
+		}
+
+		this.boletosPorSegmento = boletosPorSegmento;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Define a cada quantos boletos o progresso do segmento em geração é
+	 * gravado no diário, ou seja, quantos boletos, no máximo, são gerados de
+	 * novo após uma interrupção. Cada registro força uma gravação em disco. O
+	 * padrão é 100; pode mudar entre uma execução e a sua retomada.
+	 * </p>
+	 * 
+	 * @param boletos
+	 * @return este runner
+	 * 
+	 * @since 0.2
+	 */
+	public BatchRunner setIntervaloDeProgresso(int boletos) {
+
+		if (boletos < 1) {
+			throw new IllegalArgumentException("Intervalo de progresso deve ser maior que zero: " + boletos);
+		}
+
+		this.intervaloDeProgresso = boletos;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Gera (ou retoma) o lote e grava o PDF completo no arquivo informado.
+	 * </p>
+	 * 
+	 * @param fonte
+	 *            - Fonte dos boletos pela posição no lote
+	 * @param destFile
+	 *            - Arquivo que armazenará os boletos
+	 * @return resultado da execução
+	 * 
+	 * @since 0.2
+	 */
+	public Resultado run(FonteDeBoletos fonte, File destFile) {
+
+		Objects.checkNotNull(destFile, "Arquivo destinado a geração dos boletos nulo!");
+
+		try {
+
+			OutputStream out = new BufferedOutputStream(new FileOutputStream(destFile), 64 * 1024);
+
+			try {
+
+				return run(fonte, out);
+
+			} finally {
+
+				out.close();
+			}
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a criação do arquivo! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro ao tentar criar arquivo! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gera (ou retoma) o lote e escreve o PDF completo no destino, que não é
+	 * fechado.
+	 * </p>
+	 * 
+	 * @param fonte
+	 *            - Fonte dos boletos pela posição no lote
+	 * @param out
+	 *            - Destino do PDF
+	 * @return resultado da execução
+	 * 
+	 * @since 0.2
+	 */
+	public Resultado run(FonteDeBoletos fonte, OutputStream out) {
+
+		Objects.checkNotNull(fonte, "Fonte dos boletos nula!");
+		Objects.checkNotNull(out, "Destino do PDF nulo!");
+
+		long total = fonte.size();
+
+		if (total < 0) {
+			throw new IllegalArgumentException("Quantidade de boletos negativa: " + total);
+		}
+
+		try {
+
+			Diario diario = new Diario(new File(diretorio, DIARIO), total, boletosPorSegmento);
+
+			try {
+
+				long segmentos = (total + boletosPorSegmento - 1) / boletosPorSegmento;
+				int retomados = 0;
+				int gerados = 0;
+				long boletosRetomados = 0;
+
+				for (long numero = 0; numero < segmentos; numero++) {
+
+					if (diario.isConcluido(numero, segmento(numero))) {
+
+						retomados++;
+						boletosRetomados += Math.min(total, (numero + 1) * boletosPorSegmento) - numero * boletosPorSegmento;
+
+					} else {
+
+						boletosRetomados += gerarSegmento(fonte, diario, numero, total);
+						gerados++;
+					}
+				}
+
+				PageCopier copia = new PageCopier(out);
+
+				for (long numero = 0; numero < segmentos; numero++) {
+
+					if (segmento(numero).length() > 0) {
+						copia.adicionar(segmento(numero));
+					}
+				}
+
+				copia.fechar();
+				out.flush();
+
+				Resultado resultado = new Resultado(total, copia.getPaginas(), retomados, gerados, boletosRetomados, diario.getFalhas());
+
+				diario.fechar();
+
+				for (long numero = 0; numero < segmentos; numero++) {
+					segmento(numero).delete();
+					acumulados(numero).delete();
+				}
+
+				diario.apagar();
+
+				return resultado;
+
+			} finally {
+
+				diario.fechar();
+			}
+
+		} catch (IOException e) {
+
+			log.error("Erro durante geração do lote! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do lote! Causado por " + e.getLocalizedMessage(), e);
+
+		} catch (DocumentException e) {
+
+			log.error("Erro durante geração do lote! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do lote! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gera o segmento a partir do último progresso registrado no diário. O PDF
+	 * de cada boleto é acrescentado ao arquivo de acumulação do segmento, que
+	 * a cada {@link #intervaloDeProgresso} boletos é forçado para o disco
+	 * antes de o progresso ir para o diário. Com todos os boletos gerados, o
+	 * PDF do segmento é montado a partir da acumulação em um arquivo
+	 * temporário, forçado para o disco, renomeado para o nome final e só
+	 * então registrado como concluído.
+	 * </p>
+	 * 
+	 * @return quantidade de boletos que não precisaram ser gerados de novo
+	 */
+	private long gerarSegmento(FonteDeBoletos fonte, Diario diario, long numero, long total) throws IOException, DocumentException {
+
+		File segmento = segmento(numero);
+		File acumulados = acumulados(numero);
+
+		long inicio = numero * boletosPorSegmento;
+		long fim = Math.min(total, inicio + boletosPorSegmento);
+
+		long indice = inicio;
+		long bytes = 0;
+
+		long[] progresso = diario.getProgresso(numero);
+
+		if (isNotNull(progresso) && acumulados.isFile() && acumulados.length() >= progresso[1]) {
+
+			indice = progresso[0];
+			bytes = progresso[1];
+
+		} else if (isNotNull(progresso)) {
+
+			log.warn("Acumulação do segmento " + numero + " incompleta; o segmento será gerado desde o início.");
+		}
+
+		long retomados = indice - inicio;
+
+		FileChannel canal = FileChannel.open(acumulados.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+		try {
+
+			canal.truncate(bytes);
+			canal.position(bytes);
+
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(canal), 64 * 1024));
+			long desde = indice;
+
+			for (; indice < fim; indice++) {
+
+				try {
+
+					byte[] pdf = boletoViewer.setBoleto(fonte.get(indice)).getPdfAsByteArray();
+
+					out.writeInt(pdf.length);
+					out.write(pdf);
+
+					bytes += 4 + pdf.length;
+
+				} catch (RuntimeException e) {
+
+					log.warn("Boleto " + indice + " não gerado: " + e.getLocalizedMessage(), e);
+
+					diario.falhou(indice, e);
+				}
+
+				if (indice + 1 - desde >= intervaloDeProgresso || indice + 1 == fim) {
+
+					out.flush();
+					canal.force(false);
+
+					diario.progrediu(numero, desde, indice + 1, bytes);
+
+					desde = indice + 1;
+				}
+			}
+
+			out.flush();
+
+		} finally {
+
+			canal.close();
+		}
+
+		montarSegmento(acumulados, bytes, segmento);
+
+		diario.concluiu(numero, inicio, fim, segmento.length());
+
+		acumulados.delete();
+
+		if (log.isDebugEnabled()) {
+			log.debug("Segmento " + numero + " concluído: boletos " + inicio + " a " + (fim - 1) + ", " + retomados + " retomados.");
+		}
+
+		return retomados;
+	}
+
+	/**
+	 * <p>
+	 * Copia os PDFs acumulados para o segmento através de um arquivo
+	 * temporário, que é forçado para o disco e renomeado para o nome final.
+	 * </p>
+	 */
+	private void montarSegmento(File acumulados, long bytes, File segmento) throws IOException, DocumentException {
+
+		File temporario = new File(diretorio, segmento.getName() + ".tmp");
+
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(acumulados), 64 * 1024));
+		OutputStream out = new BufferedOutputStream(new FileOutputStream(temporario), 64 * 1024);
+
+		try {
+
+			PageCopier copia = new PageCopier(out);
+
+			for (long lidos = 0; lidos < bytes;) {
+
+				byte[] pdf = new byte[in.readInt()];
+				in.readFully(pdf);
+
+				copia.adicionar(pdf, null);
+
+				lidos += 4 + pdf.length;
+			}
+
+			copia.fechar();
+
+		} finally {
+
+			out.close();
+			in.close();
+		}
+
+		// o fechamento do PDF fecha o stream; o sync vai por outro canal
+		FileChannel canal = FileChannel.open(temporario.toPath(), StandardOpenOption.WRITE);
+
+		try {
+
+			canal.force(true);
+
+		} finally {
+
+			canal.close();
+		}
+
+		java.nio.file.Files.move(temporario.toPath(), segmento.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private File segmento(long numero) {
+
+		return new File(diretorio, String.format("segmento-%06d.pdf", numero));
+	}
+
+	private File acumulados(long numero) {
+
+		return new File(diretorio, String.format("segmento-%06d.boletos", numero));
+	}
+
+	/**
+	 * <p>
+	 * Números de uma execução do lote.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class Resultado {
+
+		private final long boletos;
+
+		private final int paginas;
+
+		private final int segmentosRetomados;
+
+		private final int segmentosGerados;
+
+		private final long boletosRetomados;
+
+		private final List<Falha> falhas;
+
+		private Resultado(long boletos, int paginas, int segmentosRetomados, int segmentosGerados, long boletosRetomados, List<Falha> falhas) {
+
+			this.boletos = boletos;
+			this.paginas = paginas;
+			this.segmentosRetomados = segmentosRetomados;
+			this.segmentosGerados = segmentosGerados;
+			this.boletosRetomados = boletosRetomados;
+			this.falhas = Collections.unmodifiableList(falhas);
+		}
+
+		/**
+		 * @return quantidade de boletos do lote, incluindo os que falharam
+		 */
+		public long getBoletos() {
+			return boletos;
+		}
+
+		/**
+		 * @return quantidade de páginas do PDF final
+		 */
+		public int getPaginas() {
+			return paginas;
+		}
+
+		/**
+		 * @return segmentos já concluídos numa execução anterior
+		 */
+		public int getSegmentosRetomados() {
+			return segmentosRetomados;
+		}
+
+		/**
+		 * @return segmentos gerados nesta execução, no todo ou a partir do
+		 *         progresso de uma execução anterior
+		 */
+		public int getSegmentosGerados() {
+			return segmentosGerados;
+		}
+
+		/**
+		 * @return boletos já gerados numa execução anterior, nos segmentos
+		 *         concluídos ou no progresso registrado dos demais
+		 */
+		public long getBoletosRetomados() {
+			return boletosRetomados;
+		}
+
+		/**
+		 * @return boletos que não foram gerados, em ordem de posição
+		 */
+		public List<Falha> getFalhas() {
+			return falhas;
+		}
+
+		/**
+		 * @return true se algum boleto não foi gerado
+		 */
+		public boolean hasFalhas() {
+			return !falhas.isEmpty();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Boleto que não foi gerado e o motivo, como registrado no diário.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class Falha {
+
+		private final long indice;
+
+		private final String motivo;
+
+		private Falha(long indice, String motivo) {
+
+			this.indice = indice;
+			this.motivo = motivo;
+		}
+
+		/**
+		 * @return posição do boleto no lote
+		 */
+		public long getIndice() {
+			return indice;
+		}
+
+		/**
+		 * @return classe e mensagem da exceção
+		 */
+		public String getMotivo() {
+			return motivo;
+		}
+
+		@Override
+		public String toString() {
+			return "Boleto " + indice + ": " + motivo;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Diário do lote, em texto, um registro por linha:
+	 * <ul>
+	 * <li><tt>LOTE total boletosPorSegmento</tt>: primeira linha</li>
+	 * <li><tt>FALHA indice motivo</tt>: boleto não gerado</li>
+	 * <li><tt>PROGRESSO numero de ate bytes</tt>: boletos de <tt>de</tt> até
+	 * <tt>ate - 1</tt> do segmento gerados, com a acumulação do segmento em
+	 * <tt>bytes</tt></li>
+	 * <li><tt>SEGMENTO numero inicio fim bytes</tt>: segmento concluído</li>
+	 * </ul>
+	 * As falhas de um trecho ficam em memória até o seu progresso ser
+	 * registrado e são gravadas, junto com a linha <tt>PROGRESSO</tt>, numa
+	 * única escrita forçada para o disco; elas substituem as falhas de uma
+	 * geração anterior do mesmo trecho. Na abertura, o que vier depois da
+	 * última linha <tt>PROGRESSO</tt> ou <tt>SEGMENTO</tt> (falhas de um
+	 * trecho interrompido ou uma linha incompleta) é descartado, já que o
+	 * trecho será gerado de novo.
+	 * </p>
+	 */
+	private static final class Diario {
+
+		private final File arquivo;
+
+		private final RandomAccessFile raf;
+
+		/**
+		 * Tamanho do PDF de cada segmento concluído.
+		 */
+		private final Map<Long, Long> segmentos = new TreeMap<Long, Long>();
+
+		/**
+		 * Próximo boleto e tamanho da acumulação de cada segmento não
+		 * concluído que já registrou progresso.
+		 */
+		private final Map<Long, long[]> progressos = new TreeMap<Long, long[]>();
+
+		/**
+		 * Falhas registradas, pela posição do boleto.
+		 */
+		private final TreeMap<Long, String> falhas = new TreeMap<Long, String>();
+
+		/**
+		 * Falhas do trecho em geração ou, na leitura, das linhas ainda sem
+		 * <tt>PROGRESSO</tt>.
+		 */
+		private final Map<Long, String> falhasPendentes = new LinkedHashMap<Long, String>();
+
+		Diario(File arquivo, long total, int boletosPorSegmento) throws IOException {
+
+			this.arquivo = arquivo;
+			this.raf = new RandomAccessFile(arquivo, "rw");
+
+			try {
+
+				String cabecalho = LOTE + " " + total + " " + boletosPorSegmento;
+
+				if (raf.length() == 0) {
+
+					escrever(cabecalho);
+
+				} else {
+
+					carregar(cabecalho);
+				}
+
+			} catch (IOException e) {
+
+				raf.close();
+
+				throw e;
+
+			} catch (RuntimeException e) {
+
+				raf.close();
+
+				throw e;
+			}
+		}
+
+		private void carregar(String cabecalho) throws IOException {
+
+			byte[] conteudo = new byte[(int) raf.length()];
+			raf.readFully(conteudo);
+
+			int fimValido = 0;
+			int inicio = 0;
+
+			for (int i = 0; i < conteudo.length; i++) {
+
+				if (conteudo[i] == '\n') {
+
+					String linha = new String(conteudo, inicio, i - inicio, StandardCharsets.UTF_8);
+
+					if (inicio == 0) {
+
+						if (!linha.equals(cabecalho)) {
+							throw new IllegalStateException("O diretório de trabalho pertence a outro lote (" + linha + ")! Esperado: " + cabecalho);
+						}
+
+						fimValido = i + 1;
+
+					} else if (ler(linha)) {
+
+						fimValido = i + 1;
+					}
+
+					inicio = i + 1;
+				}
+			}
+
+			if (fimValido < conteudo.length) {
+
+				log.warn("Descartando registros de trecho não concluído no fim do diário " + arquivo);
+
+				raf.setLength(fimValido);
+			}
+
+			falhasPendentes.clear();
+
+			raf.seek(fimValido);
+		}
+
+		/**
+		 * @return true se a linha confirma um trecho ou um segmento
+		 */
+		private boolean ler(String linha) {
+
+			String[] campos = linha.split(" ", 3);
+
+			if (campos[0].equals(PROGRESSO)) {
+
+				String[] valores = linha.split(" ");
+
+				confirmar(Long.parseLong(valores[1]), Long.parseLong(valores[2]), Long.parseLong(valores[3]), Long.parseLong(valores[4]));
+
+				return true;
+			}
+
+			if (campos[0].equals(SEGMENTO)) {
+
+				String[] valores = linha.split(" ");
+
+				segmentos.put(Long.valueOf(valores[1]), Long.valueOf(valores[4]));
+				progressos.remove(Long.valueOf(valores[1]));
+
+				return true;
+			}
+
+			if (campos[0].equals(FALHA)) {
+				falhasPendentes.put(Long.valueOf(campos[1]), campos.length > 2 ? campos[2] : "");
+			}
+
+			return false;
+		}
+
+		/**
+		 * Confirma o trecho com as falhas pendentes, substituindo as de uma
+		 * geração anterior do mesmo trecho.
+		 */
+		private void confirmar(long numero, long de, long ate, long bytes) {
+
+			falhas.subMap(de, ate).clear();
+			falhas.putAll(falhasPendentes);
+			falhasPendentes.clear();
+
+			progressos.put(numero, new long[] { ate, bytes });
+		}
+
+		/**
+		 * @return true se o segmento está no diário e o arquivo dele está
+		 *         completo
+		 */
+		boolean isConcluido(long numero, File segmento) {
+
+			Long bytes = segmentos.get(numero);
+
+			return isNotNull(bytes) && segmento.isFile() && segmento.length() == bytes;
+		}
+
+		/**
+		 * @return próximo boleto a gerar e tamanho da acumulação do segmento,
+		 *         ou {@code null} se ele não registrou progresso
+		 */
+		long[] getProgresso(long numero) {
+
+			return progressos.get(numero);
+		}
+
+		void progrediu(long numero, long de, long ate, long bytes) throws IOException {
+
+			StringBuilder registros = new StringBuilder();
+
+			for (Map.Entry<Long, String> falha : falhasPendentes.entrySet()) {
+				registros.append(FALHA).append(' ').append(falha.getKey()).append(' ').append(falha.getValue()).append('\n');
+			}
+
+			registros.append(PROGRESSO).append(' ').append(numero).append(' ').append(de).append(' ').append(ate).append(' ').append(bytes);
+
+			escrever(registros.toString());
+
+			confirmar(numero, de, ate, bytes);
+		}
+
+		void concluiu(long numero, long inicio, long fim, long bytes) throws IOException {
+
+			escrever(SEGMENTO + " " + numero + " " + inicio + " " + fim + " " + bytes);
+
+			segmentos.put(numero, bytes);
+			progressos.remove(numero);
+		}
+
+		/**
+		 * Guarda a falha até o registro do progresso do trecho em geração.
+		 */
+		void falhou(long indice, RuntimeException causa) {
+
+			String motivo = (causa.getClass().getName() + ": " + causa.getLocalizedMessage()).replace('\n', ' ').replace('\r', ' ');
+
+			falhasPendentes.put(indice, motivo);
+		}
+
+		List<Falha> getFalhas() {
+
+			List<Falha> lista = new ArrayList<Falha>(falhas.size());
+
+			for (Map.Entry<Long, String> falha : falhas.entrySet()) {
+				lista.add(new Falha(falha.getKey(), falha.getValue()));
+			}
+
+			return lista;
+		}
+
+		private void escrever(String linha) throws IOException {
+
+			raf.write((linha + "\n").getBytes(StandardCharsets.UTF_8));
+			raf.getChannel().force(false);
+		}
+
+		void fechar() throws IOException {
+
+			raf.close();
+		}
+
+		void apagar() {
+
+			if (!arquivo.delete() && arquivo.exists()) {
+				log.warn("Não foi possível apagar o diário " + arquivo);
+			}
+		}
+	}
+}
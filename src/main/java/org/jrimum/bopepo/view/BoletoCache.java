@@ -0,0 +1,443 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 16:21:09
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 16:21:09
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Cache de boletos já gerados, endereçado pelo conteúdo: a chave é um hash de
+ * tudo o que é escrito no PDF (os valores de todos os campos, incluindo o
+ * código de barras e as imagens) mais a identidade do template e o modo de
+ * geração. Boletos que seriam gerados iguais compartilham a mesma entrada,
+ * tornando quase gratuitas as segundas vias.
+ * </p>
+ * 
+ * <p>
+ * Tem dois níveis, ambos com descarte do menos usado recentemente (LRU)
+ * quando o limite de tamanho é atingido:
+ * <ul>
+ * <li>Memória, sempre presente</li>
+ * <li>Disco, opcional, um arquivo por boleto em um diretório dedicado</li>
+ * </ul>
+ * O diretório é relido ao criar o cache, de forma que as entradas em disco
+ * sobrevivem ao reinício da aplicação.
+ * </p>
+ * 
+ * <p>
+ * Instâncias são seguras para uso por várias threads e podem ser
+ * compartilhadas por vários {@link BoletoViewer}.
+ * </p>
+ * 
+ * @see BoletoViewer#setCache(BoletoCache)
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class BoletoCache {
+
+	private static Logger log = Logger.getLogger(BoletoCache.class);
+
+	private static final String EXTENSAO = ".pdf";
+
+	private final Nivel memoria;
+
+	private final Disco disco;
+
+	/**
+	 * <p>
+	 * Cache apenas em memória.
+	 * </p>
+	 * 
+	 * @param maxHeapBytes
+	 *            - Total de bytes de PDFs mantidos em memória
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoCache(long maxHeapBytes) {
+
+		checkLimite(maxHeapBytes);
+
+		this.memoria = new Nivel(maxHeapBytes);
+		this.disco = null;
+	}
+
+	/**
+	 * <p>
+	 * Cache em memória e em disco.
+	 * </p>
+	 * 
+	 * @param maxHeapBytes
+	 *            - Total de bytes de PDFs mantidos em memória
+	 * @param diretorio
+	 *            - Diretório exclusivo do cache; criado se não existir
+	 * @param maxDiskBytes
+	 *            - Total de bytes de PDFs mantidos no diretório
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoCache(long maxHeapBytes, File diretorio, long maxDiskBytes) {
+
+		checkLimite(maxHeapBytes);
+		checkLimite(maxDiskBytes);
+		Objects.checkNotNull(diretorio, "Diretório do cache nulo!");
+
+		if (!diretorio.isDirectory() && !diretorio.mkdirs()) {
+			throw new IllegalArgumentException("Não foi possível criar o diretório do cache: " + diretorio);
+		}
+
+		this.memoria = new Nivel(maxHeapBytes);
+		this.disco = new Disco(diretorio, maxDiskBytes);
+	}
+
+	/**
+	 * @param chave
+	 * @return PDF guardado com a chave ou {@code null}
+	 * 
+	 * @since 0.2
+	 */
+	public byte[] get(String chave) {
+
+		byte[] pdf = memoria.get(chave);
+
+		if (isNull(pdf) && isNotNull(disco)) {
+
+			pdf = disco.get(chave);
+
+			if (isNotNull(pdf)) {
+				memoria.put(chave, pdf);
+			}
+		}
+
+		return pdf;
+	}
+
+	/**
+	 * <p>
+	 * Guarda o PDF com a chave. O array não deve ser alterado depois.
+	 * </p>
+	 * 
+	 * @param chave
+	 * @param pdf
+	 * 
+	 * @since 0.2
+	 */
+	public void put(String chave, byte[] pdf) {
+
+		Objects.checkNotNull(chave);
+		Objects.checkNotNull(pdf);
+
+		memoria.put(chave, pdf);
+
+		if (isNotNull(disco)) {
+			disco.put(chave, pdf);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Descarta todas as entradas, inclusive as do disco.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public void clear() {
+
+		memoria.clear();
+
+		if (isNotNull(disco)) {
+			disco.clear();
+		}
+	}
+
+	private static void checkLimite(long limite) {
+
+		if (limite < 1) {
+			throw new IllegalArgumentException("Limite de tamanho do cache deve ser maior que zero: " + limite);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Índice LRU de entradas limitado pela soma dos tamanhos.
+	 * </p>
+	 */
+	private static class Nivel {
+
+		private final long maximo;
+
+		private long total;
+
+		private final LinkedHashMap<String, byte[]> entradas = new LinkedHashMap<String, byte[]>(16, 0.75f, true);
+
+		Nivel(long maximo) {
+			this.maximo = maximo;
+		}
+
+		synchronized byte[] get(String chave) {
+
+			return entradas.get(chave);
+		}
+
+		synchronized void put(String chave, byte[] pdf) {
+
+			if (pdf.length > maximo) {
+				return;
+			}
+
+			byte[] anterior = entradas.put(chave, pdf);
+
+			if (isNotNull(anterior)) {
+				total -= anterior.length;
+			}
+
+			total += pdf.length;
+
+			Iterator<byte[]> menosUsados = entradas.values().iterator();
+
+			while (total > maximo) {
+
+				total -= menosUsados.next().length;
+				menosUsados.remove();
+			}
+		}
+
+		synchronized void clear() {
+
+			entradas.clear();
+			total = 0;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Nível em disco: um arquivo por chave e, em memória, só o índice LRU com
+	 * os tamanhos.
+	 * </p>
+	 */
+	private static class Disco {
+
+		private final File diretorio;
+
+		private final long maximo;
+
+		private long total;
+
+		private final LinkedHashMap<String, Long> indice = new LinkedHashMap<String, Long>(16, 0.75f, true);
+
+		Disco(File diretorio, long maximo) {
+
+			this.diretorio = diretorio;
+			this.maximo = maximo;
+
+			carregar();
+		}
+
+		/**
+		 * Reconstrói o índice a partir do diretório, do arquivo mais antigo
+		 * para o mais novo.
+		 */
+		private void carregar() {
+
+			File[] arquivos = diretorio.listFiles();
+
+			if (isNull(arquivos)) {
+				return;
+			}
+
+			List<File> pdfs = new ArrayList<File>(arquivos.length);
+
+			for (File arquivo : arquivos) {
+
+				if (arquivo.isFile() && arquivo.getName().endsWith(EXTENSAO)) {
+					pdfs.add(arquivo);
+				}
+			}
+
+			File[] ordenados = pdfs.toArray(new File[pdfs.size()]);
+
+			Arrays.sort(ordenados, new Comparator<File>() {
+
+				public int compare(File a, File b) {
+					return a.lastModified() < b.lastModified() ? -1 : (a.lastModified() == b.lastModified() ? 0 : 1);
+				}
+			});
+
+			for (File arquivo : ordenados) {
+
+				String nome = arquivo.getName();
+
+				indice.put(nome.substring(0, nome.length() - EXTENSAO.length()), arquivo.length());
+				total += arquivo.length();
+			}
+
+			descartar();
+		}
+
+		synchronized byte[] get(String chave) {
+
+			if (!isNomeValido(chave) || !indice.containsKey(chave)) {
+				return null;
+			}
+
+			File arquivo = arquivo(chave);
+
+			try {
+
+				return java.nio.file.Files.readAllBytes(arquivo.toPath());
+
+			} catch (IOException e) {
+
+				log.warn("Entrada do cache em disco ilegível, descartando: " + arquivo, e);
+
+				remover(chave);
+
+				return null;
+			}
+		}
+
+		synchronized void put(String chave, byte[] pdf) {
+
+			if (pdf.length > maximo || !isNomeValido(chave) || indice.containsKey(chave)) {
+				return;
+			}
+
+			File arquivo = arquivo(chave);
+			File temporario = new File(diretorio, chave + ".tmp");
+
+			try {
+
+				OutputStream out = new FileOutputStream(temporario);
+
+				try {
+					out.write(pdf);
+				} finally {
+					out.close();
+				}
+
+				if (!temporario.renameTo(arquivo)) {
+					throw new IOException("Não foi possível renomear " + temporario + " para " + arquivo);
+				}
+
+			} catch (IOException e) {
+
+				log.warn("Não foi possível gravar a entrada do cache em disco: " + arquivo, e);
+
+				temporario.delete();
+
+				return;
+			}
+
+			indice.put(chave, (long) pdf.length);
+			total += pdf.length;
+
+			descartar();
+		}
+
+		synchronized void clear() {
+
+			for (String chave : new ArrayList<String>(indice.keySet())) {
+				remover(chave);
+			}
+		}
+
+		private void descartar() {
+
+			Iterator<Map.Entry<String, Long>> menosUsados = indice.entrySet().iterator();
+
+			while (total > maximo && menosUsados.hasNext()) {
+
+				Map.Entry<String, Long> entrada = menosUsados.next();
+
+				arquivo(entrada.getKey()).delete();
+				total -= entrada.getValue();
+
+				menosUsados.remove();
+			}
+		}
+
+		private void remover(String chave) {
+
+			Long tamanho = indice.remove(chave);
+
+			if (isNotNull(tamanho)) {
+				total -= tamanho;
+			}
+
+			arquivo(chave).delete();
+		}
+
+		/**
+		 * Só chaves que são nomes de arquivo seguros (como os hashes em
+		 * hexadecimal gerados pelo visualizador) vão para o disco.
+		 */
+		private static boolean isNomeValido(String chave) {
+
+			if (chave.length() == 0 || chave.length() > 128) {
+				return false;
+			}
+
+			for (int i = 0; i < chave.length(); i++) {
+
+				char c = chave.charAt(i);
+
+				if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c == '-' || c == '_')) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		private File arquivo(String chave) {
+
+			return new File(diretorio, chave + EXTENSAO);
+		}
+	}
+}
@@ -35,6 +35,11 @@ import static org.jrimum.utilix.Objects.isNotNull;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Clock;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -136,9 +141,27 @@ public class BoletoViewer {
 	}
 
 	/**
-	 * Para uso interno do componente
+	 * <p>
+	 * Instancia o visualizador sem boleto, com o template padrão, apenas para
+	 * guardar configurações (template, desenho direto, perfil de saída,
+	 * caches). É a forma de configurar os métodos em lote que recebem um
+	 * visualizador, como {@link #groupInOnePDF(List, File, BoletoViewer)},
+	 * {@link CepPresort}, {@link BatchRunner} e
+	 * {@link AsyncBoletoViewer#setViewer(BoletoViewer)}:
+	 * </p>
+	 * 
+	 * <pre>
+	 * BoletoViewer.groupInOnePDF(boletos, destFile, new BoletoViewer().setDirectDraw(true));
+	 * </pre>
+	 * 
+	 * <p>
+	 * Para gerar um boleto avulso defina-o antes com
+	 * {@link #setBoleto(Boleto)}.
+	 * </p>
+	 * 
+	 * @since 0.2
 	 */
-	BoletoViewer() {
+	public BoletoViewer() {
 
 		this.pdfViewer = new PdfViewer();
 	}
@@ -316,6 +339,41 @@ public class BoletoViewer {
 				.setTemplate(templateFile));
 	}
 
+	/**
+	 * <p>
+	 * Agrupa os boletos da lista em um único arquivo PDF usando as
+	 * configurações (template e modo de desenho) do visualizador informado.
+	 * </p>
+	 * 
+	 * <p>
+	 * Com o desenho direto ativo ({@link #setDirectDraw(boolean)}) os boletos
+	 * são desenhados em um só documento: o layout estático do template é
+	 * escrito uma única vez e referenciado por todas as páginas, assim como a
+	 * logo do banco, e cada página contém apenas os dados do seu boleto. Sem o
+	 * desenho direto, um PDF é gerado por boleto e depois todos são juntados.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Lista com os boletos a serem agrupados
+	 * @param destFile
+	 *            - Arquivo que armazenará os boletos
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração, por
+	 *            exemplo criado com {@link #BoletoViewer()}
+	 * @return Arquivo PDF gerado com os boletos da lista
+	 * 
+	 * @since 0.2
+	 */
+	public static File groupInOnePDF(List<Boleto> boletos, File destFile,
+			BoletoViewer boletoViewer) {
+
+		checkBoletosList(boletos);
+		checkDestFile(destFile);
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		return PdfViewer.groupInOnePDF(boletos, destFile, boletoViewer);
+	}
+
 	/**
 	 * <p>
 	 * Gera o arquivo PDF para cada boleto contido na lista. O nome do arquivo
@@ -560,6 +618,195 @@ public class BoletoViewer {
 		return files;
 	}
 
+	/**
+	 * <p>
+	 * Gera um PDF para cada boleto da lista, como o
+	 * {@link #onePerPDF(List, File, String, String)}, mas em vez de um arquivo
+	 * por boleto escreve cada PDF como uma entrada de um único ZIP, com os
+	 * mesmos nomes e na ordem da lista.
+	 * </p>
+	 * 
+	 * <p>
+	 * Os boletos são gerados em paralelo e escritos por uma única thread,
+	 * com memória constante, e as entradas são gravadas sem recompressão.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Lista com os boletos
+	 * @param out
+	 *            - Destino do ZIP, que não é fechado
+	 * @param prefixo
+	 *            - Prefixo do nome das entradas
+	 * @param sufixo
+	 *            - Sufixo do nome das entradas
+	 * @return quantidade de entradas escritas
+	 * 
+	 * @see #onePerPDFInZip(List, OutputStream, String, String, BoletoViewer)
+	 * 
+	 * @since 0.2
+	 */
+	public static int onePerPDFInZip(List<Boleto> boletos, OutputStream out,
+			String prefixo, String sufixo) {
+
+		return onePerPDFInZip(boletos, out, prefixo, sufixo, new BoletoViewer());
+	}
+
+	/**
+	 * <p>
+	 * Gera um PDF para cada boleto da lista com as configurações do
+	 * visualizador informado (template, perfil de saída, modo determinístico,
+	 * cache etc.) e os escreve como entradas de um único ZIP.
+	 * </p>
+	 * 
+	 * <p>
+	 * Exemplo:
+	 * 
+	 * <pre>
+	 * BoletoViewer.onePerPDFInZip(boletos, out, &quot;boleto&quot;, &quot;&quot;, new BoletoViewer()
+	 * 		.setTemplate(template).setDeterministic(true));
+	 * </pre>
+	 * 
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Lista com os boletos
+	 * @param out
+	 *            - Destino do ZIP, que não é fechado
+	 * @param prefixo
+	 *            - Prefixo do nome das entradas
+	 * @param sufixo
+	 *            - Sufixo do nome das entradas
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração
+	 * @return quantidade de entradas escritas
+	 * 
+	 * @since 0.2
+	 */
+	public static int onePerPDFInZip(List<Boleto> boletos, OutputStream out,
+			String prefixo, String sufixo, BoletoViewer boletoViewer) {
+
+		checkBoletosList(boletos);
+		Objects.checkNotNull(out, "Destino do ZIP nulo!");
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		try {
+
+			return PdfZipWriter.escrever(boletos, boletoViewer, out, prefixo, sufixo);
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a criação do ZIP! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a criação do ZIP! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gera um PDF para cada boleto da lista e os escreve como entradas do
+	 * arquivo ZIP informado.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Lista com os boletos
+	 * @param destFile
+	 *            - Arquivo ZIP a ser criado
+	 * @param prefixo
+	 *            - Prefixo do nome das entradas
+	 * @param sufixo
+	 *            - Sufixo do nome das entradas
+	 * @return Arquivo ZIP gerado
+	 * 
+	 * @see #onePerPDFInZip(List, OutputStream, String, String)
+	 * 
+	 * @since 0.2
+	 */
+	public static File onePerPDFInZip(List<Boleto> boletos, File destFile,
+			String prefixo, String sufixo) {
+
+		return onePerPDFInZip(boletos, destFile, prefixo, sufixo, new BoletoViewer());
+	}
+
+	/**
+	 * <p>
+	 * Gera um PDF para cada boleto da lista com as configurações do
+	 * visualizador informado e os escreve como entradas do arquivo ZIP
+	 * informado.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Lista com os boletos
+	 * @param destFile
+	 *            - Arquivo ZIP a ser criado
+	 * @param prefixo
+	 *            - Prefixo do nome das entradas
+	 * @param sufixo
+	 *            - Sufixo do nome das entradas
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração
+	 * @return Arquivo ZIP gerado
+	 * 
+	 * @see #onePerPDFInZip(List, OutputStream, String, String, BoletoViewer)
+	 * 
+	 * @since 0.2
+	 */
+	public static File onePerPDFInZip(List<Boleto> boletos, File destFile,
+			String prefixo, String sufixo, BoletoViewer boletoViewer) {
+
+		checkBoletosList(boletos);
+		checkDestFile(destFile);
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		try {
+
+			OutputStream out = new FileOutputStream(destFile);
+
+			try {
+
+				PdfZipWriter.escrever(boletos, boletoViewer, out, prefixo, sufixo);
+
+			} finally {
+
+				out.close();
+			}
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a criação do ZIP! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a criação do ZIP! Causado por " + e.getLocalizedMessage(), e);
+		}
+
+		return destFile;
+	}
+
+	/**
+	 * <p>
+	 * Carrega e guarda os templates padrão e as logos dos bancos suportados,
+	 * que normalmente só seriam lidos na geração do primeiro boleto.
+	 * </p>
+	 * 
+	 * @throws IllegalStateException
+	 *             Caso algum recurso não possa ser lido.
+	 * 
+	 * @see org.jrimum.bopepo.Bopepo#warmUp(org.jrimum.bopepo.Bopepo.WarmUpOptions)
+	 * 
+	 * @since 0.2
+	 */
+	public static void preloadResources() {
+
+		try {
+
+			PdfViewer.carregarRecursos();
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a carga dos recursos! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a carga dos recursos! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
 	/**
 	 * <p>
 	 * Retorna o aquivo template utilizado pelo visualizador, que pode ser o
@@ -619,7 +866,7 @@ public class BoletoViewer {
 	 */
 	public BoletoViewer removeTemplate() {
 
-		final String DEFAULT = null;
+		final File DEFAULT = null;
 
 		if (isNotNull(pdfViewer)) {
 			pdfViewer.setTemplate(DEFAULT);
@@ -628,6 +875,219 @@ public class BoletoViewer {
 		return this;
 	}
 
+	/**
+	 * <p>
+	 * Indica se o boleto é desenhado diretamente sobre o template.
+	 * </p>
+	 * 
+	 * @return true se o modo de desenho direto estiver ativo
+	 * 
+	 * @see #setDirectDraw(boolean)
+	 * 
+	 * @since 0.2
+	 */
+	public boolean isDirectDraw() {
+
+		return pdfViewer.isDirectDraw();
+	}
+
+	/**
+	 * <p>
+	 * Define como os dados são colocados no PDF. Por padrão ({@code false}) os
+	 * campos do formulário do template são preenchidos e depois achatados. Com
+	 * {@code true} os dados são desenhados diretamente sobre o conteúdo do
+	 * template, usando as posições e fontes dos campos, o que evita o custo de
+	 * preencher, achatar e remover o formulário a cada boleto.
+	 * </p>
+	 * 
+	 * <p>
+	 * No desenho direto, fontes não embutidas no template são substituídas pela
+	 * fonte padrão PDF equivalente (Arial por Helvetica, por exemplo).
+	 * </p>
+	 * 
+	 * <p>
+	 * Em lote, veja {@link #groupInOnePDF(List, File, BoletoViewer)}.
+	 * </p>
+	 * 
+	 * @param directDraw
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setDirectDraw(boolean directDraw) {
+
+		this.pdfViewer.setDirectDraw(directDraw);
+
+		return this;
+	}
+
+	/**
+	 * @return cache utilizado ou {@code null}
+	 * 
+	 * @see #setCache(BoletoCache)
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoCache getCache() {
+
+		return pdfViewer.getCache();
+	}
+
+	/**
+	 * <p>
+	 * Define um cache de boletos gerados. Antes de gerar o PDF, o visualizador
+	 * calcula a chave do boleto (um resumo de tudo o que seria escrito nele,
+	 * do template e do modo de geração) e, se o boleto já estiver no cache,
+	 * devolve os bytes guardados sem gerar nada.
+	 * </p>
+	 * 
+	 * @param cache
+	 *            - Cache ou {@code null} para não usar cache
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setCache(BoletoCache cache) {
+
+		this.pdfViewer.setCache(cache);
+
+		return this;
+	}
+
+	/**
+	 * @return cache de templates do cedente ou {@code null}
+	 * 
+	 * @see #setTemplateCache(TemplateCache)
+	 * 
+	 * @since 0.2
+	 */
+	public TemplateCache getTemplateCache() {
+
+		return pdfViewer.getTemplateCache();
+	}
+
+	/**
+	 * <p>
+	 * Define um cache de templates já carimbados com os campos fixos do
+	 * cedente (banco, cedente, conta, local de pagamento e instruções ao
+	 * caixa). Numa remessa com muitos boletos do mesmo cedente, cada boleto
+	 * só preenche os campos que mudam. O mesmo cache pode ser compartilhado
+	 * entre visualizadores e threads.
+	 * </p>
+	 * 
+	 * @param templateCache
+	 *            - Cache ou {@code null} para não usar cache
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setTemplateCache(TemplateCache templateCache) {
+
+		this.pdfViewer.setTemplateCache(templateCache);
+
+		return this;
+	}
+
+	/**
+	 * @return true se o modo determinístico estiver ativo
+	 * 
+	 * @see #setDeterministic(boolean)
+	 * 
+	 * @since 0.2
+	 */
+	public boolean isDeterministic() {
+
+		return pdfViewer.isDeterministic();
+	}
+
+	/**
+	 * <p>
+	 * Ativa o modo determinístico, no qual o mesmo boleto gera sempre o mesmo
+	 * PDF, byte a byte, o que permite comparar arquivos, guardar resumos e
+	 * reaproveitar caches entre execuções.
+	 * </p>
+	 * 
+	 * <p>
+	 * Nesse modo a data de processamento impressa e as datas do documento PDF
+	 * vêm do relógio informado em {@link #setClock(Clock)} ou, sem relógio,
+	 * da data do documento do título; e o identificador do arquivo passa a
+	 * ser um resumo do próprio conteúdo, em vez de um valor aleatório.
+	 * </p>
+	 * 
+	 * @param deterministic
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setDeterministic(boolean deterministic) {
+
+		this.pdfViewer.setDeterministic(deterministic);
+
+		return this;
+	}
+
+	/**
+	 * @return relógio do modo determinístico ou {@code null}
+	 * 
+	 * @see #setClock(Clock)
+	 * 
+	 * @since 0.2
+	 */
+	public Clock getClock() {
+
+		return pdfViewer.getClock();
+	}
+
+	/**
+	 * <p>
+	 * Define o relógio que fornece a data de referência do modo
+	 * determinístico. Um relógio fixo ({@link Clock#fixed}) faz com que
+	 * todos os boletos gerados tenham a mesma data de processamento.
+	 * </p>
+	 * 
+	 * @param clock
+	 *            - Relógio ou {@code null} para usar a data do documento
+	 * 
+	 * @see #setDeterministic(boolean)
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setClock(Clock clock) {
+
+		this.pdfViewer.setClock(clock);
+
+		return this;
+	}
+
+	/**
+	 * @return perfil de saída do PDF
+	 * 
+	 * @see #setOutputProfile(OutputProfile)
+	 * 
+	 * @since 0.2
+	 */
+	public OutputProfile getOutputProfile() {
+
+		return pdfViewer.getOutputProfile();
+	}
+
+	/**
+	 * <p>
+	 * Define o perfil de saída do PDF, que troca tempo de geração por tamanho
+	 * de arquivo: {@link OutputProfile#FAST} gera mais rápido e
+	 * {@link OutputProfile#COMPACT} (o padrão) gera o menor arquivo.
+	 * </p>
+	 * 
+	 * @param outputProfile
+	 *            - Perfil de saída
+	 * 
+	 * @since 0.2
+	 */
+	public BoletoViewer setOutputProfile(OutputProfile outputProfile) {
+
+		Objects.checkNotNull(outputProfile, "Perfil de saída nulo!");
+
+		this.pdfViewer.setOutputProfile(outputProfile);
+
+		return this;
+	}
+
 	/**
 	 * <p>
 	 * Retorna o boleto em um arquivo pdf.
@@ -705,6 +1165,26 @@ public class BoletoViewer {
 		return pdfViewer.getBytes();
 	}
 
+	/**
+	 * <p>
+	 * Retorna o boleto em uma vista somente leitura. Ao contrário do
+	 * {@link #getPdfAsByteArray()}, não copia o PDF quando ele vem do
+	 * {@link BoletoCache}.
+	 * </p>
+	 * 
+	 * @return Boleto em um {@link ByteBuffer} somente leitura
+	 * 
+	 * @since 0.2
+	 */
+	public ByteBuffer getPdfAsByteBuffer() {
+
+		if (log.isDebugEnabled()) {
+			log.debug("documento instance : " + pdfViewer);
+		}
+
+		return pdfViewer.getByteBuffer();
+	}
+
 	/**
 	 * <p>
 	 * Retorna o boleto usado pelo visualizador
@@ -751,7 +1231,7 @@ public class BoletoViewer {
 
 		if (isNotNull(this.pdfViewer)) {
 
-			this.pdfViewer = new PdfViewer(boleto, this.pdfViewer.getTemplate());
+			this.pdfViewer = new PdfViewer(boleto, this.pdfViewer);
 
 		} else {
 
@@ -759,6 +1239,39 @@ public class BoletoViewer {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Novo visualizador com as mesmas configurações deste (template, modo de
+	 * desenho, caches, modo determinístico e perfil de saída). Um
+	 * visualizador não deve ser usado por duas threads ao mesmo tempo, então
+	 * quem gera em paralelo usa uma cópia por boleto.
+	 * </p>
+	 * 
+	 * @param boleto
+	 *            - Boleto da cópia ou {@code null} para só copiar as
+	 *            configurações
+	 * @return a cópia
+	 * 
+	 * @since 0.2
+	 */
+	BoletoViewer copiar(Boleto boleto) {
+
+		BoletoViewer copia = new BoletoViewer();
+		copia.pdfViewer = new PdfViewer(boleto, pdfViewer);
+
+		return copia;
+	}
+
+	/**
+	 * @return configuração de geração deste visualizador
+	 * 
+	 * @since 0.2
+	 */
+	PdfViewer getPdfViewer() {
+
+		return pdfViewer;
+	}
+
 	private static void checkDestPath(String path) {
 
 		checkString(path,
@@ -0,0 +1,450 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 10:38:26
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 10:38:26
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.bopepo.pdf.Files;
+import org.jrimum.utilix.BufferPool;
+import org.jrimum.utilix.Collections;
+import org.jrimum.utilix.Objects;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfImportedPage;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * <p>
+ * Visualização de boletos em forma de <strong>carnê</strong>: várias lâminas
+ * (a ficha de compensação de cada boleto) por página, dispostas em linhas e
+ * colunas, com marcas de corte opcionais entre elas.
+ * </p>
+ * 
+ * <p>
+ * Todas as lâminas são montadas em uma única passagem sobre um só documento:
+ * o layout estático do template é importado uma vez e reaproveitado em todas
+ * as lâminas, assim como a logo do banco, e os dados de cada boleto são
+ * desenhados diretamente na sua região da página. Não há um PDF por boleto
+ * nem junção de documentos.
+ * </p>
+ * 
+ * <p>
+ * Exemplo, carnê com 3 lâminas por página A4:
+ * 
+ * <pre>
+ * new CarneViewer(3, 1).getPdfAsFile(boletos, new File(&quot;carne.pdf&quot;));
+ * </pre>
+ * 
+ * </p>
+ * 
+ * @see DirectDrawFieldWriter
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class CarneViewer {
+
+	private static Logger log = Logger.getLogger(CarneViewer.class);
+
+	/**
+	 * <p>
+	 * Região da ficha de compensação nos templates padrão (em pontos, origem
+	 * no canto inferior esquerdo), sem a linha pontilhada de corte do
+	 * template.
+	 * </p>
+	 */
+	public static final Rectangle AREA_FICHA_DE_COMPENSACAO = new Rectangle(18, 16, 578, 358);
+
+	/**
+	 * Margem padrão da página: 1/4 de polegada.
+	 */
+	private static final float MARGEM_PADRAO = 18;
+
+	private final int linhas;
+
+	private final int colunas;
+
+	private Rectangle pagina = PageSize.A4;
+
+	private float margem = MARGEM_PADRAO;
+
+	private boolean marcasDeCorte = true;
+
+	private Rectangle area = AREA_FICHA_DE_COMPENSACAO;
+
+	private File template;
+
+	/**
+	 * <p>
+	 * Carnê com 3 lâminas por página A4, uma embaixo da outra.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer() {
+
+		this(3, 1);
+	}
+
+	/**
+	 * <p>
+	 * Carnê com <code>linhas x colunas</code> lâminas por página.
+	 * </p>
+	 * 
+	 * @param linhas
+	 *            - Quantidade de lâminas na vertical
+	 * @param colunas
+	 *            - Quantidade de lâminas na horizontal
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer(int linhas, int colunas) {
+
+		if (linhas < 1 || colunas < 1) {
+			throw new IllegalArgumentException("Linhas e colunas devem ser maiores que zero! Linhas: " + linhas + ", colunas: " + colunas);
+		}
+
+		this.linhas = linhas;
+		this.colunas = colunas;
+	}
+
+	/**
+	 * @return template utilizado ou {@code null} se for o padrão
+	 * 
+	 * @since 0.2
+	 */
+	public File getTemplate() {
+
+		return template;
+	}
+
+	/**
+	 * <p>
+	 * Define o template que será utilizado nas lâminas. Sem template definido
+	 * é usado o padrão de cada boleto (com ou sem sacador avalista).
+	 * </p>
+	 * 
+	 * @param template
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setTemplate(File template) {
+
+		Objects.checkNotNull(template, "Arquivo de template nulo!");
+
+		this.template = template;
+
+		return this;
+	}
+
+	/**
+	 * @see #setTemplate(File)
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setTemplate(String pathName) {
+
+		Objects.checkNotNull(pathName, "Caminho do template nulo!");
+
+		return setTemplate(new File(pathName));
+	}
+
+	/**
+	 * <p>
+	 * Tamanho da página do carnê. Padrão: A4.
+	 * </p>
+	 * 
+	 * @param pagina
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setPageSize(Rectangle pagina) {
+
+		Objects.checkNotNull(pagina, "Tamanho da página nulo!");
+
+		this.pagina = pagina;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Margem, em pontos, entre a borda da página e as lâminas. Padrão: 18.
+	 * </p>
+	 * 
+	 * @param margem
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setMargin(float margem) {
+
+		if (margem < 0) {
+			throw new IllegalArgumentException("Margem negativa: " + margem);
+		}
+
+		this.margem = margem;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Indica se devem ser desenhadas linhas pontilhadas de corte entre as
+	 * lâminas. Padrão: sim.
+	 * </p>
+	 * 
+	 * @param marcasDeCorte
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setCutMarks(boolean marcasDeCorte) {
+
+		this.marcasDeCorte = marcasDeCorte;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Região do template que forma a lâmina, em coordenadas do template.
+	 * Padrão: {@link #AREA_FICHA_DE_COMPENSACAO}.
+	 * </p>
+	 * 
+	 * @param area
+	 * @return este visualizador
+	 * 
+	 * @since 0.2
+	 */
+	public CarneViewer setSlipArea(Rectangle area) {
+
+		Objects.checkNotNull(area, "Área da lâmina nula!");
+
+		this.area = area;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Gera o carnê com os boletos da lista, na ordem da lista.
+	 * </p>
+	 * 
+	 * @param boletos
+	 * @return carnê em PDF
+	 * 
+	 * @since 0.2
+	 */
+	public byte[] getPdfAsByteArray(List<Boleto> boletos) {
+
+		Objects.checkNotNull(boletos, "Lista de boletos nula!");
+		Collections.checkNotEmpty(boletos, "A Lista de boletos está vazia!");
+
+		try {
+
+			return montar(boletos);
+
+		} catch (Exception e) {
+
+			log.error("Erro durante a geração do carnê! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a geração do carnê! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Gera o carnê com os boletos da lista em um arquivo.
+	 * </p>
+	 * 
+	 * @param boletos
+	 * @param destFile
+	 * @return arquivo gerado
+	 * 
+	 * @since 0.2
+	 */
+	public File getPdfAsFile(List<Boleto> boletos, File destFile) {
+
+		Objects.checkNotNull(destFile, "Arquivo destinado a geração do(s) boleto(s) nulo!");
+
+		byte[] pdf = getPdfAsByteArray(boletos);
+
+		try {
+
+			return Files.bytesToFile(destFile, pdf);
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a criação do arquivo! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro ao tentar criar arquivo! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	private byte[] montar(List<Boleto> boletos) throws IOException, DocumentException {
+
+		BufferPool.Buffer out = BufferPool.getDefault().acquire("CarneViewer");
+
+		Document document = new Document(pagina, 0, 0, 0, 0);
+		PdfWriter writer = PdfWriter.getInstance(document, out);
+		writer.setFullCompression();
+
+		document.open();
+
+		PdfContentByte cb = writer.getDirectContent();
+
+		// Cada template é importado uma única vez e reaproveitado por todas as
+		// lâminas que o utilizam.
+		Map<TemplateLayout, PdfImportedPage> importados = new HashMap<TemplateLayout, PdfImportedPage>();
+		Map<TemplateLayout, PdfReader> readers = new HashMap<TemplateLayout, PdfReader>();
+		Map<Object, Image> imagens = new HashMap<Object, Image>();
+
+		int porPagina = linhas * colunas;
+		float larguraCelula = (pagina.getWidth() - 2 * margem) / colunas;
+		float alturaCelula = (pagina.getHeight() - 2 * margem) / linhas;
+		float escala = Math.min(larguraCelula / area.getWidth(), alturaCelula / area.getHeight());
+
+		try {
+
+			int i = 0;
+
+			for (Boleto boleto : boletos) {
+
+				int celula = i++ % porPagina;
+
+				if (celula == 0 && i > 1) {
+					document.newPage();
+				}
+
+				if (celula == 0 && marcasDeCorte) {
+					desenharMarcasDeCorte(cb, larguraCelula, alturaCelula);
+				}
+
+				PdfViewer viewer = new PdfViewer(boleto, template);
+				viewer.setImagens(imagens);
+
+				TemplateLayout layout = viewer.getLayout();
+				PdfImportedPage importado = importados.get(layout);
+
+				if (isNull(importado)) {
+
+					PdfReader reader = layout.newReader();
+					readers.put(layout, reader);
+
+					importado = writer.getImportedPage(reader, 1);
+					importados.put(layout, importado);
+				}
+
+				float x = margem + (celula % colunas) * larguraCelula + (larguraCelula - area.getWidth() * escala) / 2;
+				float y = pagina.getHeight() - margem - (celula / colunas + 1) * alturaCelula + (alturaCelula - area.getHeight() * escala) / 2;
+
+				cb.saveState();
+
+				cb.concatCTM(escala, 0, 0, escala, x - area.getLeft() * escala, y - area.getBottom() * escala);
+				cb.rectangle(area.getLeft(), area.getBottom(), area.getWidth(), area.getHeight());
+				cb.clip();
+				cb.newPath();
+
+				cb.addTemplate(importado, 0, 0);
+
+				viewer.preencher(new DirectDrawFieldWriter(layout, area, cb));
+
+				cb.restoreState();
+			}
+
+			document.close();
+
+		} finally {
+
+			for (PdfReader reader : readers.values()) {
+				reader.close();
+			}
+		}
+
+		byte[] pdf = out.toByteArray();
+
+		BufferPool.getDefault().release(out);
+
+		return pdf;
+	}
+
+	/**
+	 * <p>
+	 * Linhas pontilhadas entre as células da página.
+	 * </p>
+	 */
+	private void desenharMarcasDeCorte(PdfContentByte cb, float larguraCelula, float alturaCelula) {
+
+		cb.saveState();
+
+		cb.setLineWidth(0.3f);
+		cb.setLineDash(3, 3, 0);
+		cb.setGrayStroke(0.5f);
+
+		for (int l = 1; l < linhas; l++) {
+
+			float y = pagina.getHeight() - margem - l * alturaCelula;
+
+			cb.moveTo(margem, y);
+			cb.lineTo(pagina.getWidth() - margem, y);
+		}
+
+		for (int c = 1; c < colunas; c++) {
+
+			float x = margem + c * larguraCelula;
+
+			cb.moveTo(x, margem);
+			cb.lineTo(x, pagina.getHeight() - margem);
+		}
+
+		cb.stroke();
+		cb.restoreState();
+	}
+}
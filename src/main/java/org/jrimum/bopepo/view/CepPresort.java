@@ -0,0 +1,791 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 19:12:06
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 19:12:06
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.domkee.comum.pessoa.endereco.CEP;
+import org.jrimum.domkee.comum.pessoa.endereco.Endereco;
+import org.jrimum.domkee.financeiro.banco.febraban.Sacado;
+import org.jrimum.utilix.Objects;
+
+import com.lowagie.text.DocumentException;
+
+/**
+ * <p>
+ * Ordena lotes de boletos pelo CEP do sacado, para a pré-triagem postal, sem
+ * manter os boletos em memória. Cada boleto vira um único <code>long</code>
+ * (o CEP e a posição do boleto no lote) e a ordenação é uma ordenação
+ * externa: blocos de tamanho limitado são ordenados em memória, gravados em
+ * arquivos temporários e intercalados na leitura.
+ * </p>
+ * 
+ * <p>
+ * Como só o CEP e a posição são guardados, a geração busca cada boleto de
+ * novo, na ordem dos CEPs, através de uma {@link FonteDeBoletos}, e o escreve direto
+ * no PDF de saída, com uma página separadora opcional entre as faixas de CEP
+ * ou um arquivo por faixa.
+ * </p>
+ * 
+ * <pre>
+ * CepPresort.Ordem ordem = new CepPresort().sort(boletos);
+ * BoletoViewer viewer = new BoletoViewer().setOutputProfile(OutputProfile.COMPACT);
+ * 
+ * try {
+ * 	CepPresort.groupInOnePDF(ordem, fonte, viewer, out, 5);
+ * } finally {
+ * 	ordem.close();
+ * }
+ * </pre>
+ * 
+ * <p>
+ * Boletos com o mesmo CEP mantêm a ordem original; boletos sem CEP válido
+ * ficam no fim.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class CepPresort {
+
+	private static Logger log = Logger.getLogger(CepPresort.class);
+
+	/**
+	 * <p>
+	 * Valor usado no lugar do CEP de sacados sem CEP válido, maior que
+	 * qualquer CEP.
+	 * </p>
+	 */
+	public static final int SEM_CEP = 100000000;
+
+	/**
+	 * <p>
+	 * Nome da faixa dos boletos sem CEP válido.
+	 * </p>
+	 */
+	public static final String FAIXA_SEM_CEP = "SemCEP";
+
+	private static final int BITS_DO_INDICE = 36;
+
+	private static final long MAX_INDICE = (1L << BITS_DO_INDICE) - 1;
+
+	private static final int REGISTROS_EM_MEMORIA = 1 << 20;
+
+	private final File diretorio;
+
+	private final int registrosEmMemoria;
+
+	/**
+	 * <p>
+	 * Ordenação com blocos de 1.048.576 boletos (8 MB) no diretório temporário
+	 * do sistema.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public CepPresort() {
+
+		this(new File(System.getProperty("java.io.tmpdir")), REGISTROS_EM_MEMORIA);
+	}
+
+	/**
+	 * @param diretorioTemporario
+	 *            - Diretório dos arquivos temporários
+	 * @param registrosEmMemoria
+	 *            - Quantidade de boletos ordenados em memória por bloco; cada
+	 *            boleto ocupa 8 bytes
+	 * 
+	 * @since 0.2
+	 */
+	public CepPresort(File diretorioTemporario, int registrosEmMemoria) {
+
+		Objects.checkNotNull(diretorioTemporario, "Diretório temporário nulo!");
+
+		if (!diretorioTemporario.isDirectory()) {
+			throw new IllegalArgumentException("Isto não é um diretório válido: " + diretorioTemporario);
+		}
+
+		if (registrosEmMemoria < 1) {
+			throw new IllegalArgumentException("Quantidade de registros em memória deve ser maior que zero: " + registrosEmMemoria);
+		}
+
+		this.diretorio = diretorioTemporario;
+		this.registrosEmMemoria = registrosEmMemoria;
+	}
+
+	/**
+	 * <p>
+	 * Lê os boletos uma única vez, na ordem do lote, e os ordena pelo CEP do
+	 * sacado. Os boletos não são guardados.
+	 * </p>
+	 * 
+	 * @param boletos
+	 *            - Boletos do lote; a posição de cada um é a usada na
+	 *            {@link FonteDeBoletos}
+	 * @return ordem dos boletos, que deve ser fechada para apagar os arquivos
+	 *         temporários
+	 * 
+	 * @since 0.2
+	 */
+	public Ordem sort(Iterable<Boleto> boletos) {
+
+		Objects.checkNotNull(boletos, "Boletos nulos!");
+
+		Ordem ordem = new Ordem();
+		long[] bloco = new long[registrosEmMemoria];
+		int quantidade = 0;
+		long indice = 0;
+
+		try {
+
+			for (Boleto boleto : boletos) {
+
+				if (indice > MAX_INDICE) {
+					throw new IllegalArgumentException("Lote com mais de " + MAX_INDICE + " boletos!");
+				}
+
+				if (quantidade == bloco.length) {
+
+					ordem.gravar(bloco, quantidade);
+					quantidade = 0;
+				}
+
+				bloco[quantidade++] = ((long) getCep(boleto) << BITS_DO_INDICE) | indice++;
+			}
+
+			if (ordem.arquivos.isEmpty()) {
+
+				ordem.memoria = Arrays.copyOf(bloco, quantidade);
+				Arrays.sort(ordem.memoria);
+
+			} else if (quantidade > 0) {
+
+				ordem.gravar(bloco, quantidade);
+			}
+
+			ordem.tamanho = indice;
+
+			if (log.isDebugEnabled()) {
+				log.debug(indice + " boletos ordenados por CEP em " + Math.max(1, ordem.arquivos.size()) + " bloco(s).");
+			}
+
+			return ordem;
+
+		} catch (IOException e) {
+
+			ordem.close();
+
+			log.error("Erro durante a ordenação por CEP! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a ordenação por CEP! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * CEP do primeiro endereço do sacado como número de 8 dígitos, a partir do
+	 * prefixo e do sufixo ou, sem eles, dos dígitos do CEP completo.
+	 * </p>
+	 * 
+	 * @param boleto
+	 * @return CEP ou {@link #SEM_CEP}
+	 * 
+	 * @since 0.2
+	 */
+	public static int getCep(Boleto boleto) {
+
+		Sacado sacado = boleto.getTitulo().getSacado();
+
+		if (isNull(sacado) || isNull(sacado.getEnderecos()) || sacado.getEnderecos().isEmpty()) {
+			return SEM_CEP;
+		}
+
+		Endereco endereco = sacado.getEnderecos().iterator().next();
+		CEP cep = isNotNull(endereco) ? endereco.getCEP() : null;
+
+		if (isNull(cep)) {
+			return SEM_CEP;
+		}
+
+		if (isNotNull(cep.getPrefixo()) && isNotNull(cep.getSufixo())) {
+
+			int prefixo = cep.getPrefixo();
+			int sufixo = cep.getSufixo();
+
+			if (prefixo >= 0 && prefixo < 100000 && sufixo >= 0 && sufixo < 1000) {
+				return prefixo * 1000 + sufixo;
+			}
+
+			return SEM_CEP;
+		}
+
+		return getCep(cep.getCep());
+	}
+
+	private static int getCep(String cep) {
+
+		if (isNull(cep)) {
+			return SEM_CEP;
+		}
+
+		int valor = 0;
+		int digitos = 0;
+
+		for (int i = 0; i < cep.length(); i++) {
+
+			char c = cep.charAt(i);
+
+			if (c >= '0' && c <= '9') {
+
+				valor = valor * 10 + (c - '0');
+
+				if (++digitos > 8) {
+					return SEM_CEP;
+				}
+
+			} else if (c != '.' && c != '-' && c != ' ') {
+
+				return SEM_CEP;
+			}
+		}
+
+		return digitos == 8 ? valor : SEM_CEP;
+	}
+
+	/**
+	 * <p>
+	 * Escreve os boletos, na ordem dos CEPs, em um único PDF. Cada boleto é
+	 * buscado na fonte, gerado com as configurações do visualizador e copiado
+	 * para a saída, de forma que só um boleto por vez fica em memória.
+	 * </p>
+	 * 
+	 * @param ordem
+	 *            - Ordem obtida por {@link #sort(Iterable)}
+	 * @param fonte
+	 *            - Fonte dos boletos pela posição no lote
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração, por
+	 *            exemplo criado com {@link BoletoViewer#BoletoViewer()}
+	 * @param out
+	 *            - Destino do PDF, que não é fechado
+	 * @param digitosDaFaixa
+	 *            - Dígitos iniciais do CEP que definem uma faixa (de 1 a 8);
+	 *            uma página separadora é inserida antes de cada faixa. Zero
+	 *            para não separar.
+	 * @return quantidade de boletos escritos
+	 * 
+	 * @since 0.2
+	 */
+	public static long groupInOnePDF(Ordem ordem, FonteDeBoletos fonte, BoletoViewer boletoViewer, OutputStream out, int digitosDaFaixa) {
+
+		checkGeracao(ordem, fonte, boletoViewer);
+		Objects.checkNotNull(out, "Destino do PDF nulo!");
+		checkDigitosDaFaixa(digitosDaFaixa, 0);
+
+		PageCopier copia = new PageCopier(out);
+		String faixaAtual = null;
+		long quantidade = 0;
+
+		try {
+
+			for (Posicao posicao : ordem) {
+
+				String separador = null;
+
+				if (digitosDaFaixa > 0) {
+
+					String faixa = posicao.getFaixa(digitosDaFaixa);
+
+					if (!faixa.equals(faixaAtual)) {
+
+						separador = faixa;
+						faixaAtual = faixa;
+					}
+				}
+
+				copia.adicionar(boletoViewer.setBoleto(fonte.get(posicao.getIndice())).getPdfAsByteArray(), separador);
+				quantidade++;
+			}
+
+			copia.fechar();
+
+		} catch (IOException e) {
+
+			log.error("Erro durante geração do PDF! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+
+		} catch (DocumentException e) {
+
+			log.error("Erro durante geração do PDF! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+
+		return quantidade;
+	}
+
+	/**
+	 * <p>
+	 * Escreve os boletos, na ordem dos CEPs, em um PDF por faixa de CEP, com o
+	 * nome <tt>prefixo + faixa + ".pdf"</tt>.
+	 * </p>
+	 * 
+	 * @param ordem
+	 *            - Ordem obtida por {@link #sort(Iterable)}
+	 * @param fonte
+	 *            - Fonte dos boletos pela posição no lote
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração, por
+	 *            exemplo criado com {@link BoletoViewer#BoletoViewer()}
+	 * @param destDir
+	 *            - Diretório dos arquivos
+	 * @param prefixo
+	 *            - Prefixo do nome dos arquivos
+	 * @param digitosDaFaixa
+	 *            - Dígitos iniciais do CEP que definem uma faixa (de 1 a 8)
+	 * @return arquivos gerados, na ordem das faixas
+	 * 
+	 * @since 0.2
+	 */
+	public static List<File> onePerFaixa(Ordem ordem, FonteDeBoletos fonte, BoletoViewer boletoViewer, File destDir, String prefixo, int digitosDaFaixa) {
+
+		checkGeracao(ordem, fonte, boletoViewer);
+		Objects.checkNotNull(destDir, "Diretório destinado a geração dos boletos nulo!");
+		checkDigitosDaFaixa(digitosDaFaixa, 1);
+
+		if (!destDir.isDirectory()) {
+			throw new IllegalArgumentException("Isto não é um diretório válido!");
+		}
+
+		List<File> arquivos = new ArrayList<File>();
+		OutputStream out = null;
+		PageCopier copia = null;
+		String faixaAtual = null;
+
+		try {
+
+			try {
+
+				for (Posicao posicao : ordem) {
+
+					String faixa = posicao.getFaixa(digitosDaFaixa);
+
+					if (!faixa.equals(faixaAtual)) {
+
+						if (isNotNull(copia)) {
+
+							copia.fechar();
+							out.close();
+						}
+
+						File arquivo = new File(destDir, (isNull(prefixo) ? "" : prefixo) + faixa + ".pdf");
+
+						out = new BufferedOutputStream(new FileOutputStream(arquivo), 64 * 1024);
+						copia = new PageCopier(out);
+						faixaAtual = faixa;
+
+						arquivos.add(arquivo);
+					}
+
+					copia.adicionar(boletoViewer.setBoleto(fonte.get(posicao.getIndice())).getPdfAsByteArray(), null);
+				}
+
+				if (isNotNull(copia)) {
+					copia.fechar();
+				}
+
+			} finally {
+
+				if (isNotNull(out)) {
+					out.close();
+				}
+			}
+
+		} catch (IOException e) {
+
+			log.error("Erro durante geração do PDF! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+
+		} catch (DocumentException e) {
+
+			log.error("Erro durante geração do PDF! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante geração do PDF! Causado por " + e.getLocalizedMessage(), e);
+		}
+
+		return arquivos;
+	}
+
+	private static void checkGeracao(Ordem ordem, FonteDeBoletos fonte, BoletoViewer boletoViewer) {
+
+		Objects.checkNotNull(ordem, "Ordem nula!");
+		Objects.checkNotNull(fonte, "Fonte dos boletos nula!");
+		Objects.checkNotNull(boletoViewer, "Visualizador nulo!");
+
+		if (fonte.size() < ordem.size()) {
+			throw new IllegalArgumentException("Fonte com " + fonte.size() + " boletos para uma ordem de " + ordem.size() + "!");
+		}
+	}
+
+	private static void checkDigitosDaFaixa(int digitos, int minimo) {
+
+		if (digitos < minimo || digitos > 8) {
+			throw new IllegalArgumentException("Dígitos da faixa de CEP devem estar entre " + minimo + " e 8: " + digitos);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Posição de um boleto no lote e o seu CEP.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final class Posicao {
+
+		private final long chave;
+
+		private Posicao(long chave) {
+			this.chave = chave;
+		}
+
+		/**
+		 * @return posição do boleto no lote
+		 */
+		public long getIndice() {
+			return chave & MAX_INDICE;
+		}
+
+		/**
+		 * @return CEP com 8 dígitos ou {@link CepPresort#SEM_CEP}
+		 */
+		public int getCep() {
+			return (int) (chave >>> BITS_DO_INDICE);
+		}
+
+		/**
+		 * @param digitos
+		 *            - Quantidade de dígitos iniciais do CEP, de 1 a 8
+		 * @return dígitos iniciais do CEP ou {@link CepPresort#FAIXA_SEM_CEP}
+		 */
+		public String getFaixa(int digitos) {
+
+			int cep = getCep();
+
+			if (cep == SEM_CEP) {
+				return FAIXA_SEM_CEP;
+			}
+
+			String completo = Integer.toString(cep + SEM_CEP).substring(1);
+
+			return completo.substring(0, digitos);
+		}
+
+		@Override
+		public String toString() {
+			return getIndice() + "@" + (getCep() == SEM_CEP ? FAIXA_SEM_CEP : getFaixa(8));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Resultado da ordenação: percorrê-la intercala os blocos gravados, lendo
+	 * os arquivos temporários em sequência. Pode ser percorrida mais de uma
+	 * vez, até ser fechada.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public final class Ordem implements Iterable<Posicao>, Closeable {
+
+		private final List<File> arquivos = new ArrayList<File>();
+
+		private final List<Integer> tamanhos = new ArrayList<Integer>();
+
+		private final Collection<DataInputStream> abertos = new ArrayList<DataInputStream>();
+
+		private long[] memoria;
+
+		private long tamanho;
+
+		private boolean fechada;
+
+		private Ordem() {
+		}
+
+		/**
+		 * @return quantidade de boletos
+		 */
+		public long size() {
+			return tamanho;
+		}
+
+		/**
+		 * @return quantidade de blocos gravados em arquivos temporários
+		 */
+		public int getBlocosGravados() {
+			return arquivos.size();
+		}
+
+		public Iterator<Posicao> iterator() {
+
+			if (fechada) {
+				throw new IllegalStateException("Ordem já fechada!");
+			}
+
+			if (isNotNull(memoria)) {
+				return new Memoria(memoria);
+			}
+
+			try {
+
+				return new Intercalacao();
+
+			} catch (IOException e) {
+
+				throw new IllegalStateException("Erro ao ler os blocos ordenados! Causado por " + e.getLocalizedMessage(), e);
+			}
+		}
+
+		/**
+		 * <p>
+		 * Apaga os arquivos temporários.
+		 * </p>
+		 */
+		public synchronized void close() {
+
+			fechada = true;
+
+			for (DataInputStream in : abertos) {
+
+				try {
+					in.close();
+				} catch (IOException e) {
+					log.warn("Erro ao fechar bloco ordenado: " + e.getLocalizedMessage());
+				}
+			}
+
+			abertos.clear();
+
+			for (File arquivo : arquivos) {
+
+				if (!arquivo.delete() && arquivo.exists()) {
+					log.warn("Não foi possível apagar o arquivo temporário " + arquivo);
+				}
+			}
+		}
+
+		private void gravar(long[] bloco, int quantidade) throws IOException {
+
+			Arrays.sort(bloco, 0, quantidade);
+
+			File arquivo = File.createTempFile("bopepo-cep-", ".bloco", diretorio);
+
+			arquivos.add(arquivo);
+			tamanhos.add(quantidade);
+
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(arquivo), 64 * 1024));
+
+			try {
+
+				for (int i = 0; i < quantidade; i++) {
+					out.writeLong(bloco[i]);
+				}
+
+			} finally {
+
+				out.close();
+			}
+		}
+
+		private synchronized DataInputStream abrir(File arquivo) throws IOException {
+
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(arquivo), 64 * 1024));
+
+			abertos.add(in);
+
+			return in;
+		}
+
+		private synchronized void fechar(DataInputStream in) throws IOException {
+
+			abertos.remove(in);
+
+			in.close();
+		}
+
+		private final class Memoria implements Iterator<Posicao> {
+
+			private final long[] chaves;
+
+			private int proxima;
+
+			Memoria(long[] chaves) {
+				this.chaves = chaves;
+			}
+
+			public boolean hasNext() {
+				return proxima < chaves.length;
+			}
+
+			public Posicao next() {
+
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				return new Posicao(chaves[proxima++]);
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		/**
+		 * <p>
+		 * Intercalação dos blocos: a fila de prioridade guarda a próxima chave
+		 * de cada bloco ainda não terminado.
+		 * </p>
+		 */
+		private final class Intercalacao implements Iterator<Posicao> {
+
+			private final PriorityQueue<Bloco> fila;
+
+			Intercalacao() throws IOException {
+
+				fila = new PriorityQueue<Bloco>(Math.max(1, arquivos.size()), new Comparator<Bloco>() {
+
+					public int compare(Bloco a, Bloco b) {
+						return a.chave < b.chave ? -1 : (a.chave == b.chave ? 0 : 1);
+					}
+				});
+
+				for (int i = 0; i < arquivos.size(); i++) {
+
+					Bloco bloco = new Bloco(abrir(arquivos.get(i)), tamanhos.get(i));
+
+					if (bloco.avancar()) {
+						fila.add(bloco);
+					}
+				}
+			}
+
+			public boolean hasNext() {
+				return !fila.isEmpty();
+			}
+
+			public Posicao next() {
+
+				Bloco bloco = fila.poll();
+
+				if (isNull(bloco)) {
+					throw new NoSuchElementException();
+				}
+
+				Posicao posicao = new Posicao(bloco.chave);
+
+				try {
+
+					if (bloco.avancar()) {
+						fila.add(bloco);
+					}
+
+				} catch (IOException e) {
+
+					throw new IllegalStateException("Erro ao ler os blocos ordenados! Causado por " + e.getLocalizedMessage(), e);
+				}
+
+				return posicao;
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		}
+
+		private final class Bloco {
+
+			private final DataInputStream in;
+
+			private int restantes;
+
+			private long chave;
+
+			Bloco(DataInputStream in, int restantes) {
+
+				this.in = in;
+				this.restantes = restantes;
+			}
+
+			boolean avancar() throws IOException {
+
+				if (restantes == 0) {
+
+					fechar(in);
+
+					return false;
+				}
+
+				chave = in.readLong();
+				restantes--;
+
+				return true;
+			}
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 16:48:30
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 16:48:30
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.lowagie.text.Image;
+
+/**
+ * <p>
+ * Não escreve PDF algum: resume em um hash tudo o que seria escrito nos
+ * campos. Dois boletos com o mesmo resumo (e o mesmo template) geram o mesmo
+ * conteúdo, o que torna o resumo uma chave para o {@link BoletoCache}.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class DigestFieldWriter implements FieldWriter {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private static final char[] HEXA = "0123456789abcdef".toCharArray();
+
+	private final MessageDigest digest;
+
+	DigestFieldWriter() {
+
+		try {
+
+			digest = MessageDigest.getInstance("SHA-256");
+
+		} catch (NoSuchAlgorithmException e) {
+
+			throw new IllegalStateException("SHA-256 indisponível!", e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Inclui no resumo um valor que não vem dos campos, como a identidade do
+	 * template.
+	 * </p>
+	 * 
+	 * @param valor
+	 */
+	void add(String valor) {
+
+		update('v', valor);
+	}
+
+	public void setText(String campo, String valor) {
+
+		update('t', campo);
+		update('=', valor);
+	}
+
+	public void setImage(String campo, Image imagem) {
+
+		update('i', campo);
+
+		if (isNotNull(imagem.getRawData())) {
+
+			digest.update(imagem.getRawData());
+
+		} else if (isNotNull(imagem.getUrl())) {
+
+			update('u', imagem.getUrl().toExternalForm());
+		}
+
+		update('x', imagem.getWidth() + "x" + imagem.getHeight());
+	}
+
+	public void setBarcode(String campo, String codigo) {
+
+		update('b', campo);
+		update('=', codigo);
+	}
+
+	/**
+	 * @return o resumo em hexadecimal
+	 */
+	String getDigest() {
+
+		byte[] hash = digest.digest();
+		char[] hexa = new char[hash.length * 2];
+
+		for (int i = 0; i < hash.length; i++) {
+
+			hexa[2 * i] = HEXA[(hash[i] >> 4) & 0xF];
+			hexa[2 * i + 1] = HEXA[hash[i] & 0xF];
+		}
+
+		return new String(hexa);
+	}
+
+	/**
+	 * Cada valor é precedido de um marcador e do tamanho, para que valores
+	 * vizinhos não se confundam.
+	 */
+	private void update(char marcador, String valor) {
+
+		digest.update((byte) marcador);
+
+		if (isNotNull(valor)) {
+
+			byte[] bytes = valor.getBytes(UTF_8);
+
+			digest.update(Integer.toString(bytes.length).getBytes(UTF_8));
+			digest.update((byte) ':');
+			digest.update(bytes);
+
+		} else {
+
+			digest.update((byte) '-');
+		}
+	}
+}
@@ -0,0 +1,229 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 10:05:52
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 10:05:52
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfContentByte;
+
+/**
+ * <p>
+ * Escreve os campos desenhando diretamente no conteúdo da página, nas
+ * coordenadas do template, sem passar pelo formulário. Não há o que achatar
+ * ou remover depois: o resultado já é o conteúdo final.
+ * </p>
+ * 
+ * <p>
+ * Cada texto é recortado pelo retângulo do seu campo, como acontece na
+ * aparência gerada pelo formulário. Campos de várias linhas têm o texto
+ * quebrado na largura do campo e nas quebras do próprio texto, com o mesmo
+ * espaçamento entre linhas do formulário; nos demais, as quebras viram
+ * espaços.
+ * </p>
+ * 
+ * @see TemplateLayout
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class DirectDrawFieldWriter implements FieldWriter {
+
+	private final TemplateLayout layout;
+
+	/**
+	 * Conteúdo de cada página do template, índice 0 para a página 1.
+	 */
+	private final PdfContentByte[] paginas;
+
+	/**
+	 * Quando definida, campos fora dela não são desenhados.
+	 */
+	private final Rectangle area;
+
+	/**
+	 * @param layout
+	 *            - Layout do template
+	 * @param paginas
+	 *            - Conteúdo onde cada página do template é desenhada
+	 */
+	DirectDrawFieldWriter(TemplateLayout layout, PdfContentByte... paginas) {
+
+		this(layout, null, paginas);
+	}
+
+	/**
+	 * @param layout
+	 *            - Layout do template
+	 * @param area
+	 *            - Área do template que será visível, em coordenadas do
+	 *            template
+	 * @param paginas
+	 *            - Conteúdo onde cada página do template é desenhada
+	 */
+	DirectDrawFieldWriter(TemplateLayout layout, Rectangle area, PdfContentByte... paginas) {
+
+		this.layout = layout;
+		this.area = area;
+		this.paginas = paginas;
+	}
+
+	public void setText(String campo, String valor) throws DocumentException {
+
+		if (StringUtils.isEmpty(valor)) {
+			return;
+		}
+
+		List<TemplateLayout.Widget> widgets = layout.getWidgets(campo);
+
+		if (isNull(widgets)) {
+			return;
+		}
+
+		for (TemplateLayout.Widget widget : widgets) {
+
+			PdfContentByte cb = getContent(widget);
+
+			if (isNotNull(cb)) {
+				drawText(cb, widget, valor);
+			}
+		}
+	}
+
+	public void setImage(String campo, Image imagem) throws DocumentException {
+
+		List<TemplateLayout.Widget> widgets = layout.getWidgets(campo);
+
+		if (isNull(widgets)) {
+			return;
+		}
+
+		// Assim como no formulário, apenas o primeiro widget recebe a imagem.
+		TemplateLayout.Widget widget = widgets.get(0);
+		PdfContentByte cb = getContent(widget);
+
+		if (isNotNull(cb)) {
+
+			Rectangle box = widget.getBox();
+
+			cb.addImage(imagem, box.getWidth(), 0, 0, box.getHeight(), box.getLeft(), box.getBottom());
+		}
+	}
+
+	public void setBarcode(String campo, String codigo) {
+
+		List<TemplateLayout.Widget> widgets = layout.getWidgets(campo);
+
+		if (isNull(widgets)) {
+			return;
+		}
+
+		TemplateLayout.Widget widget = widgets.get(0);
+		PdfContentByte cb = getContent(widget);
+
+		if (isNotNull(cb)) {
+			BarcodeViewer.draw(cb, codigo, widget.getBox());
+		}
+	}
+
+	private PdfContentByte getContent(TemplateLayout.Widget widget) {
+
+		if (widget.getPage() > paginas.length) {
+			return null;
+		}
+
+		if (isNotNull(area)) {
+
+			Rectangle box = widget.getBox();
+
+			if (box.getRight() <= area.getLeft() || box.getLeft() >= area.getRight()
+					|| box.getTop() <= area.getBottom() || box.getBottom() >= area.getTop()) {
+				return null;
+			}
+		}
+
+		return paginas[widget.getPage() - 1];
+	}
+
+	private static void drawText(PdfContentByte cb, TemplateLayout.Widget widget, String valor) throws DocumentException {
+
+		Rectangle box = widget.getBox();
+		float offX = widget.getClipOffset();
+		float size = widget.getFontSize(valor);
+
+		cb.saveState();
+
+		cb.rectangle(box.getLeft() + offX, box.getBottom() + offX, box.getWidth() - 2 * offX, box.getHeight() - 2 * offX);
+		cb.clip();
+		cb.newPath();
+
+		if (isNotNull(widget.getColor())) {
+			cb.setColorFill(widget.getColor());
+		} else {
+			cb.setGrayFill(0);
+		}
+
+		if (widget.isMultiline()) {
+
+			widget.getColumn(cb, valor, size).go();
+
+		} else {
+
+			cb.beginText();
+			cb.setFontAndSize(widget.getFont(), size);
+			cb.showTextAligned(widget.getAlignment(), semQuebras(valor), widget.getTextX(), widget.getTextY(size), 0);
+			cb.endText();
+		}
+
+		cb.restoreState();
+	}
+
+	/**
+	 * Como no formulário, campos de uma linha trocam as quebras por espaços.
+	 */
+	private static String semQuebras(String valor) {
+
+		if (valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+			return valor;
+		}
+
+		return valor.replace("\r\n", " ").replace('\n', ' ').replace('\r', ' ');
+	}
+}
@@ -0,0 +1,109 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 09:12:40
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 09:12:40
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.io.IOException;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+
+/**
+ * <p>
+ * Destino dos valores que o {@link PdfViewer} extrai do boleto. Separa o
+ * mapeamento boleto &rarr; campos do template (feito em
+ * {@code PdfViewer.preencher}) da forma como cada campo é efetivamente
+ * escrito no PDF.
+ * </p>
+ * 
+ * <p>
+ * Campos inexistentes no template são ignorados por todas as implementações,
+ * assim como acontece com o {@code AcroFields.setField}.
+ * </p>
+ * 
+ * @see AcroFormFieldWriter
+ * @see DirectDrawFieldWriter
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+interface FieldWriter {
+
+	/**
+	 * <p>
+	 * Escreve um texto no campo.
+	 * </p>
+	 * 
+	 * @param campo
+	 *            - Nome do campo no template
+	 * @param valor
+	 *            - Texto a ser escrito
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	void setText(String campo, String valor) throws IOException, DocumentException;
+
+	/**
+	 * <p>
+	 * Coloca uma imagem ocupando toda a área do campo.
+	 * </p>
+	 * 
+	 * @param campo
+	 *            - Nome do campo no template
+	 * @param imagem
+	 *            - Imagem a ser desenhada
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	void setImage(String campo, Image imagem) throws IOException, DocumentException;
+
+	/**
+	 * <p>
+	 * Desenha o código de barras (intercalado 2 de 5), em vetor, ocupando toda
+	 * a área do campo.
+	 * </p>
+	 * 
+	 * @param campo
+	 *            - Nome do campo no template
+	 * @param codigo
+	 *            - Os 44 dígitos do código de barras
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	void setBarcode(String campo, String codigo) throws IOException, DocumentException;
+}
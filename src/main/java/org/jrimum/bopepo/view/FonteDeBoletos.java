@@ -0,0 +1,66 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 15:12:37
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 15:12:37
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import org.jrimum.bopepo.Boleto;
+
+/**
+ * <p>
+ * Fonte dos boletos de um lote pela posição (a partir de zero). Em lotes
+ * grandes, busca o boleto (ou o título) no banco de dados ou no arquivo de
+ * origem, em vez de manter o lote em memória. A mesma posição deve devolver
+ * sempre o mesmo boleto.
+ * </p>
+ * 
+ * <p>
+ * Usada pelo {@link BatchRunner} e pelo {@link CepPresort}; a mesma fonte
+ * serve aos dois.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public interface FonteDeBoletos {
+
+	/**
+	 * @return quantidade de boletos do lote
+	 */
+	long size();
+
+	/**
+	 * @param indice
+	 *            - Posição do boleto no lote
+	 * @return o boleto
+	 */
+	Boleto get(long indice);
+}
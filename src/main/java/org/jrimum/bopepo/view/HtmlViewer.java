@@ -0,0 +1,167 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 16:38:12
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 16:38:12
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import org.apache.log4j.Logger;
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.utilix.Objects;
+
+import com.lowagie.text.DocumentException;
+
+/**
+ * <p>
+ * Visualizador leve do boleto em HTML ou texto simples, para e-mails e
+ * páginas web que só precisam da linha digitável, dos valores, das datas, das
+ * partes e do código de barras. Não gera PDF: os campos são extraídos do
+ * boleto com o mesmo mapeamento usado pelo {@link BoletoViewer} e escritos
+ * direto no destino por um {@link TextTemplate} já compilado.
+ * </p>
+ * 
+ * <p>
+ * Exemplo:
+ * </p>
+ * 
+ * <pre>
+ * new HtmlViewer(boleto).write(response.getWriter());
+ * 
+ * String texto = new HtmlViewer(boleto).setTemplate(TextTemplate.getDefaultText()).getContent();
+ * </pre>
+ * 
+ * @see TextTemplate
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class HtmlViewer {
+
+	private static Logger log = Logger.getLogger(HtmlViewer.class);
+
+	private final Boleto boleto;
+
+	private TextTemplate template = TextTemplate.getDefaultHtml();
+
+	/**
+	 * @param boleto
+	 *            - Boleto a ser visualizado
+	 * 
+	 * @since 0.2
+	 */
+	public HtmlViewer(Boleto boleto) {
+
+		Objects.checkNotNull(boleto, "Boleto nulo!");
+
+		this.boleto = boleto;
+	}
+
+	/**
+	 * @return template em uso
+	 * 
+	 * @since 0.2
+	 */
+	public TextTemplate getTemplate() {
+
+		return template;
+	}
+
+	/**
+	 * <p>
+	 * Define o template, HTML ou de texto simples. O padrão é
+	 * {@link TextTemplate#getDefaultHtml()}.
+	 * </p>
+	 * 
+	 * @param template
+	 * 
+	 * @since 0.2
+	 */
+	public HtmlViewer setTemplate(TextTemplate template) {
+
+		Objects.checkNotNull(template, "Template nulo!");
+
+		this.template = template;
+
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o boleto no destino, que não é fechado.
+	 * </p>
+	 * 
+	 * @param out
+	 * 
+	 * @since 0.2
+	 */
+	public void write(Writer out) {
+
+		Objects.checkNotNull(out);
+
+		try {
+
+			TextFieldWriter valores = new TextFieldWriter();
+
+			new PdfViewer(boleto).preencher(valores);
+
+			template.write(valores, out);
+
+		} catch (IOException e) {
+
+			log.error("Erro durante a escrita do boleto! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a escrita do boleto! Causado por " + e.getLocalizedMessage(), e);
+
+		} catch (DocumentException e) {
+
+			log.error("Erro durante a escrita do boleto! " + e.getLocalizedMessage(), e);
+
+			throw new IllegalStateException("Erro durante a escrita do boleto! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * @return o boleto escrito com o template
+	 * 
+	 * @since 0.2
+	 */
+	public String getContent() {
+
+		StringWriter out = new StringWriter(8192);
+
+		write(out);
+
+		return out.toString();
+	}
+}
@@ -0,0 +1,113 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 15:02:37
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 15:02:37
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+/**
+ * <p>
+ * Perfis de saída do PDF gerado a partir do template. Cada perfil define os
+ * passos executados ao finalizar o documento: a compressão com <em>object
+ * streams</em> e <em>xref streams</em> (PDF 1.5), a consolidação dos destinos
+ * nomeados e a eliminação dos <em>streams</em> compartilhados entre páginas.
+ * </p>
+ * 
+ * <p>
+ * Todos os perfis achatam os campos do formulário, de modo que o conteúdo
+ * visível do boleto é o mesmo em qualquer um deles; muda apenas o tempo gasto
+ * para gerar o arquivo e o tamanho final. O nível de compressão dos
+ * <em>streams</em> de conteúdo não é configurável na versão do iText usada.
+ * A troca entre os perfis pode ser medida com
+ * <tt>org.jrimum.bopepo.bench.OutputProfileBench</tt> (em
+ * <tt>src/bench/java</tt>).
+ * </p>
+ * 
+ * @see BoletoViewer#setOutputProfile(OutputProfile)
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public enum OutputProfile {
+
+	/**
+	 * <p>
+	 * Menor custo de CPU: tabela de referências clássica, sem <em>object
+	 * streams</em>, e sem os passos de limpeza do template. Indicado para
+	 * boletos exibidos na hora e descartados em seguida.
+	 * </p>
+	 */
+	FAST(false, false, false),
+
+	/**
+	 * <p>
+	 * Menor arquivo: <em>object streams</em> e <em>xref streams</em> (PDF
+	 * 1.5), com todos os passos de limpeza. É o comportamento padrão e o
+	 * indicado para boletos armazenados ou enviados por e-mail.
+	 * </p>
+	 */
+	COMPACT(true, true, true);
+
+	private final boolean fullCompression;
+
+	private final boolean consolidarDestinos;
+
+	private final boolean eliminarStreamsCompartilhados;
+
+	private OutputProfile(boolean fullCompression, boolean consolidarDestinos, boolean eliminarStreamsCompartilhados) {
+
+		this.fullCompression = fullCompression;
+		this.consolidarDestinos = consolidarDestinos;
+		this.eliminarStreamsCompartilhados = eliminarStreamsCompartilhados;
+	}
+
+	/**
+	 * @return true se o documento usa <em>object streams</em> e <em>xref
+	 *         streams</em> (PDF 1.5)
+	 */
+	public boolean isFullCompression() {
+		return fullCompression;
+	}
+
+	/**
+	 * @return true se os destinos nomeados do template são consolidados
+	 */
+	public boolean isConsolidarDestinos() {
+		return consolidarDestinos;
+	}
+
+	/**
+	 * @return true se os <em>streams</em> compartilhados entre páginas são
+	 *         duplicados em cada página
+	 */
+	public boolean isEliminarStreamsCompartilhados() {
+		return eliminarStreamsCompartilhados;
+	}
+}
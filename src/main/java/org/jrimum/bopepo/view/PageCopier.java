@@ -0,0 +1,193 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 20:03:44
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 20:03:44
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+import com.lowagie.text.pdf.RandomAccessFileOrArray;
+
+/**
+ * <p>
+ * Copia as páginas de vários PDFs, um de cada vez, para um único documento
+ * escrito direto no destino. Cada PDF de origem é liberado logo após a cópia,
+ * de forma que a memória usada não cresce com a quantidade de PDFs, ao
+ * contrário do {@code PDFUtil.mergeFiles}.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class PageCopier {
+
+	private final OutputStream out;
+
+	private Document document;
+
+	private PdfCopy copy;
+
+	private int paginas;
+
+	/**
+	 * @param out
+	 *            - Destino do documento, que não é fechado
+	 */
+	PageCopier(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * <p>
+	 * Copia as páginas do PDF, precedidas, se houver faixa, de uma página
+	 * separadora do mesmo tamanho com a faixa de CEP que começa.
+	 * </p>
+	 * 
+	 * @param pdf
+	 * @param faixa
+	 *            - Faixa de CEP ou {@code null} para não separar
+	 * @throws IOException
+	 * @throws DocumentException
+	 */
+	void adicionar(byte[] pdf, String faixa) throws IOException, DocumentException {
+
+		PdfReader reader = new PdfReader(pdf);
+
+		try {
+
+			if (isNotNull(faixa)) {
+
+				PdfReader separador = new PdfReader(getSeparador(reader.getPageSizeWithRotation(1), faixa));
+
+				try {
+					copiar(separador);
+				} finally {
+					separador.close();
+				}
+			}
+
+			copiar(reader);
+
+		} finally {
+
+			reader.close();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Copia as páginas de um PDF em disco, lido aos poucos.
+	 * </p>
+	 * 
+	 * @param pdf
+	 * @throws IOException
+	 * @throws DocumentException
+	 */
+	void adicionar(File pdf) throws IOException, DocumentException {
+
+		PdfReader reader = new PdfReader(new RandomAccessFileOrArray(pdf.getAbsolutePath(), false, true), null);
+
+		try {
+
+			copiar(reader);
+
+		} finally {
+
+			reader.close();
+		}
+	}
+
+	/**
+	 * @return quantidade de páginas copiadas
+	 */
+	int getPaginas() {
+		return paginas;
+	}
+
+	/**
+	 * <p>
+	 * Fecha o documento. Sem página copiada, nada é escrito.
+	 * </p>
+	 */
+	void fechar() {
+
+		if (isNotNull(document)) {
+			document.close();
+		}
+	}
+
+	private void copiar(PdfReader reader) throws IOException, DocumentException {
+
+		if (isNull(document)) {
+
+			document = new Document(reader.getPageSizeWithRotation(1));
+			copy = new PdfCopy(document, out);
+			copy.setFullCompression();
+
+			document.open();
+		}
+
+		for (int i = 1; i <= reader.getNumberOfPages(); i++) {
+			copy.addPage(copy.getImportedPage(reader, i));
+		}
+
+		paginas += reader.getNumberOfPages();
+
+		copy.freeReader(reader);
+	}
+
+	private static byte[] getSeparador(Rectangle tamanho, String faixa) throws DocumentException {
+
+		ByteArrayOutputStream separador = new ByteArrayOutputStream(2048);
+
+		Document pagina = new Document(tamanho);
+		PdfWriter.getInstance(pagina, separador);
+
+		pagina.open();
+		pagina.add(new Paragraph("CEP " + faixa));
+		pagina.close();
+
+		return separador.toByteArray();
+	}
+}
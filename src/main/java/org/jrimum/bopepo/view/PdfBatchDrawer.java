@@ -0,0 +1,163 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 14:48:09
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 14:48:09
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jrimum.bopepo.Boleto;
+import org.jrimum.utilix.BufferPool;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+import com.lowagie.text.pdf.PdfImportedPage;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * <p>
+ * Desenha todos os boletos de uma lista em um único documento, sem gerar e
+ * juntar um PDF por boleto. As páginas de cada template são importadas uma vez
+ * e referenciadas (como <em>XObject</em>) por todas as páginas, e as imagens
+ * iguais, como a logo do banco, são embutidas uma só vez. Em cada página só
+ * são escritos os textos e o código de barras do boleto.
+ * </p>
+ * 
+ * <p>
+ * Template, perfil de saída e modo determinístico vêm do visualizador
+ * informado; no modo determinístico a data do documento é a de referência do
+ * primeiro boleto. O cache de boletos não se aplica, já que o resultado é um
+ * documento só.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class PdfBatchDrawer {
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 */
+	private PdfBatchDrawer() {
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * @param boletos
+	 *            - Lista com os boletos a serem agrupados
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração
+	 * 
+	 * @return PDF com os boletos da lista
+	 * @throws IOException
+	 * @throws DocumentException
+	 */
+	static byte[] desenhar(List<Boleto> boletos, BoletoViewer boletoViewer) throws IOException, DocumentException {
+
+		final PdfViewer configuracao = boletoViewer.getPdfViewer();
+
+		BufferPool.Buffer out = BufferPool.getDefault().acquire("drawInOnePDF");
+
+		Map<TemplateLayout, PdfImportedPage[]> importadas = new HashMap<TemplateLayout, PdfImportedPage[]>();
+		List<PdfReader> readers = new ArrayList<PdfReader>();
+		Map<Object, Image> imagens = new HashMap<Object, Image>();
+
+		Document document = null;
+		PdfWriter writer = null;
+
+		try {
+
+			for (Boleto bop : boletos) {
+
+				PdfViewer viewer = new PdfViewer(bop, configuracao);
+				viewer.setImagens(imagens);
+
+				TemplateLayout layout = viewer.getLayout();
+
+				if (isNull(document)) {
+
+					document = new Document(layout.getPageSize(1), 0, 0, 0, 0);
+					writer = PdfWriter.getInstance(document, out);
+
+					if (configuracao.getOutputProfile().isFullCompression()) {
+						writer.setFullCompression();
+					}
+
+					viewer.datarDocumento(writer);
+
+					document.open();
+				}
+
+				PdfImportedPage[] paginas = importadas.get(layout);
+
+				if (isNull(paginas)) {
+
+					PdfReader reader = layout.newReader();
+					readers.add(reader);
+
+					paginas = PdfViewer.importarPaginas(writer, reader);
+					importadas.put(layout, paginas);
+				}
+
+				viewer.desenhar(document, writer, layout, paginas);
+			}
+
+			if (isNotNull(document)) {
+				document.close();
+			}
+
+		} finally {
+
+			for (PdfReader reader : readers) {
+				reader.close();
+			}
+		}
+
+		byte[] pdf = out.toByteArray();
+
+		BufferPool.getDefault().release(out);
+
+		if (configuracao.isDeterministic() && pdf.length > 0) {
+			PdfViewer.fixarIdentificador(pdf);
+		}
+
+		return pdf;
+	}
+}
@@ -31,16 +31,30 @@ package org.jrimum.bopepo.view;
 import static org.jrimum.utilix.Objects.isNotNull;
 import static org.jrimum.utilix.Objects.isNull;
 import static org.jrimum.utilix.text.DateFormat.DDMMYYYY_B;
-import static org.jrimum.utilix.text.DecimalFormat.MONEY_DD_BR;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.math.BigDecimal;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
@@ -51,23 +65,29 @@ import org.jrimum.bopepo.BancosSuportados;
 import org.jrimum.bopepo.Boleto;
 import org.jrimum.bopepo.pdf.Files;
 import org.jrimum.bopepo.pdf.PDFUtil;
-import org.jrimum.bopepo.pdf.RectanglePDF;
 import org.jrimum.domkee.comum.pessoa.endereco.Endereco;
 import org.jrimum.domkee.financeiro.banco.febraban.Carteira;
 import org.jrimum.domkee.financeiro.banco.febraban.ContaBancaria;
 import org.jrimum.domkee.financeiro.banco.febraban.Sacado;
 import org.jrimum.domkee.financeiro.banco.febraban.SacadorAvalista;
 import org.jrimum.domkee.financeiro.banco.febraban.Titulo;
+import org.jrimum.utilix.BufferPool;
 import org.jrimum.utilix.ClassLoaders;
+import org.jrimum.utilix.text.Centavos;
 import org.jrimum.utilix.text.Filler;
 
+import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Image;
-import com.lowagie.text.pdf.AcroFields;
-import com.lowagie.text.pdf.BarcodeInter25;
+import com.lowagie.text.Rectangle;
 import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfDate;
+import com.lowagie.text.pdf.PdfImportedPage;
+import com.lowagie.text.pdf.PdfName;
 import com.lowagie.text.pdf.PdfReader;
 import com.lowagie.text.pdf.PdfStamper;
+import com.lowagie.text.pdf.PdfTemplate;
+import com.lowagie.text.pdf.PdfWriter;
 
 /**
  * <p>
@@ -87,18 +107,138 @@ class PdfViewer {
 	private static URL TEMPLATE_PADRAO_COM_SACADOR_AVALISTA = ClassLoaders.getResource("/pdf/BoletoTemplateComSacadorAvalista.pdf",PdfViewer.class);
 	private static URL TEMPLATE_PADRAO_SEM_SACADOR_AVALISTA = ClassLoaders.getResource("/pdf/BoletoTemplateSemSacadorAvalista.pdf",PdfViewer.class);
 
+	/**
+	 * Perfis de buffer (veja {@link #novoBuffer()}) dos templates padrão, por
+	 * template (sem e com sacador avalista), modo de desenho e perfil de
+	 * saída, montados uma única vez.
+	 */
+	private static final String[][][] PERFIS_DOS_TEMPLATES_PADRAO = montarPerfisDosTemplatesPadrao();
+
 	private static final String HIFEN_SEPERADOR = "-";
+
+	/**
+	 * <p>
+	 * Logos dos bancos lidas do resource, em ambos os formatos, e imagens já
+	 * convertidas para o PDF. Ler e converter uma logo custa mais que
+	 * preencher todos os outros campos, então isso é feito uma vez por imagem
+	 * e cada boleto recebe uma cópia (que compartilha os dados da imagem).
+	 * </p>
+	 */
+	private static final Map<String, Image> LOGOS = new ConcurrentHashMap<String, Image>();
+	private static final Map<String, java.awt.Image> LOGOS_AWT = new ConcurrentHashMap<String, java.awt.Image>();
+	private static final Map<java.awt.Image, Image> CONVERTIDAS = Collections.synchronizedMap(new WeakHashMap<java.awt.Image, Image>());
+
+	/**
+	 * <p>
+	 * Bytes dos templates do resource, lidos uma única vez. Cada boleto
+	 * continua com o seu próprio <code>PdfReader</code>.
+	 * </p>
+	 */
+	private static final Map<String, byte[]> TEMPLATES = new ConcurrentHashMap<String, byte[]>();
+
+	/**
+	 * <p>
+	 * Campos que não mudam entre os boletos de um mesmo cedente e conta,
+	 * carimbados uma única vez no template derivado do {@link TemplateCache}.
+	 * </p>
+	 */
+	private static final Set<String> CAMPOS_DO_CEDENTE = new HashSet<String>(Arrays.asList(
+			"txtRsLogoBanco", "txtFcLogoBanco", "txtRsCodBanco", "txtFcCodBanco",
+			"txtRsCedente", "txtFcCedente", "txtRsCpfCnpj",
+			"txtRsAgenciaCodigoCedente", "txtFcAgenciaCodigoCedente",
+			"txtFcCarteira", "txtRsEspecie", "txtFcEspecie", "txtRsQuantidade", "txtFcQuantidade",
+			"txtFcLocalPagamento",
+			"txtFcInstrucaoAoCaixa1", "txtFcInstrucaoAoCaixa2", "txtFcInstrucaoAoCaixa3", "txtFcInstrucaoAoCaixa4",
+			"txtFcInstrucaoAoCaixa5", "txtFcInstrucaoAoCaixa6", "txtFcInstrucaoAoCaixa7", "txtFcInstrucaoAoCaixa8"));
 	
 	private PdfReader reader;
 	private PdfStamper stamper;
-	private AcroFields form;
+	private FieldWriter campos;
 	
-	private ByteArrayOutputStream outputStream;
+	private BufferPool.Buffer outputStream;
+
+	/**
+	 * <p>
+	 * PDF gerado (ou lido do cache) pelo último processamento.
+	 * </p>
+	 */
+	private byte[] pdf;
+
+	/**
+	 * <p>
+	 * Indica se o {@link #pdf} é o mesmo array guardado no {@link BoletoCache}
+	 * e, portanto, não pode ser entregue ao chamador sem cópia.
+	 * </p>
+	 */
+	private boolean pdfDoCache;
 
 	private Boleto boleto;
 
 	private File template;
 
+	/**
+	 * <p>
+	 * Quando verdadeiro, os campos são desenhados direto sobre o conteúdo do
+	 * template, sem preencher e achatar o formulário.
+	 * </p>
+	 */
+	private boolean directDraw;
+
+	/**
+	 * <p>
+	 * Imagens já convertidas para o PDF, compartilhadas entre os boletos de um
+	 * mesmo documento para que cada imagem (a logo do banco, principalmente)
+	 * seja embutida uma única vez. Chave: a imagem original ou a URL de onde
+	 * ela foi lida.
+	 * </p>
+	 */
+	private Map<Object, Image> imagens;
+
+	/**
+	 * <p>
+	 * Cache de boletos já gerados, consultado antes de gerar o PDF.
+	 * </p>
+	 */
+	private BoletoCache cache;
+
+	/**
+	 * <p>
+	 * Quando verdadeiro, o mesmo boleto gera sempre os mesmos bytes: a data de
+	 * processamento e as datas do documento saem da data de referência e o
+	 * identificador do arquivo (<code>/ID</code>) é um resumo do próprio
+	 * conteúdo, em vez de um valor aleatório.
+	 * </p>
+	 */
+	private boolean deterministic;
+
+	/**
+	 * <p>
+	 * Relógio que fornece a data de referência no modo determinístico. Sem
+	 * relógio, a referência é a data do documento do título.
+	 * </p>
+	 */
+	private Clock clock;
+
+	/**
+	 * <p>
+	 * Perfil de saída que define os passos executados ao finalizar o PDF.
+	 * </p>
+	 */
+	private OutputProfile outputProfile = OutputProfile.COMPACT;
+
+	/**
+	 * Perfil de buffer do template externo, montado no primeiro uso e
+	 * repassado às cópias desta configuração.
+	 */
+	private String perfilDoTemplate;
+
+	/**
+	 * <p>
+	 * Cache opcional de templates já carimbados com os campos do cedente.
+	 * </p>
+	 */
+	private TemplateCache templateCache;
+
 	/**
 	 *<p>
 	 * Para uso interno do componente
@@ -134,6 +274,27 @@ class PdfViewer {
 		
 		setTemplate(template);
 	}
+	
+	/**
+	 *<p>
+	 * Para uso interno do componente: visualizador do boleto com a mesma
+	 * configuração de outro.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	PdfViewer(Boleto boleto, PdfViewer configuracao) {
+		
+		this.boleto = boleto;
+		this.template = configuracao.template;
+		this.directDraw = configuracao.directDraw;
+		this.cache = configuracao.cache;
+		this.deterministic = configuracao.deterministic;
+		this.clock = configuracao.clock;
+		this.outputProfile = configuracao.outputProfile;
+		this.templateCache = configuracao.templateCache;
+		this.perfilDoTemplate = configuracao.perfilDoTemplate;
+	}
 
 	
 	/**
@@ -157,15 +318,22 @@ class PdfViewer {
 
 		File arq = null;
 
-		List<byte[]> boletosEmBytes = new ArrayList<byte[]>(boletos.size());
-
-		for (Boleto bop : boletos) {
-			boletosEmBytes.add(boletoViewer.setBoleto(bop).getPdfAsByteArray());
-		}
-
 		try {
 			
-			arq = Files.bytesToFile(fileDest, PDFUtil.mergeFiles(boletosEmBytes));
+			if (boletoViewer.isDirectDraw()) {
+				
+				arq = Files.bytesToFile(fileDest, PdfBatchDrawer.desenhar(boletos, boletoViewer));
+				
+			} else {
+				
+				List<byte[]> boletosEmBytes = new ArrayList<byte[]>(boletos.size());
+
+				for (Boleto bop : boletos) {
+					boletosEmBytes.add(boletoViewer.setBoleto(bop).getPdfAsByteArray());
+				}
+				
+				arq = Files.bytesToFile(fileDest, PDFUtil.mergeFiles(boletosEmBytes));
+			}
 			
 		} catch (Exception e) {
 			
@@ -238,98 +406,795 @@ class PdfViewer {
 	 */
 	protected File getFile(File destFile) {
 		
-		try {
-
-			processarPdf();
+		try {
+
+			processarPdf();
+			
+			return Files.bytesToFile(destFile, pdf);
+			
+		} catch (Exception e) {
+			
+			log.error("Erro durante a criação do arquivo! " + e.getLocalizedMessage(), e);
+			
+			throw new IllegalStateException("Erro ao tentar criar arquivo! " +"Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 *
+	 * 
+	 * @return
+	 */
+	protected ByteArrayOutputStream getStream() {
+		
+		try {
+
+			processarPdf();
+			
+			return Files.bytesToStream(pdf);
+			
+		} catch (Exception e) {
+			
+			log.error("Erro durante a criação do stream! " + e.getLocalizedMessage(), e);
+			
+			throw new IllegalStateException("Erro durante a criação do stream! " +"Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 *
+	 * 
+	 * @return
+	 */
+	protected byte[] getBytes() {
+		
+		try {
+
+			processarPdf();
+			
+			return pdfDoCache ? pdf.clone() : pdf;
+			
+		} catch (Exception e) {
+			
+			log.error("Erro durante a criação do array de bytes! " + e.getLocalizedMessage(), e);
+			
+			throw new IllegalStateException("Erro durante a criação do array de bytes! " +"Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * PDF em uma vista somente leitura, sem cópia mesmo quando vem do cache.
+	 * </p>
+	 * 
+	 * @return vista somente leitura do PDF
+	 * 
+	 * @since 0.2
+	 */
+	protected ByteBuffer getByteBuffer() {
+		
+		try {
+
+			processarPdf();
+			
+			return ByteBuffer.wrap(pdf).asReadOnlyBuffer();
+			
+		} catch (Exception e) {
+			
+			log.error("Erro durante a criação do buffer! " + e.getLocalizedMessage(), e);
+			
+			throw new IllegalStateException("Erro durante a criação do buffer! " +"Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	protected File getTemplate() {
+		return template;
+	}
+
+	protected void setTemplate(File template) {
+		this.template = template;
+		this.perfilDoTemplate = null;
+	}
+
+	protected void setTemplate(String pathname) {
+		setTemplate(new File(pathname));
+	}
+
+	protected boolean isDirectDraw() {
+		return directDraw;
+	}
+
+	protected void setDirectDraw(boolean directDraw) {
+		this.directDraw = directDraw;
+		this.perfilDoTemplate = null;
+	}
+
+	protected BoletoCache getCache() {
+		return cache;
+	}
+
+	protected void setCache(BoletoCache cache) {
+		this.cache = cache;
+	}
+
+	protected boolean isDeterministic() {
+		return deterministic;
+	}
+
+	protected void setDeterministic(boolean deterministic) {
+		this.deterministic = deterministic;
+	}
+
+	protected Clock getClock() {
+		return clock;
+	}
+
+	protected void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	protected OutputProfile getOutputProfile() {
+		return outputProfile;
+	}
+
+	protected void setOutputProfile(OutputProfile outputProfile) {
+		this.outputProfile = outputProfile;
+		this.perfilDoTemplate = null;
+	}
+
+	protected TemplateCache getTemplateCache() {
+		return templateCache;
+	}
+
+	protected void setTemplateCache(TemplateCache templateCache) {
+		this.templateCache = templateCache;
+	}
+
+	/**
+	 * <p>
+	 * Data usada como data de processamento do boleto. No modo determinístico
+	 * é a data do relógio informado ou, sem relógio, a data do documento do
+	 * título (ou ainda a data de processamento, se não houver data do
+	 * documento). Fora dele, é a data de processamento do próprio boleto.
+	 * </p>
+	 * 
+	 * @return data de processamento a ser utilizada
+	 * 
+	 * @since 0.2
+	 */
+	private Date getDataDeReferencia() {
+		
+		if (deterministic) {
+			
+			if (isNotNull(clock)) {
+				return new Date(clock.millis());
+			}
+			
+			if (isNotNull(boleto.getTitulo().getDataDoDocumento())) {
+				return boleto.getTitulo().getDataDoDocumento();
+			}
+		}
+		
+		return boleto.getDataDeProcessamento();
+	}
+
+	/**
+	 * @return the boleto
+	 * 
+	 * @since 0.2
+	 */
+	protected Boleto getBoleto() {
+		return this.boleto;
+	}
+	
+	/**
+	 * <p>
+	 * SOBRE O MÉTODO
+	 * </p>
+	 * 
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since
+	 */
+	private void processarPdf() throws IOException, DocumentException {
+		
+		if (isNotNull(cache)) {
+			
+			String chave = getCacheKey();
+			byte[] doCache = cache.get(chave);
+			
+			if (isNotNull(doCache)) {
+				
+				pdf = doCache;
+				
+			} else {
+				
+				gerarPdf();
+				
+				cache.put(chave, pdf);
+			}
+			
+			pdfDoCache = true;
+			
+		} else {
+			
+			gerarPdf();
+			
+			pdfDoCache = false;
+		}
+	}
+
+	/**
+	 * <p>
+	 * Chave do boleto no cache: resumo (SHA-256) de todos os valores que seriam
+	 * escritos nos campos, da identidade do template e do modo de geração.
+	 * </p>
+	 * 
+	 * @return chave em hexadecimal
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	String getCacheKey() throws IOException, DocumentException {
+		
+		DigestFieldWriter resumo = new DigestFieldWriter();
+		
+		resumo.add(getIdentidadeDoTemplate());
+		resumo.add(directDraw ? "direct" : "acroform");
+		resumo.add(outputProfile.name());
+		
+		if (deterministic) {
+			resumo.add("deterministic@" + getDataDeReferencia().getTime());
+		}
+		
+		preencher(resumo);
+		
+		return resumo.getDigest();
+	}
+
+	/**
+	 * @return URL do template do resource ou caminho, data de modificação e
+	 *         tamanho do template externo
+	 * 
+	 * @since 0.2
+	 */
+	private String getIdentidadeDoTemplate() {
+		
+		if (isTemplateFromResource()) {
+			
+			return getTemplateFromResource().toExternalForm();
+		}
+		
+		return getTemplate().getAbsolutePath() + "@" + getTemplate().lastModified() + ":" + getTemplate().length();
+	}
+
+	/**
+	 * <p>
+	 * SOBRE O MÉTODO
+	 * </p>
+	 * 
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since
+	 */
+	private void gerarPdf() throws IOException, DocumentException {
+		
+		if (directDraw) {
+			
+			desenharPdf();
+			
+		} else if (isNotNull(templateCache)) {
+			
+			preencherTemplateDoCedente();
+			finalizar();
+			
+		} else {
+			
+			inicializar();
+			preencher();
+			finalizar();
+		}
+		
+		pdf = outputStream.toByteArray();
+		
+		BufferPool.getDefault().release(outputStream);
+		outputStream = null;
+		
+		if (deterministic) {
+			fixarIdentificador(pdf);
+		}
+	}
+
+	/**
+	 * <p>
+	 * O perfil do buffer identifica o template pelo caminho, sem a data de
+	 * modificação: as versões de um mesmo template têm tamanhos parecidos, e
+	 * assim nenhum acesso ao disco é feito por boleto.
+	 * </p>
+	 * 
+	 * @return buffer da reserva compartilhada, com o tamanho típico dos PDFs
+	 *         do mesmo template, modo e perfil de saída
+	 * 
+	 * @since 0.2
+	 */
+	private BufferPool.Buffer novoBuffer() {
+		
+		if (isTemplateFromResource()) {
+			
+			return BufferPool.getDefault().acquire(PERFIS_DOS_TEMPLATES_PADRAO[boleto.getTitulo().hasSacadorAvalista() ? 1 : 0][directDraw ? 1 : 0][outputProfile.ordinal()]);
+		}
+		
+		if (isNull(perfilDoTemplate)) {
+			perfilDoTemplate = perfilDoBuffer(getTemplate().getAbsolutePath(), directDraw, outputProfile);
+		}
+		
+		return BufferPool.getDefault().acquire(perfilDoTemplate);
+	}
+
+	private static String perfilDoBuffer(String template, boolean directDraw, OutputProfile outputProfile) {
+		
+		return template + (directDraw ? "#direct#" : "#acroform#") + outputProfile.name();
+	}
+
+	private static String[][][] montarPerfisDosTemplatesPadrao() {
+		
+		URL[] templates = { TEMPLATE_PADRAO_SEM_SACADOR_AVALISTA, TEMPLATE_PADRAO_COM_SACADOR_AVALISTA };
+		OutputProfile[] perfis = OutputProfile.values();
+		
+		String[][][] perfisDoBuffer = new String[templates.length][2][perfis.length];
+		
+		for (int t = 0; t < templates.length; t++) {
+			for (int p = 0; p < perfis.length; p++) {
+				
+				perfisDoBuffer[t][0][p] = perfilDoBuffer(templates[t].toExternalForm(), false, perfis[p]);
+				perfisDoBuffer[t][1][p] = perfilDoBuffer(templates[t].toExternalForm(), true, perfis[p]);
+			}
+		}
+		
+		return perfisDoBuffer;
+	}
+
+	/**
+	 * <p>
+	 * Troca o identificador aleatório do arquivo (as duas strings do
+	 * <code>/ID</code> do trailer) pelo MD5 do próprio PDF, calculado com o
+	 * identificador zerado. Como o novo valor tem o mesmo tamanho, nenhum
+	 * deslocamento da tabela de referências muda.
+	 * </p>
+	 * 
+	 * @param pdf
+	 * @return o mesmo array, com o identificador trocado
+	 * 
+	 * @since 0.2
+	 */
+	static byte[] fixarIdentificador(byte[] pdf) {
+		
+		int inicio = ultimaOcorrencia(pdf, "/ID [<") + "/ID [<".length();
+		
+		if (inicio < "/ID [<".length() || inicio + 66 > pdf.length || pdf[inicio + 32] != '>' || pdf[inicio + 33] != '<') {
+			throw new IllegalStateException("Identificador do PDF não encontrado no trailer.");
+		}
+		
+		Arrays.fill(pdf, inicio, inicio + 32, (byte) '0');
+		Arrays.fill(pdf, inicio + 34, inicio + 66, (byte) '0');
+		
+		byte[] md5;
+		
+		try {
+			
+			md5 = MessageDigest.getInstance("MD5").digest(pdf);
+			
+		} catch (NoSuchAlgorithmException e) {
+			
+			throw new IllegalStateException(e);
+		}
+		
+		final char[] hex = "0123456789abcdef".toCharArray();
+		
+		for (int i = 0; i < md5.length; i++) {
+			
+			pdf[inicio + 2 * i] = pdf[inicio + 34 + 2 * i] = (byte) hex[(md5[i] >> 4) & 0xF];
+			pdf[inicio + 2 * i + 1] = pdf[inicio + 35 + 2 * i] = (byte) hex[md5[i] & 0xF];
+		}
+		
+		return pdf;
+	}
+	
+	private static int ultimaOcorrencia(byte[] dados, String texto) {
+		
+		byte[] alvo = texto.getBytes();
+		
+		procura: for (int i = dados.length - alvo.length; i >= 0; i--) {
+			
+			for (int j = 0; j < alvo.length; j++) {
+				if (dados[i + j] != alvo[j]) {
+					continue procura;
+				}
+			}
+			
+			return i;
+		}
+		
+		return -1;
+	}
+
+	/**
+	 * <p>
+	 * Monta o boleto sem passar pelo formulário do template: cada página do
+	 * template é importada como um <em>XObject</em> e os campos são desenhados
+	 * por cima, nas posições lidas (uma única vez) do formulário. Não há
+	 * achatamento, remoção de campos nem eliminação de streams compartilhados
+	 * a fazer no final.
+	 * </p>
+	 * 
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	private void desenharPdf() throws IOException, DocumentException {
+		
+		TemplateLayout layout = getLayout();
+		
+		PdfReader templateReader = layout.newReader();
+		
+		try {
+			
+			outputStream = novoBuffer();
+			
+			Document document = new Document(layout.getPageSize(1), 0, 0, 0, 0);
+			PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+			
+			if (outputProfile.isFullCompression()) {
+				writer.setFullCompression();
+			}
+			
+			document.open();
+			
+			datarDocumento(writer);
+			
+			desenhar(document, writer, layout, importarPaginas(writer, templateReader));
+			
+			document.close();
+			
+		} finally {
+			
+			templateReader.close();
+		}
+	}
+
+	/**
+	 * <p>
+	 * No modo determinístico, usa a data de referência como data de criação e
+	 * de modificação do documento.
+	 * </p>
+	 * 
+	 * @param writer
+	 * 
+	 * @since 0.2
+	 */
+	void datarDocumento(PdfWriter writer) {
+		
+		if (deterministic) {
+			
+			Calendar data = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+			data.setTime(getDataDeReferencia());
+			
+			writer.getInfo().put(PdfName.CREATIONDATE, new PdfDate(data));
+			writer.getInfo().put(PdfName.MODDATE, new PdfDate(data));
+		}
+	}
+
+	/**
+	 * <p>
+	 * Desenha o boleto a partir da página corrente do documento (ou de uma
+	 * nova página, caso a corrente já tenha conteúdo): o layout estático de
+	 * cada página do template e, por cima, os campos preenchidos.
+	 * </p>
+	 * 
+	 * @param document
+	 * @param writer
+	 * @param layout
+	 *            - Layout do template
+	 * @param paginas
+	 *            - Páginas do template já importadas no writer
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	void desenhar(Document document, PdfWriter writer, TemplateLayout layout, PdfImportedPage[] paginas) throws IOException, DocumentException {
+		
+		PdfContentByte cb = writer.getDirectContent();
+		
+		if (paginas.length == 1) {
+			
+			novaPagina(document, layout.getPageSize(1));
+			
+			cb.addTemplate(paginas[0], 0, 0);
+			
+			preencher(new DirectDrawFieldWriter(layout, cb));
+			
+		} else {
+			
+			// Os campos de todas as páginas são desenhados antes de qualquer
+			// página ser emitida, por isso cada página tem a sua camada.
+			PdfContentByte[] camadas = new PdfContentByte[paginas.length];
+			
+			for (int i = 0; i < camadas.length; i++) {
+				
+				Rectangle pagina = layout.getPageSize(i + 1);
+				
+				camadas[i] = cb.createTemplate(pagina.getWidth(), pagina.getHeight());
+			}
+			
+			preencher(new DirectDrawFieldWriter(layout, camadas));
+			
+			for (int i = 0; i < camadas.length; i++) {
+				
+				novaPagina(document, layout.getPageSize(i + 1));
+				
+				cb.addTemplate(paginas[i], 0, 0);
+				cb.addTemplate((PdfTemplate) camadas[i], 0, 0);
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Enquanto a página corrente estiver vazia o <code>newPage</code> apenas
+	 * ajusta o seu tamanho.
+	 * </p>
+	 */
+	private static void novaPagina(Document document, Rectangle tamanho) {
+		
+		document.setPageSize(tamanho);
+		document.newPage();
+	}
+
+	/**
+	 * @param writer
+	 * @param reader
+	 *            - Leitor do template
+	 * @return páginas do template importadas no writer
+	 * 
+	 * @since 0.2
+	 */
+	static PdfImportedPage[] importarPaginas(PdfWriter writer, PdfReader reader) {
+		
+		PdfImportedPage[] paginas = new PdfImportedPage[reader.getNumberOfPages()];
+		
+		for (int i = 0; i < paginas.length; i++) {
+			paginas[i] = writer.getImportedPage(reader, i + 1);
+		}
+		
+		return paginas;
+	}
+
+	/**
+	 * @return layout do template usado por este boleto
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	TemplateLayout getLayout() throws IOException, DocumentException {
+		
+		if (isTemplateFromResource()) {
+			
+			return TemplateLayout.getInstance(getTemplateFromResource());
+		}
+		
+		return TemplateLayout.getInstance(getTemplate());
+	}
+
+	/**
+	 * <p>
+	 * Define o cache de imagens compartilhado entre os boletos de um mesmo
+	 * documento.
+	 * </p>
+	 * 
+	 * @param imagens
+	 * 
+	 * @since 0.2
+	 */
+	void setImagens(Map<Object, Image> imagens) {
+		
+		this.imagens = imagens;
+	}
+
+	/**
+	 * <p>
+	 * Converte a imagem para o PDF ou, havendo um cache de imagens, reutiliza
+	 * a conversão já feita para o mesmo objeto ou para uma imagem de mesmo
+	 * conteúdo (cada banco costuma ter a sua instância da mesma logo).
+	 * </p>
+	 * 
+	 * @param imagem
+	 * @return imagem do PDF
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	private Image getImagem(java.awt.Image imagem) throws IOException, DocumentException {
+		
+		Image img = isNotNull(imagens) ? imagens.get(imagem) : null;
+		
+		if (isNull(img)) {
 			
-			return Files.bytesToFile(destFile, outputStream.toByteArray());
+			Image convertida = CONVERTIDAS.get(imagem);
 			
-		} catch (Exception e) {
+			if (isNull(convertida)) {
+				
+				convertida = Image.getInstance(imagem, null);
+				
+				CONVERTIDAS.put(imagem, convertida);
+			}
 			
-			log.error("Erro durante a criação do arquivo! " + e.getLocalizedMessage(), e);
+			img = Image.getInstance(convertida);
 			
-			throw new IllegalStateException("Erro ao tentar criar arquivo! " +"Causado por " + e.getLocalizedMessage(), e);
+			if (isNotNull(imagens)) {
+				
+				if (isNotNull(img.getRawData())) {
+					
+					ConteudoDeImagem conteudo = new ConteudoDeImagem(img);
+					Image mesma = imagens.get(conteudo);
+					
+					if (isNotNull(mesma)) {
+						img = mesma;
+					} else {
+						imagens.put(conteudo, img);
+					}
+				}
+				
+				imagens.put(imagem, img);
+			}
 		}
+		
+		return img;
 	}
 
 	/**
-	 *
-	 * 
-	 * @return
+	 * @see #getImagem(java.awt.Image)
 	 */
-	protected ByteArrayOutputStream getStream() {
+	private Image getImagem(URL url) throws IOException, DocumentException {
 		
-		try {
-
-			processarPdf();
+		Image img = isNotNull(imagens) ? imagens.get(url.toExternalForm()) : null;
+		
+		if (isNull(img)) {
 			
-			return Files.bytesToStream(outputStream.toByteArray());
+			Image lida = LOGOS.get(url.toExternalForm());
 			
-		} catch (Exception e) {
+			if (isNull(lida)) {
+				
+				lida = Image.getInstance(url);
+				
+				LOGOS.put(url.toExternalForm(), lida);
+			}
 			
-			log.error("Erro durante a criação do stream! " + e.getLocalizedMessage(), e);
+			img = Image.getInstance(lida);
 			
-			throw new IllegalStateException("Erro durante a criação do stream! " +"Causado por " + e.getLocalizedMessage(), e);
+			if (isNotNull(imagens)) {
+				imagens.put(url.toExternalForm(), img);
+			}
 		}
+		
+		return img;
 	}
 
 	/**
-	 *
+	 * <p>
+	 * Indica se a logo do banco da conta é a mesma que o próprio componente
+	 * colocou ali a partir do resource em um processamento anterior.
+	 * </p>
+	 * <p>
+	 * Nesse caso a logo é lida de novo pela URL, para que o mesmo boleto gere
+	 * sempre o mesmo PDF, seja ele processado pela primeira vez ou não.
+	 * </p>
 	 * 
-	 * @return
+	 * @param conta
+	 * @return true se a logo veio do resource
+	 * 
+	 * @since 0.2
 	 */
-	protected byte[] getBytes() {
+	private static boolean isLogoDoResource(ContaBancaria conta) {
 		
-		try {
-
-			processarPdf();
-			
-			return outputStream.toByteArray();
-			
-		} catch (Exception e) {
+		String codigo = conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado();
+		URL url = PdfViewer.class.getResource("/img/" + codigo + ".png");
+		
+		return isNotNull(url) && conta.getBanco().getImgLogo() == LOGOS_AWT.get(url.toExternalForm());
+	}
+	
+	/**
+	 * @return a logo do resource como <code>java.awt.Image</code>, lida uma
+	 *         única vez
+	 */
+	private static java.awt.Image getImagemAwt(URL url) throws IOException {
+		
+		java.awt.Image img = LOGOS_AWT.get(url.toExternalForm());
+		
+		if (isNull(img)) {
 			
-			log.error("Erro durante a criação do array de bytes! " + e.getLocalizedMessage(), e);
+			img = ImageIO.read(url);
 			
-			throw new IllegalStateException("Erro durante a criação do array de bytes! " +"Causado por " + e.getLocalizedMessage(), e);
+			LOGOS_AWT.put(url.toExternalForm(), img);
 		}
+		
+		return img;
 	}
 
-	protected File getTemplate() {
-		return template;
-	}
+	/**
+	 * @return os bytes do template do resource, lidos uma única vez
+	 */
+	static byte[] getTemplateDoResource(URL url) throws IOException {
 
-	protected void setTemplate(File template) {
-		this.template = template;
-	}
+		byte[] bytes = TEMPLATES.get(url.toExternalForm());
 
-	protected void setTemplate(String pathname) {
-		setTemplate(new File(pathname));
-	}
+		if (isNull(bytes)) {
 
-	/**
-	 * @return the boleto
-	 * 
-	 * @since 0.2
-	 */
-	protected Boleto getBoleto() {
-		return this.boleto;
+			InputStream in = url.openStream();
+
+			try {
+
+				bytes = in.readAllBytes();
+
+			} finally {
+
+				in.close();
+			}
+
+			TEMPLATES.put(url.toExternalForm(), bytes);
+		}
+
+		return bytes;
 	}
-	
+
 	/**
 	 * <p>
-	 * SOBRE O MÉTODO
+	 * Carrega antecipadamente o que o primeiro boleto carregaria sob demanda:
+	 * os templates do resource (lidos e analisados uma vez pelo iText) e as
+	 * logos de todos os bancos suportados, nos dois formatos.
 	 * </p>
 	 * 
 	 * @throws IOException
-	 * @throws DocumentException
 	 * 
-	 * @since
+	 * @since 0.2
 	 */
-	private void processarPdf() throws IOException, DocumentException {
-		
-		inicializar();
-		preencher();
-		finalizar();
+	static void carregarRecursos() throws IOException {
+
+		for (URL template : Arrays.asList(TEMPLATE_PADRAO_COM_SACADOR_AVALISTA, TEMPLATE_PADRAO_SEM_SACADOR_AVALISTA)) {
+
+			PdfReader leitor = new PdfReader(getTemplateDoResource(template));
+
+			leitor.getAcroFields().getFields();
+			leitor.close();
+		}
+
+		for (BancosSuportados banco : BancosSuportados.values()) {
+
+			URL url = PdfViewer.class.getResource("/img/" + banco.getCodigoDeCompensacao() + ".png");
+
+			if (isNotNull(url)) {
+
+				getImagemAwt(url);
+
+				if (!LOGOS.containsKey(url.toExternalForm())) {
+
+					try {
+
+						LOGOS.put(url.toExternalForm(), Image.getInstance(url));
+
+					} catch (DocumentException e) {
+
+						throw new IOException(e);
+					}
+				}
+			}
+		}
 	}
 
 	/**
@@ -386,18 +1251,102 @@ class PdfViewer {
 
 	private void inicializar() throws IOException, DocumentException {
 
+		reader = abrirTemplate();
+
+		outputStream = novoBuffer();
+		stamper = new PdfStamper(reader, outputStream);
+		campos = new AcroFormFieldWriter(stamper);
+	}
+
+	private PdfReader abrirTemplate() throws IOException {
+
 		if (isTemplateFromResource()) {
 			
-			reader = new PdfReader(getTemplateFromResource());
-			
-		} else {
-			
-			reader = new PdfReader(getTemplate().getAbsolutePath());
+			return new PdfReader(getTemplateDoResource(getTemplateFromResource()));
+		}
+		
+		return new PdfReader(getTemplate().getAbsolutePath());
+	}
+
+	/**
+	 * <p>
+	 * Preenche o boleto a partir do template derivado do cedente, guardado no
+	 * {@link TemplateCache}: os campos do cedente já estão carimbados nele e
+	 * só os demais são escritos. Sem template derivado para os valores do
+	 * cedente, ele é carimbado e guardado antes.
+	 * </p>
+	 * 
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	private void preencherTemplateDoCedente() throws IOException, DocumentException {
+
+		RecordingFieldWriter valores = new RecordingFieldWriter();
+
+		preencher(valores);
+
+		DigestFieldWriter resumo = new DigestFieldWriter();
+		resumo.add(getIdentidadeDoTemplate());
+		valores.replay(resumo, CAMPOS_DO_CEDENTE, true);
+
+		String chave = resumo.getDigest();
+		byte[] template = templateCache.get(chave);
+
+		if (isNull(template)) {
+
+			template = carimbarTemplateDoCedente(valores);
+
+			templateCache.put(chave, template);
 		}
 
-		outputStream = new ByteArrayOutputStream();
+		reader = new PdfReader(template);
+
+		outputStream = novoBuffer();
 		stamper = new PdfStamper(reader, outputStream);
-		form = stamper.getAcroFields();
+		campos = new AcroFormFieldWriter(stamper);
+
+		valores.replay(campos, CAMPOS_DO_CEDENTE, false);
+	}
+
+	/**
+	 * <p>
+	 * Escreve os campos do cedente no template e achata só esses campos; os
+	 * demais continuam no formulário para serem preenchidos por boleto.
+	 * </p>
+	 * 
+	 * @param valores
+	 * @return template derivado
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	private byte[] carimbarTemplateDoCedente(RecordingFieldWriter valores) throws IOException, DocumentException {
+
+		PdfReader original = abrirTemplate();
+		ByteArrayOutputStream derivado = new ByteArrayOutputStream();
+
+		try {
+
+			PdfStamper carimbo = new PdfStamper(original, derivado);
+
+			valores.replay(new AcroFormFieldWriter(carimbo), CAMPOS_DO_CEDENTE, true);
+
+			for (String campo : CAMPOS_DO_CEDENTE) {
+				carimbo.partialFormFlattening(campo);
+			}
+
+			carimbo.setFormFlattening(true);
+			carimbo.close();
+
+		} finally {
+
+			original.close();
+		}
+
+		return derivado.toByteArray();
 	}
 
 	/**
@@ -412,11 +1361,13 @@ class PdfViewer {
 	 */
 	private void finalizar() throws DocumentException, IOException {
 
-		reader.consolidateNamedDestinations();/*
-												 * Replaces all the local named
-												 * links with the actual
-												 * destinations.
-												 */
+		if (outputProfile.isConsolidarDestinos()) {
+			reader.consolidateNamedDestinations();/*
+													 * Replaces all the local
+													 * named links with the
+													 * actual destinations.
+													 */
+		}
 
 		stamper.setFormFlattening(true);/*
 										 * Determines if the fields are
@@ -430,16 +1381,20 @@ class PdfViewer {
 
 		reader.removeFields();/* Removes all the fields from the document. */
 
-		stamper.setFullCompression();/*
-										 * Sets the document's compression to
-										 * the new 1.5 mode with object streams
-										 * and xref streams.
-										 */
+		if (outputProfile.isFullCompression()) {
+			stamper.setFullCompression();/*
+											 * Sets the document's compression
+											 * to the new 1.5 mode with object
+											 * streams and xref streams.
+											 */
+		}
 
-		reader.eliminateSharedStreams();/*
-										 * Eliminates shared streams if they
-										 * exist.
-										 */
+		if (outputProfile.isEliminarStreamsCompartilhados()) {
+			reader.eliminateSharedStreams();/*
+											 * Eliminates shared streams if
+											 * they exist.
+											 */
+		}
 
 		// Send immediately
 		outputStream.flush();
@@ -450,6 +1405,28 @@ class PdfViewer {
 		stamper.close();
 	}
 
+	/**
+	 * <p>
+	 * Preenche os campos do template com os dados do boleto através do
+	 * <code>FieldWriter</code> informado, sem abrir nem finalizar documento
+	 * algum. Usado pelos visualizadores que montam a página por conta própria.
+	 * </p>
+	 * 
+	 * @param campos
+	 *            - Destino dos valores dos campos
+	 * @throws MalformedURLException
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	void preencher(FieldWriter campos) throws MalformedURLException, IOException, DocumentException {
+
+		this.campos = campos;
+
+		preencher();
+	}
+
 	/**
 	 * <p>
 	 * SOBRE O MÉTODO
@@ -500,64 +1477,41 @@ class PdfViewer {
 		if (isNotNull(boleto.getTextosExtras())) {
 			
 			for (String campo : boleto.getTextosExtras().keySet()) {
-				form.setField(campo, boleto.getTextosExtras().get(campo));
+				campos.setText(campo, boleto.getTextosExtras().get(campo));
 			}
 		}
 	}
 
-	private void setCodigoBarra() throws DocumentException {
+	private void setCodigoBarra() throws IOException, DocumentException {
 
-		// Montando o código de barras.
-		BarcodeInter25 barCode = new BarcodeInter25();
-		barCode.setCode(boleto.getCodigoDeBarras().write());
-
-		barCode.setExtended(true);
-		barCode.setBarHeight(40);
-		barCode.setFont(null);
-		barCode.setN(3);
-
-	
 		// FICHA DE COMPENSAÇÃO
-		PdfContentByte cb = null;
-
-		// Verifcando se existe o field(campo) da imagem no template do boleto.
-		float posCampoImgLogo[] = form.getFieldPositions("txtFcCodigoBarra");
-		
-		if (isNotNull(posCampoImgLogo)) {
-			
-			RectanglePDF field = new RectanglePDF(posCampoImgLogo);
-			
-			cb = stamper.getOverContent(field.getPage());
-			Image imgBarCode = barCode.createImageWithBarcode(cb, null, null);
-			
-			PDFUtil.changeFieldToImage(stamper, field, imgBarCode);
-		}
+		campos.setBarcode("txtFcCodigoBarra", boleto.getCodigoDeBarras().write());
 	}
 
 	private void setDataProcessamento() throws IOException, DocumentException {
 		
-		form.setField("txtFcDataProcessamento", DDMMYYYY_B.format(boleto.getDataDeProcessamento()));
+		campos.setText("txtFcDataProcessamento", DDMMYYYY_B.format(getDataDeReferencia()));
 	}
 
 	private void setAceite() throws IOException, DocumentException {
 
 		if (isNotNull(boleto.getTitulo().getAceite())) {
-			form.setField("txtFcAceite", boleto.getTitulo().getAceite().name());
+			campos.setText("txtFcAceite", boleto.getTitulo().getAceite().name());
 		}
 	}
 
 	private void setEspecieDoc() throws IOException, DocumentException {
 		if (isNotNull(boleto.getTitulo().getTipoDeDocumento()) && isNotNull(boleto.getTitulo().getTipoDeDocumento().getSigla())) {
-			form.setField("txtFcEspecieDocumento", boleto.getTitulo().getTipoDeDocumento().getSigla());
+			campos.setText("txtFcEspecieDocumento", boleto.getTitulo().getTipoDeDocumento().getSigla());
 		}
 	}
 
 	private void setDataDocumento() throws IOException, DocumentException {
-		form.setField("txtFcDataDocumento", DDMMYYYY_B.format(boleto.getTitulo().getDataDoDocumento()));
+		campos.setText("txtFcDataDocumento", DDMMYYYY_B.format(boleto.getTitulo().getDataDoDocumento()));
 	}
 
 	private void setLocalPagamento() throws IOException, DocumentException {
-		form.setField("txtFcLocalPagamento", (boleto.getLocalPagamento()));
+		campos.setText("txtFcLocalPagamento", (boleto.getLocalPagamento()));
 	}
 
 	private void setSacado() throws IOException, DocumentException {
@@ -582,8 +1536,8 @@ class PdfViewer {
 			sb.append(sacado.getCPRF().getCodigoFormatado());
 		}
 		
-		form.setField("txtRsSacado", sb.toString());
-		form.setField("txtFcSacadoL1", sb.toString());
+		campos.setText("txtRsSacado", sb.toString());
+		campos.setText("txtFcSacadoL1", sb.toString());
 
 		// TODO Código em teste
 		sb.delete(0, sb.length());
@@ -619,7 +1573,7 @@ class PdfViewer {
 				sb.append(sacadorAvalista.getCPRF().getCodigoFormatado());
 			}
 			
-			form.setField("txtFcSacadorAvalistaL1", sb.toString());
+			campos.setText("txtFcSacadorAvalistaL1", sb.toString());
 
 			// TODO Código em teste
 			sb.delete(0, sb.length());
@@ -652,7 +1606,7 @@ class PdfViewer {
 				sb.append(endereco.getCEP().getCep());
 			}
 			
-			form.setField(campoEndereco1, sb.toString());
+			campos.setText(campoEndereco1, sb.toString());
 
 			sb.delete(0, sb.length());
 			
@@ -669,89 +1623,103 @@ class PdfViewer {
 				sb.append(" / ");
 				sb.append(endereco.getUF().getSigla());
 			}
-			form.setField(campoEndereco2, sb.toString());
+			campos.setText(campoEndereco2, sb.toString());
 		}
 	}
 
 	private void setInstrucaoAoCaixa() throws IOException, DocumentException {
 
-		form.setField("txtFcInstrucaoAoCaixa1", boleto.getInstrucao1());
-		form.setField("txtFcInstrucaoAoCaixa2", boleto.getInstrucao2());
-		form.setField("txtFcInstrucaoAoCaixa3", boleto.getInstrucao3());
-		form.setField("txtFcInstrucaoAoCaixa4", boleto.getInstrucao4());
-		form.setField("txtFcInstrucaoAoCaixa5", boleto.getInstrucao5());
-		form.setField("txtFcInstrucaoAoCaixa6", boleto.getInstrucao6());
-		form.setField("txtFcInstrucaoAoCaixa7", boleto.getInstrucao7());
-		form.setField("txtFcInstrucaoAoCaixa8", boleto.getInstrucao8());
+		campos.setText("txtFcInstrucaoAoCaixa1", boleto.getInstrucao1());
+		campos.setText("txtFcInstrucaoAoCaixa2", boleto.getInstrucao2());
+		campos.setText("txtFcInstrucaoAoCaixa3", boleto.getInstrucao3());
+		campos.setText("txtFcInstrucaoAoCaixa4", boleto.getInstrucao4());
+		campos.setText("txtFcInstrucaoAoCaixa5", boleto.getInstrucao5());
+		campos.setText("txtFcInstrucaoAoCaixa6", boleto.getInstrucao6());
+		campos.setText("txtFcInstrucaoAoCaixa7", boleto.getInstrucao7());
+		campos.setText("txtFcInstrucaoAoCaixa8", boleto.getInstrucao8());
 	}
 
 	private void setInstrucaoAoSacado() throws IOException, DocumentException {
 
-		form.setField("txtRsInstrucaoAoSacado", boleto.getInstrucaoAoSacado());
+		campos.setText("txtRsInstrucaoAoSacado", boleto.getInstrucaoAoSacado());
 	}
 
 	private void setMoraMulta() throws IOException, DocumentException {
 
-		if(isNotNull(boleto.getTitulo().getMora())){
-		
-			form.setField("txtRsMoraMulta", MONEY_DD_BR.format(boleto.getTitulo().getMora()));
-			form.setField("txtFcMoraMulta", MONEY_DD_BR.format(boleto.getTitulo().getMora()));
-		}
+		setValor("txtRsMoraMulta", "txtFcMoraMulta", boleto.getTitulo().getMoraEmCentavos());
 	}
 	
 	private void setOutroAcrescimo() throws IOException, DocumentException {
 
-		if(isNotNull(boleto.getTitulo().getAcrecimo())){
-		
-			form.setField("txtRsOutroAcrescimo", MONEY_DD_BR.format(boleto.getTitulo().getAcrecimo()));
-			form.setField("txtFcOutroAcrescimo", MONEY_DD_BR.format(boleto.getTitulo().getAcrecimo()));
-		}
+		setValor("txtRsOutroAcrescimo", "txtFcOutroAcrescimo", boleto.getTitulo().getAcrecimoEmCentavos());
 	}
 
 	private void setOutraDeducao() throws IOException, DocumentException {
 		
-		if(isNotNull(boleto.getTitulo().getDeducao())){
-			
-			form.setField("txtRsOutraDeducao", MONEY_DD_BR.format(boleto.getTitulo().getDeducao()));
-			form.setField("txtFcOutraDeducao", MONEY_DD_BR.format(boleto.getTitulo().getDeducao()));
-		}
+		setValor("txtRsOutraDeducao", "txtFcOutraDeducao", boleto.getTitulo().getDeducaoEmCentavos());
 	}
 
 	private void setDescontoAbatimento() throws IOException, DocumentException {
 
-		if(isNotNull(boleto.getTitulo().getDesconto())){
-			
-			form.setField("txtRsDescontoAbatimento", MONEY_DD_BR.format(boleto.getTitulo().getDesconto()));
-			form.setField("txtFcDescontoAbatimento", MONEY_DD_BR.format(boleto.getTitulo().getDesconto()));
-		}
+		setValor("txtRsDescontoAbatimento", "txtFcDescontoAbatimento", boleto.getTitulo().getDescontoEmCentavos());
 	}
 	private void setValorDocumento() throws IOException, DocumentException {
 
-		if(isNotNull(boleto.getTitulo().getValor())){
-			
-			form.setField("txtRsValorDocumento", MONEY_DD_BR.format(boleto.getTitulo().getValor()));
-			form.setField("txtFcValorDocumento", MONEY_DD_BR.format(boleto.getTitulo().getValor()));
-		}
+		setValor("txtRsValorDocumento", "txtFcValorDocumento", boleto.getTitulo().getValorEmCentavos());
 	}
 
 	private void setValorCobrado() throws IOException, DocumentException {
-		if(isNotNull(boleto.getTitulo().getValorCobrado())){
+		
+		Titulo titulo = boleto.getTitulo();
+		
+		if(titulo.getValorCobradoEmCentavos() != Titulo.SEM_VALOR){
+			
+			setValor("txtRsValorCobrado", "txtFcValorCobrado", titulo.getValorCobradoEmCentavos());
 			
-			form.setField("txtRsValorCobrado", MONEY_DD_BR.format(boleto.getTitulo().getValorCobrado()));
-			form.setField("txtFcValorCobrado", MONEY_DD_BR.format(boleto.getTitulo().getValorCobrado()));
 		}else{
-			Titulo titulo = boleto.getTitulo();
-			BigDecimal valor = titulo.getValor()
-				.subtract(titulo.getDesconto())
-				.subtract(titulo.getDeducao())
-				.add(titulo.getMora())
-				.add(titulo.getAcrecimo());
-			
-			form.setField("txtRsValorCobrado", MONEY_DD_BR.format(valor));
-			form.setField("txtFcValorCobrado", MONEY_DD_BR.format(valor));
+			
+			// Valores não informados não entram no cálculo.
+			long valor = titulo.getValorEmCentavos();
+			valor = Math.subtractExact(valor, centavosOuZero(titulo.getDescontoEmCentavos()));
+			valor = Math.subtractExact(valor, centavosOuZero(titulo.getDeducaoEmCentavos()));
+			valor = Math.addExact(valor, centavosOuZero(titulo.getMoraEmCentavos()));
+			valor = Math.addExact(valor, centavosOuZero(titulo.getAcrecimoEmCentavos()));
+			
+			setValor("txtRsValorCobrado", "txtFcValorCobrado", valor);
 		}
 	}
 
+	/**
+	 * <p>
+	 * Escreve o valor, formatado como moeda, no campo do recibo do sacado e
+	 * no da ficha de compensação. Valores ausentes ({@link Titulo#SEM_VALOR})
+	 * deixam os campos em branco.
+	 * </p>
+	 * 
+	 * @param campoRs
+	 * @param campoFc
+	 * @param centavos
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	private void setValor(String campoRs, String campoFc, long centavos) throws IOException, DocumentException {
+		
+		if (centavos != Titulo.SEM_VALOR) {
+			
+			String valor = Centavos.format(centavos);
+			
+			campos.setText(campoRs, valor);
+			campos.setText(campoFc, valor);
+		}
+	}
+	
+	private static long centavosOuZero(long centavos) {
+		
+		return centavos == Titulo.SEM_VALOR ? 0 : centavos;
+	}
+
 	/**
 	 * Data no formata "dd/mm/yyyy"
 	 * 
@@ -762,27 +1730,27 @@ class PdfViewer {
 
 		if(isNotNull(boleto.getTitulo().getDataDoVencimento())){
 			
-			form.setField("txtRsDataVencimento",  DDMMYYYY_B.format(boleto.getTitulo().getDataDoVencimento()));
-			form.setField("txtFcDataVencimento",  DDMMYYYY_B.format(boleto.getTitulo().getDataDoVencimento()));
+			campos.setText("txtRsDataVencimento",  DDMMYYYY_B.format(boleto.getTitulo().getDataDoVencimento()));
+			campos.setText("txtFcDataVencimento",  DDMMYYYY_B.format(boleto.getTitulo().getDataDoVencimento()));
 		}
 	}
 
 	private void setAbstractCPRFCedente() throws IOException, DocumentException {
 
-		form.setField("txtRsCpfCnpj", boleto.getTitulo().getCedente().getCPRF().getCodigoFormatado());
+		campos.setText("txtRsCpfCnpj", boleto.getTitulo().getCedente().getCPRF().getCodigoFormatado());
 	}
 
 	private void setNumeroDocumento() throws IOException, DocumentException {
 
-		form.setField("txtRsNumeroDocumento", boleto.getTitulo().getNumeroDoDocumento());
-		form.setField("txtFcNumeroDocumento", boleto.getTitulo().getNumeroDoDocumento());
+		campos.setText("txtRsNumeroDocumento", boleto.getTitulo().getNumeroDoDocumento());
+		campos.setText("txtFcNumeroDocumento", boleto.getTitulo().getNumeroDoDocumento());
 	}
 
 	
 	private void setCedente() throws IOException, DocumentException {
 		
-		form.setField("txtRsCedente", boleto.getTitulo().getCedente().getNome());
-		form.setField("txtFcCedente", boleto.getTitulo().getCedente().getNome());
+		campos.setText("txtRsCedente", boleto.getTitulo().getCedente().getNome());
+		campos.setText("txtFcCedente", boleto.getTitulo().getCedente().getNome());
 	}
 	
 	
@@ -792,26 +1760,26 @@ class PdfViewer {
 		
 		if (isNotNull(carteira) && isNotNull(carteira.getTipoCobranca())) {
 			
-			form.setField("txtFcCarteira", (carteira.getTipoCobranca().getSigla()));
+			campos.setText("txtFcCarteira", (carteira.getTipoCobranca().getSigla()));
 		}
 	}	
 
 	private void setQuantidade() throws IOException, DocumentException {
 
-		form.setField("txtRsQuantidade", StringUtils.EMPTY);
-		form.setField("txtFcQuantidade", StringUtils.EMPTY);
+		campos.setText("txtRsQuantidade", StringUtils.EMPTY);
+		campos.setText("txtFcQuantidade", StringUtils.EMPTY);
 	}
 
 	private void setEspecie() throws IOException, DocumentException {
 
-		form.setField("txtRsEspecie", boleto.getTitulo().getTipoDeMoeda().name());
-		form.setField("txtFcEspecie", boleto.getTitulo().getTipoDeMoeda().name());
+		campos.setText("txtRsEspecie", boleto.getTitulo().getTipoDeMoeda().name());
+		campos.setText("txtFcEspecie", boleto.getTitulo().getTipoDeMoeda().name());
 	}
 
 	private void setLinhaDigitavel() throws DocumentException, IOException {
 		
-		form.setField("txtRsLinhaDigitavel", boleto.getLinhaDigitavel().write());
-		form.setField("txtFcLinhaDigitavel", boleto.getLinhaDigitavel().write());
+		campos.setText("txtRsLinhaDigitavel", boleto.getLinhaDigitavel().write());
+		campos.setText("txtFcLinhaDigitavel", boleto.getLinhaDigitavel().write());
 	}
 
 	
@@ -822,8 +1790,8 @@ class PdfViewer {
 		ContaBancaria conta = boleto.getTitulo().getContaBancaria();
 		Image imgLogoBanco = null;
 
-		if (isNotNull(conta.getBanco().getImgLogo())) {
-			imgLogoBanco = Image.getInstance(conta.getBanco().getImgLogo(), null);
+		if (isNotNull(conta.getBanco().getImgLogo()) && !isLogoDoResource(conta)) {
+			imgLogoBanco = getImagem(conta.getBanco().getImgLogo());
 
 		} else {
 
@@ -834,12 +1802,17 @@ class PdfViewer {
 											+ ".png");
 
 				if (isNotNull(url)) {
-					imgLogoBanco = Image.getInstance(url);
+					imgLogoBanco = getImagem(url);
 				}
 
 				if (isNotNull(imgLogoBanco)) {
 					// Esta imagem gerada aqui é do tipo java.awt.Image
-					conta.getBanco().setImgLogo(ImageIO.read(url));
+					conta.getBanco().setImgLogo(getImagemAwt(url));
+					
+					if (isNotNull(imagens)) {
+						// A mesma logo, quando vier do banco, não é convertida de novo.
+						imagens.put(conta.getBanco().getImgLogo(), imgLogoBanco);
+					}
 
 					// Se o banco em questão é suportado nativamente pelo
 					// componente, então um alerta será exibido.
@@ -881,7 +1854,7 @@ class PdfViewer {
 		if (isNotNull(boleto.getImagensExtras())) {
 			
 			for (String campo : boleto.getImagensExtras().keySet()) {
-				setImagemNoCampo(campo, Image.getInstance(boleto.getImagensExtras().get(campo),null));
+				setImagemNoCampo(campo, getImagem(boleto.getImagensExtras().get(campo)));
 			}
 		}
 	}
@@ -895,20 +1868,15 @@ class PdfViewer {
 	 * @param nomeDoCampo
 	 * @param imagem
 	 * @throws DocumentException
+	 * @throws IOException 
 	 * 
 	 * @since 0.2
 	 */
-	private void setImagemNoCampo(String nomeDoCampo, Image imagem) throws DocumentException {
+	private void setImagemNoCampo(String nomeDoCampo, Image imagem) throws IOException, DocumentException {
 	
-		float posCampoImgLogo[];
-		
 		if (StringUtils.isNotBlank(nomeDoCampo)) {
 			
-			posCampoImgLogo = form.getFieldPositions(nomeDoCampo);
-			
-			if (isNotNull(posCampoImgLogo)) {
-				PDFUtil.changeFieldToImage(stamper, posCampoImgLogo, imagem);
-			}
+			campos.setImage(nomeDoCampo, imagem);
 		}
 	}
 	
@@ -921,10 +1889,11 @@ class PdfViewer {
 	 * 
 	 * @param imgLogoBanco
 	 * @throws DocumentException
+	 * @throws IOException 
 	 * 
 	 * @since 0.2
 	 */
-	private void setImageLogo(Image imgLogoBanco) throws DocumentException {
+	private void setImageLogo(Image imgLogoBanco) throws IOException, DocumentException {
 
 		// RECIBO DO SACADO
 		setImagemNoCampo("txtRsLogoBanco",imgLogoBanco);
@@ -948,10 +1917,10 @@ class PdfViewer {
 	private void setTextLogo(String nomeBanco) throws IOException, DocumentException {
 
 		// RECIBO DO SACADO
-		form.setField("txtRsLogoBanco",nomeBanco);
+		campos.setText("txtRsLogoBanco",nomeBanco);
 
 		// FICHA DE COMPENSAÇÃO
-		form.setField("txtFcLogoBanco",nomeBanco);	
+		campos.setText("txtFcLogoBanco",nomeBanco);	
 	}	
 	
 
@@ -963,8 +1932,8 @@ class PdfViewer {
 		String codigoCompensacao = conta.getBanco().getCodigoDeCompensacaoBACEN().getCodigoFormatado();
 		String digitoCompensacao = conta.getBanco().getCodigoDeCompensacaoBACEN().getDigito().toString();
 		
-		form.setField("txtRsCodBanco", codigoCompensacao + HIFEN_SEPERADOR + digitoCompensacao);
-		form.setField("txtFcCodBanco", codigoCompensacao + HIFEN_SEPERADOR + digitoCompensacao);
+		campos.setText("txtRsCodBanco", codigoCompensacao + HIFEN_SEPERADOR + digitoCompensacao);
+		campos.setText("txtFcCodBanco", codigoCompensacao + HIFEN_SEPERADOR + digitoCompensacao);
 	}
 
 	private void setAgenciaCondigoCedente() throws IOException, DocumentException {
@@ -989,7 +1958,7 @@ class PdfViewer {
 
 			sb.append(" / ");
 
-			sb.append(fill.fill(conta.getNumeroDaConta().getCodigoDaConta(),6));
+			fill.fill(conta.getNumeroDaConta().getCodigoDaConta(), 6, sb);
 
 			if (isNotNull(conta.getNumeroDaConta().getDigitoDaConta())) {
 
@@ -998,8 +1967,8 @@ class PdfViewer {
 			}
 		}
 
-		form.setField("txtRsAgenciaCodigoCedente", sb.toString());
-		form.setField("txtFcAgenciaCodigoCedente", sb.toString());
+		campos.setText("txtRsAgenciaCodigoCedente", sb.toString());
+		campos.setText("txtFcAgenciaCodigoCedente", sb.toString());
 	}
 
 	private void setNossoNumero() throws IOException, DocumentException {
@@ -1014,8 +1983,51 @@ class PdfViewer {
 			sb.append(HIFEN_SEPERADOR + boleto.getTitulo().getDigitoDoNossoNumero());
 		}
 
-		form.setField("txtRsNossoNumero", sb.toString());
-		form.setField("txtFcNossoNumero", sb.toString());
+		campos.setText("txtRsNossoNumero", sb.toString());
+		campos.setText("txtFcNossoNumero", sb.toString());
+	}
+
+	/**
+	 * <p>
+	 * Chave do cache de imagens pelo conteúdo: dimensões e pixels.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	private static final class ConteudoDeImagem {
+		
+		private final byte[] dados;
+		
+		private final float largura;
+		
+		private final float altura;
+		
+		private final int hash;
+		
+		ConteudoDeImagem(Image imagem) {
+			
+			this.dados = imagem.getRawData();
+			this.largura = imagem.getWidth();
+			this.altura = imagem.getHeight();
+			this.hash = Arrays.hashCode(dados);
+		}
+		
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			
+			if (!(obj instanceof ConteudoDeImagem)) {
+				return false;
+			}
+			
+			ConteudoDeImagem outro = (ConteudoDeImagem) obj;
+			
+			return hash == outro.hash && largura == outro.largura && altura == outro.altura && Arrays.equals(dados, outro.dados);
+		}
 	}
 
 	/**
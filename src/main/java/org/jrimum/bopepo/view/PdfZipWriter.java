@@ -0,0 +1,207 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 21/10/2026 - 14:26:51
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 21/10/2026 - 14:26:51
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.jrimum.bopepo.Boleto;
+
+/**
+ * <p>
+ * Gera um PDF para cada boleto de uma lista e os escreve como entradas de um
+ * ZIP, com os nomes <tt>prefixo + (indice do boleto na lista + 1) + sufixo +
+ * ".pdf"</tt>, na ordem da lista.
+ * </p>
+ * 
+ * <p>
+ * Os boletos são gerados em paralelo, uma thread por processador, cada um com
+ * uma cópia das configurações do visualizador informado, e escritos por uma
+ * única thread (a que chamou o método). No máximo duas gerações por thread
+ * ficam à frente da escrita, então a memória usada não depende do tamanho da
+ * lista. As entradas são gravadas sem compressão (<code>STORED</code>), já que
+ * o PDF já vem comprimido; o CRC de cada uma é calculado pela thread que gerou
+ * o boleto.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class PdfZipWriter {
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 */
+	private PdfZipWriter() {
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * @param boletos
+	 *            - Lista com os boletos
+	 * @param boletoViewer
+	 *            - Visualizador com as configurações para geração
+	 * @param out
+	 *            - Destino do ZIP, que não é fechado
+	 * @param prefixo
+	 *            - Prefixo do nome das entradas
+	 * @param sufixo
+	 *            - Sufixo do nome das entradas
+	 * @return quantidade de entradas escritas
+	 * @throws IOException
+	 */
+	static int escrever(List<Boleto> boletos, BoletoViewer boletoViewer, OutputStream out, String prefixo, String sufixo) throws IOException {
+
+		final BoletoViewer configuracao = boletoViewer.copiar(null);
+
+		final int paralelismo = Runtime.getRuntime().availableProcessors();
+
+		ExecutorService executor = Executors.newFixedThreadPool(paralelismo, new ThreadFactory() {
+
+			private final AtomicInteger contador = new AtomicInteger();
+
+			public Thread newThread(Runnable r) {
+
+				Thread thread = new Thread(r, "bopepo-zip-" + contador.incrementAndGet());
+				thread.setDaemon(true);
+
+				return thread;
+			}
+		});
+
+		ArrayDeque<Future<EntradaDoZip>> pendentes = new ArrayDeque<Future<EntradaDoZip>>(2 * paralelismo);
+		Iterator<Boleto> restantes = boletos.iterator();
+
+		ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(out, 64 * 1024));
+		zip.setMethod(ZipOutputStream.STORED);
+
+		int cont = 0;
+
+		try {
+
+			while (restantes.hasNext() || !pendentes.isEmpty()) {
+
+				while (restantes.hasNext() && pendentes.size() < 2 * paralelismo) {
+
+					final Boleto boleto = restantes.next();
+
+					pendentes.add(executor.submit(new Callable<EntradaDoZip>() {
+
+						public EntradaDoZip call() {
+							return new EntradaDoZip(configuracao.copiar(boleto).getPdfAsByteArray());
+						}
+					}));
+				}
+
+				EntradaDoZip entrada = aguardar(pendentes.poll());
+
+				ZipEntry zipEntry = new ZipEntry(prefixo + ++cont + sufixo + ".pdf");
+				zipEntry.setMethod(ZipEntry.STORED);
+				zipEntry.setSize(entrada.pdf.length);
+				zipEntry.setCompressedSize(entrada.pdf.length);
+				zipEntry.setCrc(entrada.crc);
+
+				zip.putNextEntry(zipEntry);
+				zip.write(entrada.pdf);
+				zip.closeEntry();
+			}
+
+			zip.finish();
+			zip.flush();
+
+		} finally {
+
+			executor.shutdownNow();
+		}
+
+		return cont;
+	}
+
+	private static EntradaDoZip aguardar(Future<EntradaDoZip> futuro) throws IOException {
+
+		try {
+
+			return futuro.get();
+
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+
+			throw new InterruptedIOException("Interrompido enquanto aguardava a geração do boleto!");
+
+		} catch (ExecutionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * <p>
+	 * PDF de um boleto e o seu CRC, pronto para virar uma entrada do ZIP.
+	 * </p>
+	 */
+	private static final class EntradaDoZip {
+
+		final byte[] pdf;
+
+		final long crc;
+
+		EntradaDoZip(byte[] pdf) {
+
+			CRC32 crc32 = new CRC32();
+			crc32.update(pdf, 0, pdf.length);
+
+			this.pdf = pdf;
+			this.crc = crc32.getValue();
+		}
+	}
+}
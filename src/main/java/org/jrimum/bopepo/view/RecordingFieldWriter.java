@@ -0,0 +1,132 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 17:05:48
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 17:05:48
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Image;
+
+/**
+ * <p>
+ * Grava, na ordem, tudo o que seria escrito nos campos, para repassar depois
+ * a outros destinos. Permite separar os campos fixos do cedente, carimbados
+ * uma única vez no template derivado do {@link TemplateCache}, dos campos que
+ * mudam a cada boleto.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class RecordingFieldWriter implements FieldWriter {
+
+	private static final int TEXTO = 0;
+
+	private static final int IMAGEM = 1;
+
+	private static final int BARRAS = 2;
+
+	private final List<Escrita> escritas = new ArrayList<Escrita>(64);
+
+	public void setText(String campo, String valor) {
+
+		escritas.add(new Escrita(TEXTO, campo, valor, null));
+	}
+
+	public void setImage(String campo, Image imagem) {
+
+		escritas.add(new Escrita(IMAGEM, campo, null, imagem));
+	}
+
+	public void setBarcode(String campo, String codigo) {
+
+		escritas.add(new Escrita(BARRAS, campo, codigo, null));
+	}
+
+	/**
+	 * <p>
+	 * Repassa ao destino as escritas dos campos que estão (ou que não estão)
+	 * no conjunto informado.
+	 * </p>
+	 * 
+	 * @param destino
+	 * @param campos
+	 *            - Nomes dos campos
+	 * @param dentro
+	 *            - true para repassar só os campos do conjunto; false para
+	 *            repassar só os demais
+	 * @throws IOException
+	 * @throws DocumentException
+	 */
+	void replay(FieldWriter destino, Set<String> campos, boolean dentro) throws IOException, DocumentException {
+
+		for (Escrita escrita : escritas) {
+
+			if (campos.contains(escrita.campo) == dentro) {
+
+				switch (escrita.tipo) {
+				case TEXTO:
+					destino.setText(escrita.campo, escrita.valor);
+					break;
+				case IMAGEM:
+					destino.setImage(escrita.campo, escrita.imagem);
+					break;
+				default:
+					destino.setBarcode(escrita.campo, escrita.valor);
+				}
+			}
+		}
+	}
+
+	private static final class Escrita {
+
+		final int tipo;
+
+		final String campo;
+
+		final String valor;
+
+		final Image imagem;
+
+		Escrita(int tipo, String campo, String valor, Image imagem) {
+
+			this.tipo = tipo;
+			this.campo = campo;
+			this.valor = valor;
+			this.imagem = imagem;
+		}
+	}
+}
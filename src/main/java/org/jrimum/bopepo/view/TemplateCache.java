@@ -0,0 +1,129 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 17:19:30
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 17:19:30
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ * Cache de templates derivados, já carimbados com os campos que não mudam
+ * entre os boletos de um mesmo cedente e conta: logo e código do banco, nome,
+ * CPF/CNPJ e agência/código do cedente, carteira, espécie, local de
+ * pagamento e instruções ao caixa. Cada boleto parte do template derivado e
+ * só preenche os campos variáveis (sacado, nosso número, valores, datas,
+ * linha digitável e código de barras).
+ * </p>
+ * 
+ * <p>
+ * A chave é um resumo da identidade do template e dos próprios valores
+ * carimbados, então boletos de cedentes, contas ou instruções diferentes
+ * nunca compartilham um template derivado. Vale apenas para o preenchimento
+ * pelo formulário; no modo {@link BoletoViewer#setDirectDraw(boolean)} o
+ * template já é importado uma única vez e o cache é ignorado.
+ * </p>
+ * 
+ * <p>
+ * O número de templates mantidos é limitado, com descarte do menos usado
+ * recentemente (LRU). Instâncias são seguras para uso por várias threads e
+ * podem ser compartilhadas por vários {@link BoletoViewer}.
+ * </p>
+ * 
+ * @see BoletoViewer#setTemplateCache(TemplateCache)
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public class TemplateCache {
+
+	private final int maxTemplates;
+
+	private final LinkedHashMap<String, byte[]> templates;
+
+	/**
+	 * @param maxTemplates
+	 *            - Quantidade máxima de templates derivados mantidos, em
+	 *            geral o número de cedentes e contas de uma remessa
+	 * 
+	 * @since 0.2
+	 */
+	public TemplateCache(int maxTemplates) {
+
+		if (maxTemplates < 1) {
+			throw new IllegalArgumentException("Limite de templates do cache deve ser maior que zero: " + maxTemplates);
+		}
+
+		this.maxTemplates = maxTemplates;
+		this.templates = new LinkedHashMap<String, byte[]>(16, 0.75f, true) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+				return size() > TemplateCache.this.maxTemplates;
+			}
+		};
+	}
+
+	/**
+	 * @return quantidade de templates derivados mantidos
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized int size() {
+
+		return templates.size();
+	}
+
+	/**
+	 * <p>
+	 * Descarta todos os templates derivados.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public synchronized void clear() {
+
+		templates.clear();
+	}
+
+	synchronized byte[] get(String chave) {
+
+		return templates.get(chave);
+	}
+
+	synchronized void put(String chave, byte[] template) {
+
+		templates.put(chave, template);
+	}
+}
@@ -0,0 +1,578 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 19/10/2026 - 09:41:17
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 19/10/2026 - 09:41:17
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.log4j.Logger;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.AcroFields;
+import com.lowagie.text.pdf.BaseField;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.ColumnText;
+import com.lowagie.text.pdf.PdfArray;
+import com.lowagie.text.pdf.PdfBorderDictionary;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfDictionary;
+import com.lowagie.text.pdf.PdfName;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.TextField;
+
+/**
+ * <p>
+ * Geometria dos campos de um template de boleto, lida uma única vez e mantida
+ * em cache por template.
+ * </p>
+ * 
+ * <p>
+ * Guarda os bytes do template e, para cada campo, a página, o retângulo e a
+ * aparência declarada no formulário (fonte, tamanho, cor e alinhamento). Com
+ * isso os renderizadores que desenham direto no conteúdo da página não
+ * precisam abrir o <em>AcroForm</em> a cada boleto.
+ * </p>
+ * 
+ * <p>
+ * As fontes dos templates padrão (Arial e Segoe UI) não estão embutidas no
+ * arquivo e por isso não podem ser reaproveitadas fora dele. O texto é
+ * desenhado com a fonte padrão PDF mais próxima (Helvetica tem as mesmas
+ * larguras da Arial) e posicionado com as métricas da fonte original, do
+ * mesmo jeito que o iText faz ao gerar a aparência de um {@link TextField}.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+final class TemplateLayout {
+
+	private static Logger log = Logger.getLogger(TemplateLayout.class);
+
+	/**
+	 * Quantidade de templates externos mantidos em cache.
+	 */
+	private static final int MAX_EXTERNOS = 32;
+
+	/**
+	 * Layouts dos templates do resource, que são poucos e não mudam.
+	 */
+	private static final Map<String, TemplateLayout> DO_RESOURCE = new ConcurrentHashMap<String, TemplateLayout>();
+
+	/**
+	 * Layouts dos templates externos, pelo caminho do arquivo. Uma nova versão
+	 * do arquivo substitui a anterior e só os usados mais recentemente são
+	 * mantidos (LRU).
+	 */
+	private static final Map<String, TemplateLayout> EXTERNOS = Collections.synchronizedMap(new LinkedHashMap<String, TemplateLayout>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, TemplateLayout> eldest) {
+			return size() > MAX_EXTERNOS;
+		}
+	});
+
+	private final byte[] pdf;
+
+	/**
+	 * Data de modificação e tamanho do arquivo lido (templates externos).
+	 */
+	private final long modificado;
+
+	private final long tamanho;
+
+	private final Rectangle[] paginas;
+
+	private final Map<String, List<Widget>> campos;
+
+	private TemplateLayout(byte[] pdf, long modificado, long tamanho) throws IOException, DocumentException {
+
+		this.pdf = pdf;
+		this.modificado = modificado;
+		this.tamanho = tamanho;
+
+		PdfReader reader = new PdfReader(pdf);
+
+		try {
+
+			paginas = new Rectangle[reader.getNumberOfPages()];
+
+			for (int i = 0; i < paginas.length; i++) {
+				paginas[i] = reader.getPageSize(i + 1);
+			}
+
+			campos = lerCampos(reader.getAcroFields());
+
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * <p>
+	 * Layout de um template do resource (ou de qualquer URL).
+	 * </p>
+	 * 
+	 * @param template
+	 * @return layout do template
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	static TemplateLayout getInstance(URL template) throws IOException, DocumentException {
+
+		String chave = template.toExternalForm();
+
+		TemplateLayout layout = DO_RESOURCE.get(chave);
+
+		if (isNull(layout)) {
+
+			layout = new TemplateLayout(PdfViewer.getTemplateDoResource(template), 0, 0);
+
+			DO_RESOURCE.put(chave, layout);
+		}
+
+		return layout;
+	}
+
+	/**
+	 * <p>
+	 * Layout de um template externo. O arquivo é relido caso tenha sido
+	 * alterado desde a última leitura.
+	 * </p>
+	 * 
+	 * @param template
+	 * @return layout do template
+	 * @throws IOException
+	 * @throws DocumentException
+	 * 
+	 * @since 0.2
+	 */
+	static TemplateLayout getInstance(File template) throws IOException, DocumentException {
+
+		String chave = template.getAbsolutePath();
+		long modificado = template.lastModified();
+		long tamanho = template.length();
+
+		TemplateLayout layout = EXTERNOS.get(chave);
+
+		if (isNull(layout) || layout.modificado != modificado || layout.tamanho != tamanho) {
+
+			layout = new TemplateLayout(java.nio.file.Files.readAllBytes(template.toPath()), modificado, tamanho);
+
+			EXTERNOS.put(chave, layout);
+		}
+
+		return layout;
+	}
+
+	/**
+	 * @return um novo leitor sobre os bytes do template
+	 * @throws IOException
+	 * 
+	 * @since 0.2
+	 */
+	PdfReader newReader() throws IOException {
+
+		return new PdfReader(pdf);
+	}
+
+	int getNumberOfPages() {
+
+		return paginas.length;
+	}
+
+	/**
+	 * @param pagina
+	 *            - Página, a partir de 1
+	 * @return tamanho da página
+	 * 
+	 * @since 0.2
+	 */
+	Rectangle getPageSize(int pagina) {
+
+		return paginas[pagina - 1];
+	}
+
+	/**
+	 * @param campo
+	 *            - Nome do campo
+	 * @return widgets do campo ou {@code null} caso o campo não exista no
+	 *         template
+	 * 
+	 * @since 0.2
+	 */
+	List<Widget> getWidgets(String campo) {
+
+		return campos.get(campo);
+	}
+
+	private static Map<String, List<Widget>> lerCampos(AcroFields form) throws IOException, DocumentException {
+
+		Map<String, List<Widget>> campos = new HashMap<String, List<Widget>>();
+
+		for (Object nome : form.getFields().keySet()) {
+
+			AcroFields.Item item = form.getFieldItem((String) nome);
+			List<Widget> widgets = new ArrayList<Widget>(item.widgets.size());
+
+			for (int k = 0; k < item.widgets.size(); k++) {
+
+				PdfDictionary widget = (PdfDictionary) item.widgets.get(k);
+				PdfDictionary merged = (PdfDictionary) item.merged.get(k);
+
+				Rectangle box = PdfReader.getNormalizedRectangle((PdfArray) PdfReader.getPdfObject(widget.get(PdfName.RECT)));
+
+				// Sem borda até o dicionário dizer o contrário, como no
+				// AcroFields ao gerar a aparência.
+				TextField tx = new TextField(null, box, null);
+				tx.setBorderWidth(0);
+				form.decodeGenericDictionary(merged, tx);
+
+				widgets.add(new Widget(((Integer) item.page.get(k)).intValue(), box, tx));
+			}
+
+			campos.put((String) nome, widgets);
+		}
+
+		return campos;
+	}
+
+	/**
+	 * <p>
+	 * Fonte padrão PDF equivalente à fonte declarada no campo.
+	 * </p>
+	 */
+	private static BaseFont substituta(BaseFont original) throws IOException, DocumentException {
+
+		String nome = isNotNull(original) ? original.getPostscriptFontName().toLowerCase() : "";
+
+		boolean negrito = nome.indexOf("bold") >= 0;
+		boolean italico = nome.indexOf("italic") >= 0 || nome.indexOf("oblique") >= 0;
+
+		String padrao;
+
+		if (nome.indexOf("courier") >= 0) {
+			padrao = negrito ? (italico ? BaseFont.COURIER_BOLDOBLIQUE : BaseFont.COURIER_BOLD) : (italico ? BaseFont.COURIER_OBLIQUE : BaseFont.COURIER);
+
+		} else if (nome.indexOf("times") >= 0) {
+			padrao = negrito ? (italico ? BaseFont.TIMES_BOLDITALIC : BaseFont.TIMES_BOLD) : (italico ? BaseFont.TIMES_ITALIC : BaseFont.TIMES_ROMAN);
+
+		} else {
+			padrao = negrito ? (italico ? BaseFont.HELVETICA_BOLDOBLIQUE : BaseFont.HELVETICA_BOLD) : (italico ? BaseFont.HELVETICA_OBLIQUE : BaseFont.HELVETICA);
+		}
+
+		if (log.isDebugEnabled() && isNotNull(original)) {
+			log.debug("Fonte " + original.getPostscriptFontName() + " desenhada como " + padrao);
+		}
+
+		return BaseFont.createFont(padrao, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+	}
+
+	/**
+	 * <p>
+	 * Um widget (a ocorrência visível de um campo em uma página) e a aparência
+	 * com que o texto deve ser desenhado nele.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 * 
+	 * @version 0.2
+	 */
+	static final class Widget {
+
+		/**
+		 * Tamanho usado quando o campo declara tamanho automático (zero).
+		 */
+		private static final float TAMANHO_AUTOMATICO_MAXIMO = 12;
+
+		private static final float TAMANHO_AUTOMATICO_MINIMO = 4;
+
+		private final int pagina;
+
+		private final Rectangle box;
+
+		private final BaseFont fonte;
+
+		private final BaseFont metricas;
+
+		private final float tamanho;
+
+		private final Color cor;
+
+		private final int alinhamento;
+
+		private final boolean multiline;
+
+		/**
+		 * Margem interna até o texto.
+		 */
+		private final float offsetX;
+
+		/**
+		 * Área útil: retângulo do campo menos a borda.
+		 */
+		private final float offX;
+
+		private Widget(int pagina, Rectangle box, TextField tx) throws IOException, DocumentException {
+
+			this.pagina = pagina;
+			this.box = box;
+			this.fonte = substituta(tx.getFont());
+			this.metricas = isNotNull(tx.getFont()) ? tx.getFont() : fonte;
+			this.tamanho = tx.getFontSize();
+			this.cor = tx.getTextColor();
+			this.alinhamento = tx.getAlignment();
+			this.multiline = (tx.getOptions() & BaseField.MULTILINE) != 0;
+
+			// Mesmas margens que o TextField usa ao montar a aparência.
+			boolean borderExtra = tx.getBorderStyle() == PdfBorderDictionary.STYLE_BEVELED
+					|| tx.getBorderStyle() == PdfBorderDictionary.STYLE_INSET;
+			float borda = tx.getBorderWidth();
+
+			if (borderExtra) {
+				borda *= 2;
+			}
+
+			this.offsetX = Math.max(borda, 1);
+			this.offX = Math.min(borda, offsetX);
+		}
+
+		int getPage() {
+			return pagina;
+		}
+
+		Rectangle getBox() {
+			return box;
+		}
+
+		BaseFont getFont() {
+			return fonte;
+		}
+
+		Color getColor() {
+			return cor;
+		}
+
+		int getAlignment() {
+			return alinhamento;
+		}
+
+		float getClipOffset() {
+			return offX;
+		}
+
+		boolean isMultiline() {
+			return multiline;
+		}
+
+		/**
+		 * @param texto
+		 * @return tamanho da fonte para o texto, resolvendo o tamanho
+		 *         automático
+		 * @throws DocumentException
+		 */
+		float getFontSize(String texto) throws DocumentException {
+
+			if (tamanho > 0) {
+				return tamanho;
+			}
+
+			if (multiline) {
+				return getFontSizeMultiline(texto);
+			}
+
+			float altura = box.getHeight() - 2 * offX;
+			float size = Math.min(TAMANHO_AUTOMATICO_MAXIMO, altura / (metricas.getFontDescriptor(BaseFont.ASCENT, 1) + Math.abs(metricas.getFontDescriptor(BaseFont.DESCENT, 1))));
+			float largura = fonte.getWidthPoint(texto, 1);
+
+			if (largura > 0) {
+				size = Math.min(size, (box.getWidth() - 4 * offsetX) / largura);
+			}
+
+			return Math.max(size, TAMANHO_AUTOMATICO_MINIMO);
+		}
+
+		/**
+		 * <p>
+		 * Tamanho automático de um campo de várias linhas, como o formulário o
+		 * calcula: o maior tamanho, a partir de 12, em que todo o texto cabe
+		 * na altura do campo.
+		 * </p>
+		 */
+		private float getFontSizeMultiline(String texto) throws DocumentException {
+
+			float altura = box.getHeight() - 2 * offX;
+			float size = altura / getLeading(1);
+
+			if (size > TAMANHO_AUTOMATICO_MINIMO) {
+
+				size = Math.min(size, TAMANHO_AUTOMATICO_MAXIMO);
+
+				float passo = Math.max((size - TAMANHO_AUTOMATICO_MINIMO) / 10, 0.2f);
+
+				ColumnText ct = new ColumnText(null);
+				ct.setSimpleColumn(0, -altura, box.getWidth() - 4 * offsetX, 0);
+				ct.setAlignment(alinhamento);
+
+				for (; size > TAMANHO_AUTOMATICO_MINIMO; size -= passo) {
+
+					ct.setYLine(0);
+					ct.setText(getPhrase(texto, size));
+					ct.setLeading(getLeading(size));
+
+					if ((ct.go(true) & ColumnText.NO_MORE_COLUMN) == 0) {
+						break;
+					}
+				}
+			}
+
+			return Math.max(size, TAMANHO_AUTOMATICO_MINIMO);
+		}
+
+		/**
+		 * @param size
+		 *            - Tamanho da fonte
+		 * @return distância entre as linhas de um campo de várias linhas, a
+		 *         mesma usada pelo formulário
+		 */
+		float getLeading(float size) {
+
+			return metricas.getFontDescriptor(BaseFont.BBOXURY, size) - metricas.getFontDescriptor(BaseFont.BBOXLLY, size);
+		}
+
+		/**
+		 * <p>
+		 * Coluna com o texto de um campo de várias linhas, quebrado na largura
+		 * útil do campo e nas quebras de linha do próprio texto, com a
+		 * primeira linha de base em {@link #getTextY(float)}. As linhas que
+		 * passam do campo ficam de fora pelo recorte de quem desenha.
+		 * </p>
+		 * 
+		 * @param cb
+		 *            - Conteúdo onde a coluna será desenhada
+		 * @param texto
+		 * @param size
+		 *            - Tamanho da fonte
+		 * @return coluna pronta para {@link ColumnText#go()}
+		 */
+		ColumnText getColumn(PdfContentByte cb, String texto, float size) {
+
+			float leading = getLeading(size);
+
+			ColumnText ct = new ColumnText(cb);
+			ct.setSimpleColumn(box.getLeft() + 2 * offsetX, box.getBottom() - 20000, box.getRight() - 2 * offsetX, getTextY(size) + leading);
+			ct.setLeading(leading);
+			ct.setAlignment(alinhamento);
+			ct.setText(getPhrase(texto, size));
+
+			return ct;
+		}
+
+		private Phrase getPhrase(String texto, float size) {
+
+			return new Phrase(new Chunk(texto, new Font(fonte, size, Font.NORMAL, cor)));
+		}
+
+		/**
+		 * @return x do ponto de ancoragem do texto, conforme o alinhamento
+		 */
+		float getTextX() {
+
+			switch (alinhamento) {
+
+			case Element.ALIGN_CENTER:
+				return box.getLeft() + box.getWidth() / 2;
+
+			case Element.ALIGN_RIGHT:
+				return box.getRight() - 2 * offsetX;
+
+			default:
+				return box.getLeft() + 2 * offsetX;
+			}
+		}
+
+		/**
+		 * @param size
+		 *            - Tamanho da fonte
+		 * @return y da linha de base da primeira linha do texto
+		 */
+		float getTextY(float size) {
+
+			if (multiline) {
+
+				float h = box.getHeight() - 2 * offX;
+
+				return box.getBottom() + offsetX + h - metricas.getFontDescriptor(BaseFont.BBOXURY, size);
+			}
+
+			float ascent = metricas.getFontDescriptor(BaseFont.ASCENT, size);
+			float descent = metricas.getFontDescriptor(BaseFont.DESCENT, size);
+
+			float offsetY = offX + (box.getHeight() - 2 * offX - ascent) / 2;
+
+			if (offsetY < offX) {
+				offsetY = offX;
+			}
+
+			if (offsetY - offX < -descent) {
+
+				float ny = -descent + offX;
+				float dy = box.getHeight() - offX - ascent;
+
+				offsetY = Math.min(ny, Math.max(offsetY, dy));
+			}
+
+			return box.getBottom() + offsetY;
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 16:11:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 16:11:05
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.lowagie.text.Image;
+
+/**
+ * <p>
+ * Guarda os valores que o {@code PdfViewer.preencher} extrai do boleto, para
+ * que um {@link TextTemplate} os escreva como HTML ou texto simples. Não
+ * depende de template PDF algum: os campos são apenas nomes.
+ * </p>
+ * 
+ * <p>
+ * No HTML, o código de barras vira um SVG embutido e as imagens lidas de uma
+ * URL (como as logos do resource) viram um <code>&lt;img&gt;</code> com os
+ * bytes da própria URL em <em>data URI</em>. Imagens sem URL não são
+ * escritas.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+class TextFieldWriter implements FieldWriter {
+
+	/**
+	 * <p>
+	 * Imagens já lidas e convertidas em <em>data URI</em>, pela URL.
+	 * </p>
+	 */
+	private static final Map<String, String> DATA_URIS = new ConcurrentHashMap<String, String>();
+
+	private final Map<String, String> textos = new HashMap<String, String>();
+
+	private final Map<String, Image> imagens = new HashMap<String, Image>();
+
+	private final Map<String, String> barras = new HashMap<String, String>();
+
+	public void setText(String campo, String valor) {
+
+		textos.put(campo, valor);
+	}
+
+	public void setImage(String campo, Image imagem) {
+
+		textos.remove(campo);
+		imagens.put(campo, imagem);
+	}
+
+	public void setBarcode(String campo, String codigo) {
+
+		barras.put(campo, codigo);
+	}
+
+	/**
+	 * <p>
+	 * Escreve o valor do campo. Campos sem valor não escrevem nada.
+	 * </p>
+	 * 
+	 * @param campo
+	 *            - Nome do campo
+	 * @param html
+	 *            - Se o valor deve ser escrito como HTML
+	 * @param out
+	 *            - Destino
+	 * @throws IOException
+	 */
+	void write(String campo, boolean html, Writer out) throws IOException {
+
+		String codigo = barras.get(campo);
+
+		if (isNotNull(codigo)) {
+
+			out.write(html ? new BarcodeViewer(codigo).getSvg() : codigo);
+
+			return;
+		}
+
+		Image imagem = imagens.get(campo);
+
+		if (isNotNull(imagem)) {
+
+			if (html && isNotNull(imagem.getUrl())) {
+
+				out.write("<img src=\"");
+				out.write(getDataUri(imagem.getUrl()));
+				out.write("\" alt=\"\"/>");
+			}
+
+			return;
+		}
+
+		String texto = textos.get(campo);
+
+		if (isNotNull(texto)) {
+
+			if (html) {
+				escape(texto, out);
+			} else {
+				out.write(texto);
+			}
+		}
+	}
+
+	private static void escape(String texto, Writer out) throws IOException {
+
+		int inicio = 0;
+
+		for (int i = 0; i < texto.length(); i++) {
+
+			String entidade;
+
+			switch (texto.charAt(i)) {
+			case '&': entidade = "&amp;"; break;
+			case '<': entidade = "&lt;"; break;
+			case '>': entidade = "&gt;"; break;
+			case '"': entidade = "&quot;"; break;
+			case '\'': entidade = "&#39;"; break;
+			default: continue;
+			}
+
+			out.write(texto, inicio, i - inicio);
+			out.write(entidade);
+
+			inicio = i + 1;
+		}
+
+		out.write(texto, inicio, texto.length() - inicio);
+	}
+
+	private static String getDataUri(URL url) throws IOException {
+
+		String chave = url.toExternalForm();
+		String uri = DATA_URIS.get(chave);
+
+		if (isNull(uri)) {
+
+			InputStream in = url.openStream();
+
+			try {
+
+				uri = "data:" + getTipo(chave) + ";base64," + Base64.getEncoder().encodeToString(in.readAllBytes());
+
+			} finally {
+
+				in.close();
+			}
+
+			DATA_URIS.put(chave, uri);
+		}
+
+		return uri;
+	}
+
+	private static String getTipo(String url) {
+
+		String nome = url.toLowerCase();
+
+		if (nome.endsWith(".jpg") || nome.endsWith(".jpeg")) {
+			return "image/jpeg";
+		}
+
+		if (nome.endsWith(".gif")) {
+			return "image/gif";
+		}
+
+		return "image/png";
+	}
+}
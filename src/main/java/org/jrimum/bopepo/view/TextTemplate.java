@@ -0,0 +1,273 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 16:24:40
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 16:24:40
+ * 
+ */
+
+
+package org.jrimum.bopepo.view;
+
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+import org.jrimum.utilix.Objects;
+
+/**
+ * <p>
+ * Template de HTML ou de texto simples para o {@link HtmlViewer}, já
+ * compilado: o texto é quebrado uma única vez em trechos fixos e campos, e
+ * cada boleto só percorre essas listas escrevendo no destino. Instâncias são
+ * imutáveis e podem ser compartilhadas entre threads.
+ * </p>
+ * 
+ * <p>
+ * Os campos são escritos como <code>${nomeDoCampo}</code>, com os mesmos
+ * nomes dos campos dos templates PDF (<code>txtFcLinhaDigitavel</code>,
+ * <code>txtRsValorDocumento</code>, <code>txtFcCodigoBarra</code>, etc.),
+ * inclusive os dos textos extras do boleto. Campos sem valor ou inexistentes
+ * não escrevem nada.
+ * </p>
+ * 
+ * <p>
+ * Num template HTML os textos são escapados, o código de barras sai como SVG
+ * e as logos como <code>&lt;img&gt;</code> embutidas. Num template de texto os
+ * valores saem como estão e o código de barras sai com os seus 44 dígitos.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class TextTemplate {
+
+	private static final String INICIO_DO_CAMPO = "${";
+
+	private static final String FIM_DO_CAMPO = "}";
+
+	/**
+	 * <p>
+	 * Trechos fixos, um a mais que os campos: o trecho <code>i</code> vem
+	 * antes do campo <code>i</code>.
+	 * </p>
+	 */
+	private final String[] trechos;
+
+	private final String[] campos;
+
+	private final boolean html;
+
+	private TextTemplate(String template, boolean html) {
+
+		Objects.checkNotNull(template, "Template nulo!");
+
+		List<String> trechos = new ArrayList<String>();
+		List<String> campos = new ArrayList<String>();
+
+		int inicio = 0;
+		int campo = template.indexOf(INICIO_DO_CAMPO);
+
+		while (campo >= 0) {
+
+			int fim = template.indexOf(FIM_DO_CAMPO, campo);
+
+			if (fim < 0) {
+				throw new IllegalArgumentException("Campo sem fechamento na posição " + campo + " do template!");
+			}
+
+			String nome = template.substring(campo + INICIO_DO_CAMPO.length(), fim).trim();
+
+			if (StringUtils.isBlank(nome)) {
+				throw new IllegalArgumentException("Campo sem nome na posição " + campo + " do template!");
+			}
+
+			trechos.add(template.substring(inicio, campo));
+			campos.add(nome);
+
+			inicio = fim + FIM_DO_CAMPO.length();
+			campo = template.indexOf(INICIO_DO_CAMPO, inicio);
+		}
+
+		trechos.add(template.substring(inicio));
+
+		this.trechos = trechos.toArray(new String[trechos.size()]);
+		this.campos = campos.toArray(new String[campos.size()]);
+		this.html = html;
+	}
+
+	/**
+	 * @param template
+	 *            - Texto do template HTML
+	 * @return template compilado
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate html(String template) {
+
+		return new TextTemplate(template, true);
+	}
+
+	/**
+	 * @param template
+	 *            - URL do template HTML, em UTF-8
+	 * @return template compilado
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate html(URL template) {
+
+		return new TextTemplate(read(template), true);
+	}
+
+	/**
+	 * @param template
+	 *            - Texto do template de texto simples
+	 * @return template compilado
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate text(String template) {
+
+		return new TextTemplate(template, false);
+	}
+
+	/**
+	 * @param template
+	 *            - URL do template de texto simples, em UTF-8
+	 * @return template compilado
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate text(URL template) {
+
+		return new TextTemplate(read(template), false);
+	}
+
+	/**
+	 * @return template HTML padrão, com recibo do sacado e ficha de
+	 *         compensação
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate getDefaultHtml() {
+
+		return Padroes.HTML;
+	}
+
+	/**
+	 * @return template de texto simples padrão
+	 * 
+	 * @since 0.2
+	 */
+	public static TextTemplate getDefaultText() {
+
+		return Padroes.TEXTO;
+	}
+
+	/**
+	 * @return true se o template é HTML
+	 * 
+	 * @since 0.2
+	 */
+	public boolean isHtml() {
+
+		return html;
+	}
+
+	/**
+	 * <p>
+	 * Escreve o template com os valores informados.
+	 * </p>
+	 * 
+	 * @param valores
+	 * @param out
+	 * @throws IOException
+	 */
+	void write(TextFieldWriter valores, Writer out) throws IOException {
+
+		for (int i = 0; i < campos.length; i++) {
+
+			out.write(trechos[i]);
+			valores.write(campos[i], html, out);
+		}
+
+		out.write(trechos[campos.length]);
+	}
+
+	private static String read(URL template) {
+
+		Objects.checkNotNull(template, "URL do template nula!");
+
+		try {
+
+			InputStream in = template.openStream();
+
+			try {
+
+				return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+			} finally {
+
+				in.close();
+			}
+
+		} catch (IOException e) {
+
+			throw new IllegalArgumentException("Erro ao ler o template " + template + "! Causado por " + e.getLocalizedMessage(), e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Templates padrão, compilados no primeiro uso.
+	 * </p>
+	 */
+	private static final class Padroes {
+
+		static final TextTemplate HTML = html(getResource("/html/BoletoTemplate.html"));
+
+		static final TextTemplate TEXTO = text(getResource("/txt/BoletoTemplate.txt"));
+
+		private static URL getResource(String nome) {
+
+			URL url = TextTemplate.class.getResource(nome);
+
+			if (isNull(url)) {
+				throw new IllegalStateException("Template " + nome + " não encontrado!");
+			}
+
+			return url;
+		}
+	}
+}
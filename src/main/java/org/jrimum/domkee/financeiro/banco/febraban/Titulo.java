@@ -30,13 +30,17 @@
 package org.jrimum.domkee.financeiro.banco.febraban;
 
 import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.Date;
 
 import org.jrimum.domkee.financeiro.banco.ParametrosBancariosMap;
+import org.jrimum.utilix.Dates;
 import org.jrimum.utilix.Objects;
+import org.jrimum.utilix.text.Centavos;
 
 
 /**
@@ -70,6 +74,26 @@ import org.jrimum.utilix.Objects;
  */
 public final class Titulo {
 
+	/**
+	 * <p>
+	 * Valor em centavos que indica ausência de valor (o equivalente a
+	 * <code>null</code> nos valores <code>BigDecimal</code>).
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final long SEM_VALOR = Long.MIN_VALUE;
+
+	/**
+	 * <p>
+	 * Dia que indica ausência de data (o equivalente a <code>null</code> nas
+	 * datas <code>Date</code>).
+	 * </p>
+	 * 
+	 * @since 0.2
+	 */
+	public static final long SEM_DATA = Long.MIN_VALUE;
+
 	/**
 	 * @see #setNumeroDoDocumento(String)
 	 */
@@ -120,6 +144,28 @@ public final class Titulo {
 	 */
 	private BigDecimal valorCobrado;
 
+	/*
+	 * Os mesmos valores em centavos. Um valor atribuído em centavos só ganha o
+	 * seu BigDecimal se ele for pedido.
+	 */
+	private long valorEmCentavos = SEM_VALOR;
+	private long descontoEmCentavos = SEM_VALOR;
+	private long moraEmCentavos = SEM_VALOR;
+	private long deducaoEmCentavos = SEM_VALOR;
+	private long acrecimoEmCentavos = SEM_VALOR;
+	private long valorCobradoEmCentavos = SEM_VALOR;
+
+	/*
+	 * As mesmas datas em dias desde 01/01/1970 (epoch day). Uma data atribuída
+	 * em dias só ganha o seu Date se ele for pedido. Havendo Date, ele é quem
+	 * vale (pode ser alterado depois de atribuído) e o dia guardado é só o
+	 * cálculo feito para o instante ao lado, refeito se o Date mudar.
+	 */
+	private long dataDoDocumentoEmDias = SEM_DATA;
+	private long dataDoVencimentoEmDias = SEM_DATA;
+	private long instanteDoDocumento;
+	private long instanteDoVencimento;
+
 	/**
 	 * @see org.jrimum.domkee.financeiro.banco.febraban.TipoDeTitulo
 	 */
@@ -317,6 +363,12 @@ public final class Titulo {
 	 * @return the dataDoDocumento
 	 */
 	public Date getDataDoDocumento() {
+
+		if (isNull(dataDoDocumento) && dataDoDocumentoEmDias != SEM_DATA) {
+			dataDoDocumento = Dates.toDate(dataDoDocumentoEmDias);
+			instanteDoDocumento = dataDoDocumento.getTime();
+		}
+
 		return dataDoDocumento;
 	}
 
@@ -330,6 +382,80 @@ public final class Titulo {
 	 */
 	public void setDataDoDocumento(Date dataDoDocumento) {
 		this.dataDoDocumento = dataDoDocumento;
+		this.dataDoDocumentoEmDias = SEM_DATA;
+
+		if (isNotNull(dataDoDocumento)) {
+			this.dataDoDocumentoEmDias = Dates.toDia(dataDoDocumento);
+			this.instanteDoDocumento = dataDoDocumento.getTime();
+		}
+	}
+
+	/**
+	 * @see #setDataDoDocumentoEmDias(long)
+	 * 
+	 * @return dia do documento ou {@link #SEM_DATA}
+	 * 
+	 * @since 0.2
+	 */
+	public long getDataDoDocumentoEmDias() {
+
+		if (isNotNull(dataDoDocumento) && dataDoDocumento.getTime() != instanteDoDocumento) {
+			dataDoDocumentoEmDias = Dates.toDia(dataDoDocumento);
+			instanteDoDocumento = dataDoDocumento.getTime();
+		}
+
+		return dataDoDocumentoEmDias;
+	}
+
+	/**
+	 * <p>
+	 * Data de emissão do documento em dias desde 01/01/1970, como em
+	 * {@link LocalDate#toEpochDay()}, sem criar <code>Date</code>.
+	 * </p>
+	 * 
+	 * @param dataDoDocumentoEmDias
+	 * 
+	 * @since 0.2
+	 */
+	public void setDataDoDocumentoEmDias(long dataDoDocumentoEmDias) {
+
+		if (dataDoDocumentoEmDias == SEM_DATA) {
+			throw new IllegalArgumentException("Data do documento não pode ser nula!");
+		}
+
+		this.dataDoDocumentoEmDias = dataDoDocumentoEmDias;
+		this.dataDoDocumento = null;
+	}
+
+	/**
+	 * @see #setDataDoDocumentoLocalDate(LocalDate)
+	 * 
+	 * @return data do documento ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	public LocalDate getDataDoDocumentoLocalDate() {
+		final long dia = getDataDoDocumentoEmDias();
+
+		return dia == SEM_DATA ? null : LocalDate.ofEpochDay(dia);
+	}
+
+	/**
+	 * <p>
+	 * Data de emissão do documento.
+	 * </p>
+	 * 
+	 * @param dataDoDocumento
+	 * 
+	 * @since 0.2
+	 */
+	public void setDataDoDocumentoLocalDate(LocalDate dataDoDocumento) {
+
+		if (isNull(dataDoDocumento)) {
+			setDataDoDocumento((Date) null);
+		} else {
+			setDataDoDocumentoEmDias(dataDoDocumento.toEpochDay());
+		}
 	}
 
 	/**
@@ -338,6 +464,12 @@ public final class Titulo {
 	 * @return the dataDoVencimento
 	 */
 	public Date getDataDoVencimento() {
+
+		if (isNull(dataDoVencimento) && dataDoVencimentoEmDias != SEM_DATA) {
+			dataDoVencimento = Dates.toDate(dataDoVencimentoEmDias);
+			instanteDoVencimento = dataDoVencimento.getTime();
+		}
+
 		return dataDoVencimento;
 	}
 
@@ -346,12 +478,92 @@ public final class Titulo {
 	 * Data de vencimento nominal do título de cobrança, ou melhor, data limite
 	 * para pagamento do título.
 	 * </p>
+	 * <p>
+	 * O dia do vencimento (no fuso padrão da JVM) é calculado na atribuição e
+	 * refeito se o objeto <code>Date</code> for alterado depois, então o
+	 * código de barras sempre usa a data atual do objeto.
+	 * </p>
 	 * 
 	 * @param dataDoVencimento
 	 *            the dataDoVencimento to set
 	 */
 	public void setDataDoVencimento(Date dataDoVencimento) {
 		this.dataDoVencimento = dataDoVencimento;
+		this.dataDoVencimentoEmDias = SEM_DATA;
+
+		if (isNotNull(dataDoVencimento)) {
+			this.dataDoVencimentoEmDias = Dates.toDia(dataDoVencimento);
+			this.instanteDoVencimento = dataDoVencimento.getTime();
+		}
+	}
+
+	/**
+	 * @see #setDataDoVencimentoEmDias(long)
+	 * 
+	 * @return dia do vencimento ou {@link #SEM_DATA}
+	 * 
+	 * @since 0.2
+	 */
+	public long getDataDoVencimentoEmDias() {
+
+		if (isNotNull(dataDoVencimento) && dataDoVencimento.getTime() != instanteDoVencimento) {
+			dataDoVencimentoEmDias = Dates.toDia(dataDoVencimento);
+			instanteDoVencimento = dataDoVencimento.getTime();
+		}
+
+		return dataDoVencimentoEmDias;
+	}
+
+	/**
+	 * <p>
+	 * Data de vencimento em dias desde 01/01/1970, como em
+	 * {@link LocalDate#toEpochDay()}, sem criar <code>Date</code>. É a forma
+	 * usada no cálculo do fator de vencimento.
+	 * </p>
+	 * 
+	 * @param dataDoVencimentoEmDias
+	 * 
+	 * @since 0.2
+	 */
+	public void setDataDoVencimentoEmDias(long dataDoVencimentoEmDias) {
+
+		if (dataDoVencimentoEmDias == SEM_DATA) {
+			throw new IllegalArgumentException("Data de vencimento não pode ser nula!");
+		}
+
+		this.dataDoVencimentoEmDias = dataDoVencimentoEmDias;
+		this.dataDoVencimento = null;
+	}
+
+	/**
+	 * @see #setDataDoVencimentoLocalDate(LocalDate)
+	 * 
+	 * @return data de vencimento ou <code>null</code>
+	 * 
+	 * @since 0.2
+	 */
+	public LocalDate getDataDoVencimentoLocalDate() {
+		final long dia = getDataDoVencimentoEmDias();
+
+		return dia == SEM_DATA ? null : LocalDate.ofEpochDay(dia);
+	}
+
+	/**
+	 * <p>
+	 * Data de vencimento nominal do título de cobrança.
+	 * </p>
+	 * 
+	 * @param dataDoVencimento
+	 * 
+	 * @since 0.2
+	 */
+	public void setDataDoVencimentoLocalDate(LocalDate dataDoVencimento) {
+
+		if (isNull(dataDoVencimento)) {
+			setDataDoVencimento((Date) null);
+		} else {
+			setDataDoVencimentoEmDias(dataDoVencimento.toEpochDay());
+		}
 	}
 
 	/**
@@ -561,6 +773,11 @@ public final class Titulo {
 	 * @return the valor
 	 */
 	public BigDecimal getValor() {
+
+		if (isNull(valor) && valorEmCentavos != SEM_VALOR) {
+			valor = Centavos.toBigDecimal(valorEmCentavos);
+		}
+
 		return valor;
 	}
 
@@ -579,6 +796,38 @@ public final class Titulo {
 	public void setValor(BigDecimal valor) {
 		valor = valor.setScale(2, RoundingMode.DOWN);
 		this.valor = valor;
+		this.valorEmCentavos = Centavos.valueOf(valor);
+	}
+
+	/**
+	 * @see #setValorEmCentavos(long)
+	 * 
+	 * @return valor em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getValorEmCentavos() {
+		return valorEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o valor (original do Título) em centavos, sem criar
+	 * <code>BigDecimal</code>. Exemplo: 1234 para R$ 12,34.
+	 * </p>
+	 * 
+	 * @param valorEmCentavos
+	 * 
+	 * @since 0.2
+	 */
+	public void setValorEmCentavos(long valorEmCentavos) {
+
+		if (valorEmCentavos == SEM_VALOR) {
+			throw new IllegalArgumentException("Valor do título não pode ser nulo!");
+		}
+
+		this.valorEmCentavos = valorEmCentavos;
+		this.valor = null;
 	}
 
 	/**
@@ -587,6 +836,11 @@ public final class Titulo {
 	 * @return the desconto
 	 */
 	public BigDecimal getDesconto() {
+
+		if (isNull(desconto) && descontoEmCentavos != SEM_VALOR) {
+			desconto = Centavos.toBigDecimal(descontoEmCentavos);
+		}
+
 		return desconto;
 	}
 
@@ -608,6 +862,33 @@ public final class Titulo {
 			desconto = desconto.setScale(2, RoundingMode.DOWN);
 		}
 		this.desconto = desconto;
+		this.descontoEmCentavos = isNotNull(desconto) ? Centavos.valueOf(desconto) : SEM_VALOR;
+	}
+
+	/**
+	 * @see #setDescontoEmCentavos(long)
+	 * 
+	 * @return desconto em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getDescontoEmCentavos() {
+		return descontoEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o valor de descontos/abatimentos em centavos, sem criar <code>BigDecimal</code>.
+	 * </p>
+	 * 
+	 * @param descontoEmCentavos
+	 *            - Valor em centavos ou {@link #SEM_VALOR} para nenhum
+	 * 
+	 * @since 0.2
+	 */
+	public void setDescontoEmCentavos(long descontoEmCentavos) {
+		this.descontoEmCentavos = descontoEmCentavos;
+		this.desconto = null;
 	}
 
 	/**
@@ -616,6 +897,11 @@ public final class Titulo {
 	 * @return the mora
 	 */
 	public BigDecimal getMora() {
+
+		if (isNull(mora) && moraEmCentavos != SEM_VALOR) {
+			mora = Centavos.toBigDecimal(moraEmCentavos);
+		}
+
 		return mora;
 	}
 
@@ -636,6 +922,33 @@ public final class Titulo {
 			mora = mora.setScale(2, RoundingMode.DOWN);
 		}
 		this.mora = mora;
+		this.moraEmCentavos = isNotNull(mora) ? Centavos.valueOf(mora) : SEM_VALOR;
+	}
+
+	/**
+	 * @see #setMoraEmCentavos(long)
+	 * 
+	 * @return mora em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getMoraEmCentavos() {
+		return moraEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o valor de mora/multa em centavos, sem criar <code>BigDecimal</code>.
+	 * </p>
+	 * 
+	 * @param moraEmCentavos
+	 *            - Valor em centavos ou {@link #SEM_VALOR} para nenhum
+	 * 
+	 * @since 0.2
+	 */
+	public void setMoraEmCentavos(long moraEmCentavos) {
+		this.moraEmCentavos = moraEmCentavos;
+		this.mora = null;
 	}
 
 	/**
@@ -644,6 +957,11 @@ public final class Titulo {
 	 * @return the deducao
 	 */
 	public BigDecimal getDeducao() {
+
+		if (isNull(deducao) && deducaoEmCentavos != SEM_VALOR) {
+			deducao = Centavos.toBigDecimal(deducaoEmCentavos);
+		}
+
 		return deducao;
 	}
 
@@ -664,6 +982,33 @@ public final class Titulo {
 			deducao = deducao.setScale(2, RoundingMode.DOWN);
 		}
 		this.deducao = deducao;
+		this.deducaoEmCentavos = isNotNull(deducao) ? Centavos.valueOf(deducao) : SEM_VALOR;
+	}
+
+	/**
+	 * @see #setDeducaoEmCentavos(long)
+	 * 
+	 * @return deducao em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getDeducaoEmCentavos() {
+		return deducaoEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o valor de outras deduções em centavos, sem criar <code>BigDecimal</code>.
+	 * </p>
+	 * 
+	 * @param deducaoEmCentavos
+	 *            - Valor em centavos ou {@link #SEM_VALOR} para nenhum
+	 * 
+	 * @since 0.2
+	 */
+	public void setDeducaoEmCentavos(long deducaoEmCentavos) {
+		this.deducaoEmCentavos = deducaoEmCentavos;
+		this.deducao = null;
 	}
 	
 	/**
@@ -672,7 +1017,11 @@ public final class Titulo {
 	 * @return the acrecimo
 	 */
 	public BigDecimal getAcrecimo() {
-		
+
+		if (isNull(acrecimo) && acrecimoEmCentavos != SEM_VALOR) {
+			acrecimo = Centavos.toBigDecimal(acrecimoEmCentavos);
+		}
+
 		return acrecimo;
 	}
 	
@@ -693,6 +1042,33 @@ public final class Titulo {
 			acrecimo = acrecimo.setScale(2, RoundingMode.DOWN);
 		}
 		this.acrecimo = acrecimo;
+		this.acrecimoEmCentavos = isNotNull(acrecimo) ? Centavos.valueOf(acrecimo) : SEM_VALOR;
+	}
+
+	/**
+	 * @see #setAcrecimoEmCentavos(long)
+	 * 
+	 * @return acrecimo em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getAcrecimoEmCentavos() {
+		return acrecimoEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o valor de outros acréscimos em centavos, sem criar <code>BigDecimal</code>.
+	 * </p>
+	 * 
+	 * @param acrecimoEmCentavos
+	 *            - Valor em centavos ou {@link #SEM_VALOR} para nenhum
+	 * 
+	 * @since 0.2
+	 */
+	public void setAcrecimoEmCentavos(long acrecimoEmCentavos) {
+		this.acrecimoEmCentavos = acrecimoEmCentavos;
+		this.acrecimo = null;
 	}
 
 	/**
@@ -701,6 +1077,11 @@ public final class Titulo {
 	 * @return the valorCobrado
 	 */
 	public BigDecimal getValorCobrado() {
+
+		if (isNull(valorCobrado) && valorCobradoEmCentavos != SEM_VALOR) {
+			valorCobrado = Centavos.toBigDecimal(valorCobradoEmCentavos);
+		}
+
 		return valorCobrado;
 	}
 
@@ -726,6 +1107,33 @@ public final class Titulo {
 			valorCobrado = valorCobrado.setScale(2, RoundingMode.DOWN);
 		}
 		this.valorCobrado = valorCobrado;
+		this.valorCobradoEmCentavos = isNotNull(valorCobrado) ? Centavos.valueOf(valorCobrado) : SEM_VALOR;
+	}
+
+	/**
+	 * @see #setValorCobradoEmCentavos(long)
+	 * 
+	 * @return valorCobrado em centavos ou {@link #SEM_VALOR}
+	 * 
+	 * @since 0.2
+	 */
+	public long getValorCobradoEmCentavos() {
+		return valorCobradoEmCentavos;
+	}
+
+	/**
+	 * <p>
+	 * Atribui o "valor cobrado" em centavos, sem criar <code>BigDecimal</code>.
+	 * </p>
+	 * 
+	 * @param valorCobradoEmCentavos
+	 *            - Valor em centavos ou {@link #SEM_VALOR} para nenhum
+	 * 
+	 * @since 0.2
+	 */
+	public void setValorCobradoEmCentavos(long valorCobradoEmCentavos) {
+		this.valorCobradoEmCentavos = valorCobradoEmCentavos;
+		this.valorCobrado = null;
 	}
 
 	/**
@@ -0,0 +1,284 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 18:02:14
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 18:02:14
+ * 
+ */
+
+
+package org.jrimum.utilix;
+
+import static org.jrimum.utilix.Objects.isNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * Reserva de buffers de bytes reaproveitados entre gerações de documentos.
+ * Cada buffer é pedido com um perfil (por exemplo, o template usado) e já
+ * sai com a capacidade aprendida para aquele perfil, de forma que a escrita
+ * não precisa dobrar o array várias vezes até chegar ao tamanho de um
+ * boleto. Ao ser devolvido, o tamanho escrito ajusta a média do perfil e o
+ * buffer volta para a reserva.
+ * </p>
+ * 
+ * <p>
+ * Buffers maiores que o limite informado e os que excedem a quantidade
+ * máxima não são guardados; buffers não devolvidos (por exemplo, após um
+ * erro) são simplesmente descartados pelo coletor de lixo. Instâncias são
+ * seguras para uso por várias threads.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class BufferPool {
+
+	/**
+	 * <p>
+	 * Capacidade inicial dos buffers de perfis ainda sem tamanho aprendido.
+	 * </p>
+	 */
+	private static final int CAPACIDADE_INICIAL = 8 * 1024;
+
+	/**
+	 * <p>
+	 * Quantidade de perfis com tamanho aprendido; os usados há mais tempo são
+	 * esquecidos (LRU).
+	 * </p>
+	 */
+	private static final int MAX_PERFIS = 256;
+
+	private static final BufferPool PADRAO = new BufferPool(2 * Runtime.getRuntime().availableProcessors(), 4 * 1024 * 1024);
+
+	private final int maxBuffers;
+
+	private final int maxBufferSize;
+
+	private final Queue<Buffer> livres = new ConcurrentLinkedQueue<Buffer>();
+
+	private final AtomicInteger quantidadeLivre = new AtomicInteger();
+
+	private final Map<String, Integer> tamanhos = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+			return size() > MAX_PERFIS;
+		}
+	};
+
+	/**
+	 * @param maxBuffers
+	 *            - Quantidade máxima de buffers guardados para reuso
+	 * @param maxBufferSize
+	 *            - Capacidade máxima, em bytes, de um buffer guardado
+	 * 
+	 * @since 0.2
+	 */
+	public BufferPool(int maxBuffers, int maxBufferSize) {
+
+		if (maxBuffers < 0) {
+			throw new IllegalArgumentException("Quantidade máxima de buffers negativa: " + maxBuffers);
+		}
+
+		if (maxBufferSize < 1) {
+			throw new IllegalArgumentException("Capacidade máxima dos buffers deve ser maior que zero: " + maxBufferSize);
+		}
+
+		this.maxBuffers = maxBuffers;
+		this.maxBufferSize = maxBufferSize;
+	}
+
+	/**
+	 * @return reserva compartilhada pelos visualizadores do componente, com
+	 *         dois buffers de até 4 MB por processador
+	 * 
+	 * @since 0.2
+	 */
+	public static BufferPool getDefault() {
+
+		return PADRAO;
+	}
+
+	/**
+	 * <p>
+	 * Pega um buffer vazio com capacidade para o tamanho típico do perfil,
+	 * mais uma folga de 25%.
+	 * </p>
+	 * 
+	 * @param perfil
+	 *            - Identifica o tipo de documento escrito no buffer
+	 * @return buffer vazio
+	 * 
+	 * @since 0.2
+	 */
+	public Buffer acquire(String perfil) {
+
+		Objects.checkNotNull(perfil, "Perfil nulo!");
+
+		int capacidade = getSizeHint(perfil);
+		capacidade = (int) Math.min(Integer.MAX_VALUE - 8, capacidade + (long) capacidade / 4);
+
+		Buffer buffer = livres.poll();
+
+		if (isNull(buffer)) {
+
+			buffer = new Buffer(capacidade);
+
+		} else {
+
+			quantidadeLivre.decrementAndGet();
+
+			buffer.reservar(capacidade);
+		}
+
+		buffer.perfil = perfil;
+
+		return buffer;
+	}
+
+	/**
+	 * <p>
+	 * Devolve o buffer, que não deve mais ser usado, nem as vistas obtidas
+	 * dele. O tamanho escrito ajusta o tamanho típico do perfil.
+	 * </p>
+	 * 
+	 * @param buffer
+	 * 
+	 * @since 0.2
+	 */
+	public void release(Buffer buffer) {
+
+		Objects.checkNotNull(buffer, "Buffer nulo!");
+
+		if (isNull(buffer.perfil)) {
+			throw new IllegalStateException("Buffer já devolvido!");
+		}
+
+		aprender(buffer.perfil, buffer.size());
+
+		buffer.perfil = null;
+		buffer.reset();
+
+		if (buffer.getCapacity() <= maxBufferSize && quantidadeLivre.incrementAndGet() <= maxBuffers) {
+
+			livres.offer(buffer);
+
+		} else {
+
+			quantidadeLivre.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @param perfil
+	 * @return tamanho típico, em bytes, dos documentos do perfil
+	 * 
+	 * @since 0.2
+	 */
+	public int getSizeHint(String perfil) {
+
+		Integer tamanho;
+
+		synchronized (tamanhos) {
+			tamanho = tamanhos.get(perfil);
+		}
+
+		return isNull(tamanho) ? CAPACIDADE_INICIAL : tamanho;
+	}
+
+	/**
+	 * <p>
+	 * Média móvel exponencial (peso 1/8 para o novo tamanho).
+	 * </p>
+	 */
+	private void aprender(String perfil, int tamanho) {
+
+		synchronized (tamanhos) {
+
+			Integer atual = tamanhos.get(perfil);
+
+			tamanhos.put(perfil, isNull(atual) ? tamanho : atual + (tamanho - atual) / 8);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Buffer de bytes de uma {@link BufferPool}. Além do
+	 * {@link #toByteArray()}, que copia o conteúdo, oferece uma vista somente
+	 * leitura do próprio array, válida até o buffer ser devolvido.
+	 * </p>
+	 * 
+	 * @since 0.2
+	 * 
+	 * @version 0.2
+	 */
+	public static final class Buffer extends ByteArrayOutputStream {
+
+		private String perfil;
+
+		private Buffer(int capacidade) {
+
+			super(capacidade);
+		}
+
+		/**
+		 * @return vista somente leitura do conteúdo escrito, sem cópia
+		 * 
+		 * @since 0.2
+		 */
+		public synchronized ByteBuffer asReadOnlyBuffer() {
+
+			return ByteBuffer.wrap(buf, 0, count).asReadOnlyBuffer();
+		}
+
+		/**
+		 * @return capacidade atual do array
+		 * 
+		 * @since 0.2
+		 */
+		public synchronized int getCapacity() {
+
+			return buf.length;
+		}
+
+		private synchronized void reservar(int capacidade) {
+
+			if (buf.length < capacidade) {
+				buf = new byte[capacidade];
+			}
+		}
+	}
+}
@@ -34,8 +34,11 @@ import static org.jrimum.utilix.Objects.isNotNull;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.TimeZone;
 
 import org.apache.commons.lang.time.DateUtils;
 
@@ -66,6 +69,24 @@ public final class Dates {
 	 */
 	private static final Date DATE_NULL;
 
+	/**
+	 * <p>
+	 * Fuso padrão da JVM, lido na carga da classe. O
+	 * <code>TimeZone.getDefault()</code> devolve uma cópia a cada chamada, o
+	 * que pesaria nas conversões de data em dia feitas por boleto.
+	 * </p>
+	 * 
+	 * <p>
+	 * É a única fonte de fuso das conversões desta classe e da formatação do
+	 * {@link org.jrimum.utilix.text.DateFormat}, de forma que o dia usado no
+	 * fator de vencimento e a data impressa no boleto nunca divergem, mesmo
+	 * depois de um <code>TimeZone.setDefault</code>.
+	 * </p>
+	 */
+	private static final TimeZone FUSO_PADRAO = TimeZone.getDefault();
+
+	private static final ZoneId ZONA_PADRAO = FUSO_PADRAO.toZoneId();
+
 	static {
 
 		Calendar calendar = Calendar.getInstance();
@@ -140,18 +161,9 @@ public final class Dates {
 
 		long fator = 0;
 		
-		Date dataInicialTruncada, dataFinalTruncada;
-
 		if (isNotNull(dataInicial) && isNotNull(dataFinal)) {
 
-			dataInicialTruncada = DateUtils.truncate(dataInicial, Calendar.DATE);
-			dataFinalTruncada = DateUtils.truncate(dataFinal, Calendar.DATE);
-
-			fator = ((dataFinalTruncada.getTime() - dataInicialTruncada.getTime()) / DateUtils.MILLIS_PER_DAY);
-
-			if (fator < 0) {
-				fator *= -1;
-			}
+			fator = calculeDiferencaEmDias(toDia(dataInicial), toDia(dataFinal));
 			
 		} else {
 			
@@ -163,6 +175,174 @@ public final class Dates {
 		return fator;
 	}
 
+	/**
+	 * <p>
+	 * Calcula a diferença de dias entre duas datas. O resultado é modular, ou
+	 * seja, maior ou igual a zero.
+	 * </p>
+	 * 
+	 * @param dataInicial
+	 *            - data inicial do intervalo.
+	 * @param dataFinal
+	 *            - data final do intervalo.
+	 * @return número(módulo) de dias entre as datas.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso pelo menos uma das duas datas seja <code>null</code>.
+	 * @since 0.2
+	 */
+	public static long calculeDiferencaEmDias(final LocalDate dataInicial, final LocalDate dataFinal) {
+
+		if (isNotNull(dataInicial) && isNotNull(dataFinal)) {
+
+			return calculeDiferencaEmDias(dataInicial.toEpochDay(), dataFinal.toEpochDay());
+		}
+
+		throw new IllegalArgumentException("A data inicial [" + dataInicial + "] e a data final [" + dataFinal
+				+ "] " + "não podem ter valor 'null'.");
+	}
+
+	/**
+	 * <p>
+	 * Calcula a diferença entre dois dias contados a partir de 01/01/1970
+	 * (<em>epoch day</em>, como em {@link LocalDate#toEpochDay()}). O
+	 * resultado é modular, ou seja, maior ou igual a zero.
+	 * </p>
+	 * 
+	 * @param diaInicial
+	 *            - dia inicial do intervalo.
+	 * @param diaFinal
+	 *            - dia final do intervalo.
+	 * @return número(módulo) de dias entre os dias.
+	 * 
+	 * @since 0.2
+	 */
+	public static long calculeDiferencaEmDias(final long diaInicial, final long diaFinal) {
+
+		return Math.abs(diaFinal - diaInicial);
+	}
+
+	/**
+	 * <p>
+	 * Dia da data no fuso padrão da JVM, contado a partir de 01/01/1970
+	 * (<em>epoch day</em>). Apenas a data conta, a hora é descartada. Não
+	 * depende da duração do dia, portanto não erra em dias com horário de
+	 * verão.
+	 * </p>
+	 * 
+	 * <p>
+	 * O fuso é o padrão no momento da carga desta classe; um
+	 * <code>TimeZone.setDefault</code> posterior não muda as conversões nem a
+	 * formatação.
+	 * </p>
+	 * 
+	 * @param date
+	 *            - data qualquer
+	 * @return dia da data
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data seja <code>null</code>.
+	 * @since 0.2
+	 */
+	public static long toDia(final Date date) {
+
+		Objects.checkNotNull(date, "Data nula!");
+
+		final long instante = date.getTime();
+
+		return Math.floorDiv(instante + FUSO_PADRAO.getOffset(instante), DateUtils.MILLIS_PER_DAY);
+	}
+
+	/**
+	 * <p>
+	 * Data local (sem hora) da data no fuso padrão da JVM.
+	 * </p>
+	 * 
+	 * @param date
+	 *            - data qualquer
+	 * @return data local
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data seja <code>null</code>.
+	 * @since 0.2
+	 */
+	public static LocalDate toLocalDate(final Date date) {
+
+		return LocalDate.ofEpochDay(toDia(date));
+	}
+
+	/**
+	 * <p>
+	 * Início do dia (00:00 ou, se essa hora não existir por causa do horário
+	 * de verão, a primeira hora válida) no fuso padrão da JVM, como em
+	 * <code>new GregorianCalendar(ano, mes, dia).getTime()</code>.
+	 * </p>
+	 * 
+	 * @param data
+	 *            - data local
+	 * @return data no início do dia
+	 * 
+	 * @throws IllegalArgumentException
+	 *             Caso a data seja <code>null</code>.
+	 * @since 0.2
+	 */
+	public static Date toDate(final LocalDate data) {
+
+		Objects.checkNotNull(data, "Data nula!");
+
+		return new Date(data.atStartOfDay(ZONA_PADRAO).toInstant().toEpochMilli());
+	}
+
+	/**
+	 * <p>
+	 * Deslocamento do fuso padrão (o mesmo de {@link #toDia(Date)}) em
+	 * relação ao UTC no instante informado.
+	 * </p>
+	 * 
+	 * @param instante
+	 *            - milissegundos desde 01/01/1970 UTC
+	 * @return deslocamento em milissegundos
+	 * 
+	 * @since 0.2
+	 */
+	public static int getDeslocamento(final long instante) {
+
+		return FUSO_PADRAO.getOffset(instante);
+	}
+
+	/**
+	 * <p>
+	 * Fuso padrão usado nas conversões e na formatação de datas, lido na carga
+	 * desta classe.
+	 * </p>
+	 * 
+	 * @return cópia do fuso
+	 * 
+	 * @since 0.2
+	 */
+	public static TimeZone getFusoPadrao() {
+
+		return (TimeZone) FUSO_PADRAO.clone();
+	}
+
+	/**
+	 * <p>
+	 * Início do dia contado a partir de 01/01/1970 (<em>epoch day</em>) no
+	 * fuso padrão da JVM.
+	 * </p>
+	 * 
+	 * @param dia
+	 *            - dia a partir de 01/01/1970
+	 * @return data no início do dia
+	 * 
+	 * @see #toDate(LocalDate)
+	 * @since 0.2
+	 */
+	public static Date toDate(final long dia) {
+
+		return toDate(LocalDate.ofEpochDay(dia));
+	}
+
 	/**
 	 * <p>
 	 * Converte um objeto <code>String</code> em um objeto
@@ -192,7 +372,10 @@ public final class Dates {
 			throw new NullPointerException("O formato da data não pode ter valor [null].");
 		}
 
-		return parse(dateAsString, new SimpleDateFormat(dateFormat));
+		SimpleDateFormat formato = new SimpleDateFormat(dateFormat);
+		formato.setTimeZone(getFusoPadrao());
+
+		return parse(dateAsString, formato);
 	}
 
 	/**
@@ -0,0 +1,131 @@
+/* 
+ * Copyright 2026 JRimum Project
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ * 
+ * Created at: 20/10/2026 - 10:32:05
+ *
+ * ================================================================================
+ *
+ * Direitos autorais 2026 JRimum Project
+ *
+ * Licenciado sob a Licença Apache, Versão 2.0 ("LICENÇA"); você não pode 
+ * usar esse arquivo exceto em conformidade com a esta LICENÇA. Você pode obter uma 
+ * cópia desta LICENÇA em http://www.apache.org/licenses/LICENSE-2.0 A menos que 
+ * haja exigência legal ou acordo por escrito, a distribuição de software sob esta 
+ * LICENÇA se dará “COMO ESTÁ”, SEM GARANTIAS OU CONDIÇÕES DE QUALQUER TIPO, sejam 
+ * expressas ou tácitas. Veja a LICENÇA para a redação específica a reger permissões 
+ * e limitações sob esta LICENÇA.
+ * 
+ * Criado em: 20/10/2026 - 10:32:05
+ * 
+ */
+
+
+package org.jrimum.utilix.text;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * <p>
+ * Serviços utilitários para valores monetários representados em centavos
+ * (<code>long</code>), sem alocação de <code>BigDecimal</code>.
+ * </p>
+ * 
+ * @since 0.2
+ * 
+ * @version 0.2
+ */
+public final class Centavos {
+
+	private static final String SIMBOLO = DecimalFormatSymbols.BRASIL.copy().getCurrencySymbol() + " ";
+
+	/**
+	 * Utility class pattern: classe não instanciável
+	 */
+	private Centavos() {
+		throw new AssertionError("NOT SUPPORTED OPERATION!");
+	}
+
+	/**
+	 * <p>
+	 * Converte um valor em reais para centavos, truncando (para baixo) as
+	 * casas além da segunda, como faz o <code>Titulo</code>.
+	 * </p>
+	 * 
+	 * @param valor
+	 * @return valor em centavos
+	 * @throws ArithmeticException
+	 *             se o valor não couber em um <code>long</code>
+	 * 
+	 * @since 0.2
+	 */
+	public static long valueOf(BigDecimal valor) {
+
+		return valor.setScale(2, RoundingMode.DOWN).unscaledValue().longValueExact();
+	}
+
+	/**
+	 * @param centavos
+	 * @return valor em reais, com duas casas decimais
+	 * 
+	 * @since 0.2
+	 */
+	public static BigDecimal toBigDecimal(long centavos) {
+
+		return BigDecimal.valueOf(centavos, 2);
+	}
+
+	/**
+	 * <p>
+	 * Formata o valor no mesmo padrão de {@link DecimalFormat#MONEY_DD_BR}:
+	 * <tt>"R$ 1.500,99"</tt>, ou <tt>"-R$ 1.500,99"</tt> para valores
+	 * negativos.
+	 * </p>
+	 * 
+	 * @param centavos
+	 * @return valor formatado
+	 * 
+	 * @since 0.2
+	 */
+	public static String format(long centavos) {
+
+		if (centavos == Long.MIN_VALUE) {
+			return DecimalFormat.MONEY_DD_BR.format(toBigDecimal(centavos));
+		}
+
+		long absoluto = Math.abs(centavos);
+		String reais = Long.toString(absoluto / 100);
+
+		StringBuilder sb = new StringBuilder(SIMBOLO.length() + reais.length() + reais.length() / 3 + 4);
+
+		if (centavos < 0) {
+			sb.append('-');
+		}
+
+		sb.append(SIMBOLO);
+
+		for (int i = 0; i < reais.length(); i++) {
+
+			if (i > 0 && (reais.length() - i) % 3 == 0) {
+				sb.append('.');
+			}
+
+			sb.append(reais.charAt(i));
+		}
+
+		int resto = (int) (absoluto % 100);
+
+		sb.append(',').append((char) ('0' + resto / 10)).append((char) ('0' + resto % 10));
+
+		return sb.toString();
+	}
+}
@@ -29,10 +29,18 @@
 
 package org.jrimum.utilix.text;
 
+import java.text.FieldPosition;
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
 
+import org.jrimum.utilix.Dates;
+
 /**
  * <p>
  * Formatadores de data thread-safe. Para uma mesma categoria, os formatadores
@@ -47,6 +55,11 @@ import java.util.Date;
  * <li>etc.</li>
  * </ul>
  * </p>
+ * <p>
+ * Os formatadores são imutáveis e baseados em <code>java.time</code>: nenhuma
+ * thread guarda a sua própria cópia, o que importa quando cada boleto é gerado
+ * em uma thread virtual de vida curta.
+ * </p>
  * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
@@ -197,37 +210,95 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	HHMMSS_24C("HH:mm:ss"),
 	;
 	
-	private final ThreadLocalFormat<SimpleDateFormat> DATE_FORMAT;
+	/**
+	 * <p>
+	 * Primeiro instante do calendário gregoriano em
+	 * <code>SimpleDateFormat</code> (15/10/1582), com folga de um dia para
+	 * qualquer fuso. Antes disso o <code>SimpleDateFormat</code> usa o
+	 * calendário juliano.
+	 * </p>
+	 */
+	private static final long INICIO_GREGORIANO = -12219206400000L;
 
-	private DateFormat(String format) {
-	
-		DATE_FORMAT = new ThreadLocalFormat<SimpleDateFormat>(format){
+	/**
+	 * <p>
+	 * Último dia do ano 9999, com folga para qualquer fuso. A partir do ano
+	 * 10000 o <code>java.time</code> escreve o ano com sinal.
+	 * </p>
+	 */
+	private static final long ULTIMO_DIA_DO_ANO_9999 = 253402214400000L;
 
-			@Override
-			protected SimpleDateFormat initialValue() {
-				
-		       return new SimpleDateFormat(format);
-			}
-	        
-	    };
+	private final String pattern;
+
+	private final DateTimeFormatter formatter;
+
+	private final java.text.Format format;
+
+	private DateFormat(String pattern) {
+
+		this.pattern = pattern;
+		this.formatter = DateTimeFormatter.ofPattern(pattern);
+		this.format = new ImmutableFormat(this);
 	}
 
 	/**
+	 * <p>
+	 * Formata a data no fuso padrão da JVM lido na carga do {@link Dates}, sem
+	 * criar nem guardar um <code>SimpleDateFormat</code> por thread.
+	 * </p>
+	 * 
 	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
 	 */
 	public String format(Date obj) {
-	
-		return DATE_FORMAT.get().format(obj);
+
+		final long instante = obj.getTime();
+
+		if (instante < INICIO_GREGORIANO || instante >= ULTIMO_DIA_DO_ANO_9999) {
+
+			return copy().format(obj);
+		}
+
+		/*
+		 * O deslocamento vem do TimeZone, como no SimpleDateFormat: as regras
+		 * do java.time divergem em alguns fusos antigos ou futuros. O fuso é o
+		 * mesmo das conversões de data em dia do Dates.
+		 */
+		final int deslocamento = Dates.getDeslocamento(instante) / 1000;
+
+		return formatter.format(LocalDateTime.ofEpochSecond(Math.floorDiv(instante, 1000L),
+				(int) Math.floorMod(instante, 1000L) * 1000000, ZoneOffset.ofTotalSeconds(deslocamento)));
 	}
 	
 	/**
+	 * <p>
+	 * Formata uma data local como se fosse o início do dia, o que permite usar
+	 * também os formatadores de hora.
+	 * </p>
+	 * 
+	 * @param data
+	 *            - Data a ser formatada.
+	 * @return string - String formatada.
+	 * 
+	 * @since 0.2
+	 */
+	public String format(LocalDate data) {
+
+		return formatter.format(data.atStartOfDay());
+	}
+
+	/**
+	 * <p>
+	 * A leitura continua leniente como a do <code>SimpleDateFormat</code>,
+	 * usando uma instância nova a cada chamada.
+	 * </p>
+	 * 
 	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
 	 */
 	public Date parse(String text) {
 		
 		try {
 			
-			return DATE_FORMAT.get().parse(text);
+			return copy().parse(text);
 			
 		} catch (ParseException e) {
 			
@@ -239,7 +310,67 @@ public enum DateFormat implements Format<Date, SimpleDateFormat>{
 	 * @see org.jrimum.utilix.text.Format#copy()
 	 */
 	public SimpleDateFormat copy(){
+		
+		SimpleDateFormat copia = new SimpleDateFormat(pattern);
+		copia.setTimeZone(Dates.getFusoPadrao());
 			
-		return (SimpleDateFormat) DATE_FORMAT.get().clone();
+		return copia;
+	}
+
+	/**
+	 * <p>
+	 * Devolve um <code>java.text.Format</code> imutável, compartilhável entre
+	 * threads, que formata como este formatador. Útil para
+	 * {@link Field#Field(Object, Integer, java.text.Format)}, que antes
+	 * precisava de uma {@linkplain #copy() cópia} por campo.
+	 * </p>
+	 * 
+	 * @return formatador imutável
+	 * 
+	 * @since 0.2
+	 */
+	public java.text.Format toFormat() {
+
+		return format;
+	}
+
+	/**
+	 * <p>
+	 * Adaptador sem estado de um <code>DateFormat</code> para a API
+	 * <code>java.text.Format</code>.
+	 * </p>
+	 */
+	@SuppressWarnings("serial")
+	private static final class ImmutableFormat extends java.text.Format {
+
+		private final DateFormat dateFormat;
+
+		ImmutableFormat(DateFormat dateFormat) {
+
+			this.dateFormat = dateFormat;
+		}
+
+		@Override
+		public StringBuffer format(Object obj, StringBuffer toAppendTo, FieldPosition pos) {
+
+			if (obj instanceof LocalDate) {
+
+				return toAppendTo.append(dateFormat.format((LocalDate) obj));
+			}
+
+			return toAppendTo.append(dateFormat.format((Date) obj));
+		}
+
+		@Override
+		public Object parseObject(String source, ParsePosition pos) {
+
+			return dateFormat.copy().parseObject(source, pos);
+		}
+
+		@Override
+		public Object clone() {
+
+			return this;
+		}
 	}
 }
@@ -29,12 +29,21 @@
 
 package org.jrimum.utilix.text;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.text.ParseException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
  * Formatadores thread-safe relacionados a moeda e números decimais.
  * </p>
+ * <p>
+ * Os formatadores são imutáveis: os dígitos são escritos diretamente, sem
+ * um <code>java.text.DecimalFormat</code> guardado por thread.
+ * </p>
  * 
  * @author <a href=http://gilmatryx.googlepages.com/>Gilmar P.S.L.</a>
  * 
@@ -80,36 +89,111 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	
 	;
 	
-	private final ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols> DECIMAL_FORMAT;
+	private static final char CURRENCY_SIGN = '\u00A4';
 
-	private DecimalFormat(String format, java.text.DecimalFormatSymbols formatSymbols) {
-	
-		DECIMAL_FORMAT = new ThreadLocalLocalizedFormat<java.text.DecimalFormat, java.text.DecimalFormatSymbols>(format, formatSymbols){
+	private final String pattern;
 
-			@Override
-			protected java.text.DecimalFormat initialValue() {
-				
-				return new java.text.DecimalFormat(format, formatSymbols);
-			}
-	    };
+	private final java.text.DecimalFormatSymbols formatSymbols;
+
+	private final String prefixo;
+
+	private final int casasDecimais;
+
+	private final char separadorDecimal;
+
+	private DecimalFormat(String pattern, java.text.DecimalFormatSymbols formatSymbols) {
+
+		this.pattern = pattern;
+		this.formatSymbols = formatSymbols;
+		this.prefixo = pattern.charAt(0) == CURRENCY_SIGN ? formatSymbols.getCurrencySymbol() + " " : "";
+		this.casasDecimais = pattern.length() - pattern.indexOf('.') - 1;
+		this.separadorDecimal = prefixo.isEmpty() ? formatSymbols.getDecimalSeparator() : formatSymbols
+				.getMonetaryDecimalSeparator();
 	}
 
 	/**
+	 * <p>
+	 * Escreve os dígitos diretamente, com o mesmo arredondamento
+	 * (<code>HALF_EVEN</code>) e a mesma saída do
+	 * <code>java.text.DecimalFormat</code> do padrão, sem guardar uma instância
+	 * por thread.
+	 * </p>
+	 * 
 	 * @see org.jrimum.utilix.text.Format#format(java.lang.Object)
 	 */
 	public String format(Number obj) {
-	
-		return DECIMAL_FORMAT.get().format(obj);
+
+		final BigDecimal valor;
+		final boolean negativo;
+
+		if (obj instanceof BigDecimal) {
+
+			valor = (BigDecimal) obj;
+			negativo = valor.signum() < 0;
+
+		} else if (obj instanceof BigInteger) {
+
+			valor = new BigDecimal((BigInteger) obj);
+			negativo = valor.signum() < 0;
+
+		} else if (obj instanceof Long || obj instanceof Integer || obj instanceof Short || obj instanceof Byte
+				|| obj instanceof AtomicLong || obj instanceof AtomicInteger) {
+
+			valor = BigDecimal.valueOf(obj.longValue());
+			negativo = valor.signum() < 0;
+
+		} else {
+
+			final double d = obj.doubleValue();
+
+			if (Double.isNaN(d) || Double.isInfinite(d)) {
+
+				return copy().format(d);
+			}
+
+			valor = new BigDecimal(d);
+			negativo = d < 0 || (d == 0 && 1 / d < 0);
+		}
+
+		final String digitos = valor.abs().setScale(casasDecimais, RoundingMode.HALF_EVEN).unscaledValue().toString();
+		final int zeros = Math.max(0, casasDecimais + 1 - digitos.length());
+		final int inteiros = digitos.length() + zeros - casasDecimais;
+
+		final StringBuilder sb = new StringBuilder(prefixo.length() + inteiros + inteiros / 3 + casasDecimais + 2);
+
+		if (negativo) {
+			sb.append(formatSymbols.getMinusSign());
+		}
+
+		sb.append(prefixo);
+
+		for (int i = 0; i < inteiros + casasDecimais; i++) {
+
+			if (i == inteiros) {
+				sb.append(separadorDecimal);
+			} else if (i > 0 && i < inteiros && (inteiros - i) % 3 == 0) {
+				sb.append(formatSymbols.getGroupingSeparator());
+			}
+
+			sb.append(i < zeros ? '0' : digitos.charAt(i - zeros));
+		}
+
+		return sb.toString();
 	}
 	
 	/**
+	 * <p>
+	 * A leitura usa uma instância nova de <code>java.text.DecimalFormat</code>
+	 * a cada chamada.
+	 * </p>
+	 * 
 	 * @see org.jrimum.utilix.text.Format#parse(java.lang.String)
 	 */
 	public Number parse(String text) {
 		
 		try {
 			
-			return DECIMAL_FORMAT.get().parse(text);
+			return copy().parse(text);
 			
 		} catch (ParseException e) {
 			
@@ -122,6 +206,6 @@ public enum DecimalFormat implements Format<Number, java.text.DecimalFormat>{
 	 */
 	public java.text.DecimalFormat copy(){
 		
-		return (java.text.DecimalFormat) DECIMAL_FORMAT.get().clone();
+		return new java.text.DecimalFormat(pattern, formatSymbols);
 	}
 }
@@ -52,28 +52,22 @@ public enum DecimalFormatSymbols {
 	 */
 	BRASIL;
 
-	private final ThreadLocal<java.text.DecimalFormatSymbols> DF_SYMBOLS;
+	/**
+	 * Instância única, nunca alterada; quem precisa dos símbolos recebe uma
+	 * {@linkplain #copy() cópia}.
+	 */
+	private final java.text.DecimalFormatSymbols dfSymbols;
 
 	private DecimalFormatSymbols() {
 
-		DF_SYMBOLS = new ThreadLocal<java.text.DecimalFormatSymbols>() {
-
-			protected java.text.DecimalFormatSymbols initialValue() {
-
-				java.text.DecimalFormatSymbols dfSymbols = new java.text.DecimalFormatSymbols(
-						Locales.BRASIL);
-
-				dfSymbols.setZeroDigit('0');
-				dfSymbols.setDecimalSeparator(',');
-				dfSymbols.setMonetaryDecimalSeparator(',');
-				dfSymbols.setDigit('#');
-				dfSymbols.setGroupingSeparator('.');
-				dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
-
-				return dfSymbols;
-			}
+		dfSymbols = new java.text.DecimalFormatSymbols(Locales.BRASIL);
 
-		};
+		dfSymbols.setZeroDigit('0');
+		dfSymbols.setDecimalSeparator(',');
+		dfSymbols.setMonetaryDecimalSeparator(',');
+		dfSymbols.setDigit('#');
+		dfSymbols.setGroupingSeparator('.');
+		dfSymbols.setCurrency(Currency.getInstance(Locales.BRASIL));
 	}
 
 	/**
@@ -88,6 +82,6 @@ public enum DecimalFormatSymbols {
 	 */
 	public java.text.DecimalFormatSymbols copy() {
 
-		return (java.text.DecimalFormatSymbols) DF_SYMBOLS.get().clone();
+		return (java.text.DecimalFormatSymbols) dfSymbols.clone();
 	}
 }
@@ -38,6 +38,7 @@ import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.Format;
 import java.text.ParseException;
+import java.time.LocalDate;
 import java.util.Date;
 
 import org.apache.commons.lang.StringUtils;
@@ -223,6 +224,10 @@ public class Field<G> implements TextStream {
 
 			readDateField(valueAsString);
 
+		} else if (value instanceof LocalDate) {
+
+			readLocalDateField(valueAsString);
+
 		} else {
 
 			readStringOrNumericField(valueAsString);
@@ -279,6 +284,25 @@ public class Field<G> implements TextStream {
 		}
 	}
 
+	/**
+	 * Lê campos do tipo data local. O parse é feito através do formatador do
+	 * campo e a data obtida é convertida no fuso padrão da JVM.
+	 * 
+	 * @param valueAsString
+	 * @since 0.2
+	 */
+	@SuppressWarnings("unchecked")
+	private void readLocalDateField(String valueAsString) {
+
+		try {
+
+			value = (G) Dates.toLocalDate((Date) format.parseObject(valueAsString));
+		} catch (ParseException e) {
+
+			getGenericReadError(e, valueAsString);
+		}
+	}
+
 	/**
 	 * Lê campos de valores decimais. O parse é feito através de formatadores de números decimais.
 	 * @param valueAsString
@@ -335,6 +359,18 @@ public class Field<G> implements TextStream {
 				str = format.format(value);
 			}
 
+		} else if (value instanceof LocalDate) {
+
+			/*
+			 * DateFormat.toFormat() formata LocalDate diretamente; um
+			 * java.text.DateFormat (cópia antiga) só conhece Date.
+			 */
+			if (format instanceof java.text.DateFormat) {
+				str = format.format(Dates.toDate((LocalDate) value));
+			} else {
+				str = format.format(value);
+			}
+
 		} else if (value instanceof BigDecimal) {
 			str = StringUtils.replaceChars(value.toString(), ".",
 					StringUtils.EMPTY);
@@ -350,7 +386,7 @@ public class Field<G> implements TextStream {
 					+ " ] é incompatível com o especificado [" + length + "]!");
 		}
 
-		return Strings.eliminateAccent(str).toUpperCase();
+		return Strings.eliminateAccentAndUpperCase(str);
 	}
 
 	/**
@@ -530,4 +566,4 @@ public class Field<G> implements TextStream {
 	public String toString() {
 		return Objects.toString(this);
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -30,10 +30,10 @@
 package org.jrimum.utilix.text;
 
 import static org.jrimum.utilix.Objects.isNotNull;
+import static org.jrimum.utilix.Objects.isNull;
 
 import java.io.Serializable;
 
-import org.apache.commons.lang.StringUtils;
 import org.jrimum.utilix.Objects;
 
 /**
@@ -123,6 +123,14 @@ public class Filler<G> implements Serializable {
 	 */
 	private SideToFill sideToFill;
 
+	/**
+	 * <p>
+	 * Caracteres de <code>fillWith.toString()</code>, obtidos uma única vez e
+	 * reaproveitados em todos os preenchimentos.
+	 * </p>
+	 */
+	private transient char[] padding;
+
 	/**
 	 * <p>
 	 * Cria um preenchedor com preenchimento e lado a preencher.
@@ -162,6 +170,7 @@ public class Filler<G> implements Serializable {
 
 		if (isNotNull(fillWith)) {
 			this.fillWith = fillWith;
+			this.padding = null;
 
 		} else {
 			throw new IllegalArgumentException("Filler inválido [ " + fillWith + " ]!");
@@ -230,8 +239,9 @@ public class Filler<G> implements Serializable {
 	/**
 	 * 
 	 * <p>
-	 * Executa o método <code>fill(String, int)</code> passando o parâmetro
-	 * <code>toFill</code> como <code>String.valueOf(toFill)</code>.
+	 * Equivale a executar o método <code>fill(String, int)</code> passando o
+	 * parâmetro <code>toFill</code> como <code>String.valueOf(toFill)</code>,
+	 * porém os dígitos são escritos diretamente na String resultante.
 	 * </p>
 	 * 
 	 * @param toFill
@@ -245,14 +255,15 @@ public class Filler<G> implements Serializable {
 	 * @since 0.2
 	 */
 	public String fill(long toFill, int length) {
-		return fill(String.valueOf(toFill), length);
+		return fillNumber(toFill, length);
 	}
 
 	/**
 	 * 
 	 * <p>
-	 * Executa o método <code>fill(String, int)</code> passando o parâmetro
-	 * <code>toFill</code> como <code>String.valueOf(toFill)</code>.
+	 * Equivale a executar o método <code>fill(String, int)</code> passando o
+	 * parâmetro <code>toFill</code> como <code>String.valueOf(toFill)</code>,
+	 * porém os dígitos são escritos diretamente na String resultante.
 	 * </p>
 	 * 
 	 * @param toFill
@@ -266,14 +277,15 @@ public class Filler<G> implements Serializable {
 	 * @since 0.2
 	 */
 	public String fill(int toFill, int length) {
-		return fill(String.valueOf(toFill), length);
+		return fillNumber(toFill, length);
 	}
 
 	/**
 	 * 
 	 * <p>
-	 * Executa o método <code>fill(String, int)</code> passando o parâmetro
-	 * <code>toFill</code> como <code>String.valueOf(toFill)</code>.
+	 * Equivale a executar o método <code>fill(String, int)</code> passando o
+	 * parâmetro <code>toFill</code> como <code>String.valueOf(toFill)</code>,
+	 * porém os dígitos são escritos diretamente na String resultante.
 	 * </p>
 	 * 
 	 * @param toFill
@@ -287,14 +299,15 @@ public class Filler<G> implements Serializable {
 	 * @since 0.2
 	 */
 	public String fill(short toFill, int length) {
-		return fill(String.valueOf(toFill), length);
+		return fillNumber(toFill, length);
 	}
 
 	/**
 	 * 
 	 * <p>
-	 * Executa o método <code>fill(String, int)</code> passando o parâmetro
-	 * <code>toFill</code> como <code>String.valueOf(toFill)</code>.
+	 * Equivale a executar o método <code>fill(String, int)</code> passando o
+	 * parâmetro <code>toFill</code> como <code>String.valueOf(toFill)</code>,
+	 * porém os dígitos são escritos diretamente na String resultante.
 	 * </p>
 	 * 
 	 * @param toFill
@@ -308,7 +321,7 @@ public class Filler<G> implements Serializable {
 	 * @since 0.2
 	 */
 	public String fill(byte toFill, int length) {
-		return fill(String.valueOf(toFill), length);
+		return fillNumber(toFill, length);
 	}
 
 	/**
@@ -438,6 +451,194 @@ public class Filler<G> implements Serializable {
 		return fill(toFillTemp, length);
 	}
 
+	/**
+	 * <p>
+	 * Escreve <code>toFill</code> preenchido até o tamanho especificado no
+	 * final de <code>dest</code>, sem criar objetos <code>String</code>
+	 * intermediários.
+	 * </p>
+	 * <p>
+	 * O resultado é o mesmo de <code>fill(toFill, length)</code>: a
+	 * representação decimal do número (incluindo o sinal, caso negativo) é
+	 * preenchida e nunca truncada. Valores <code>int</code>,
+	 * <code>short</code> e <code>byte</code> são aceitos por alargamento.
+	 * </p>
+	 * 
+	 * @param toFill
+	 *            Valor a ser preenchido
+	 * @param length
+	 *            tamanho máximo que o valor deve ter depois de preenchido
+	 * @param dest
+	 *            Destino do valor preenchido
+	 * @return O próprio <code>dest</code>
+	 * 
+	 * @see Filler#fill(long, int)
+	 * @since 0.2
+	 */
+	public StringBuilder fill(long toFill, int length, StringBuilder dest) {
+
+		Objects.checkNotNull(dest, "Destino nulo!");
+
+		final int pads = length - numberOfChars(toFill);
+
+		switch (sideToFill) {
+
+			case LEFT:
+				appendPadding(dest, pads);
+				dest.append(toFill);
+				break;
+
+			case RIGHT:
+				dest.append(toFill);
+				appendPadding(dest, pads);
+				break;
+		}
+
+		return dest;
+	}
+
+	/**
+	 * <p>
+	 * Escreve <code>toFill</code> preenchido até o tamanho especificado no
+	 * final de <code>dest</code>, sem criar objetos <code>String</code>
+	 * intermediários.
+	 * </p>
+	 * 
+	 * @param toFill
+	 *            Texto a ser preenchido
+	 * @param length
+	 *            tamanho máximo que o texto deve ter depois de preenchido
+	 * @param dest
+	 *            Destino do texto preenchido
+	 * @return O próprio <code>dest</code>
+	 * @throws IllegalArgumentException
+	 *             Caso <code>toFill</code> ou <code>dest</code> seja
+	 *             <code>null</code>
+	 * 
+	 * @see Filler#fill(String, int)
+	 * @since 0.2
+	 */
+	public StringBuilder fill(CharSequence toFill, int length, StringBuilder dest) {
+
+		Objects.checkNotNull(toFill, "Valor a ser preenchido nulo!");
+		Objects.checkNotNull(dest, "Destino nulo!");
+
+		final int pads = length - toFill.length();
+
+		switch (sideToFill) {
+
+			case LEFT:
+				appendPadding(dest, pads);
+				dest.append(toFill);
+				break;
+
+			case RIGHT:
+				dest.append(toFill);
+				appendPadding(dest, pads);
+				break;
+		}
+
+		return dest;
+	}
+
+	/**
+	 * <p>
+	 * Escreve <code>toFill</code> preenchido até o tamanho especificado em
+	 * <code>dest</code> a partir de <code>offset</code>, sem criar objetos
+	 * intermediários.
+	 * </p>
+	 * 
+	 * @param toFill
+	 *            Valor a ser preenchido
+	 * @param length
+	 *            tamanho máximo que o valor deve ter depois de preenchido
+	 * @param dest
+	 *            Destino do valor preenchido
+	 * @param offset
+	 *            Posição de <code>dest</code> onde a escrita começa
+	 * @return Posição de <code>dest</code> imediatamente após o último
+	 *         caractere escrito
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             Caso o valor preenchido não caiba em <code>dest</code>
+	 * 
+	 * @see Filler#fill(long, int, StringBuilder)
+	 * @since 0.2
+	 */
+	public int fill(long toFill, int length, char[] dest, int offset) {
+
+		Objects.checkNotNull(dest, "Destino nulo!");
+
+		final int chars = numberOfChars(toFill);
+		final int pads = length - chars;
+
+		int position = offset;
+
+		switch (sideToFill) {
+
+			case LEFT:
+				position = writePadding(dest, position, pads);
+				position = writeNumber(toFill, chars, dest, position);
+				break;
+
+			case RIGHT:
+				position = writeNumber(toFill, chars, dest, position);
+				position = writePadding(dest, position, pads);
+				break;
+		}
+
+		return position;
+	}
+
+	/**
+	 * <p>
+	 * Escreve <code>toFill</code> preenchido até o tamanho especificado em
+	 * <code>dest</code> a partir de <code>offset</code>, sem criar objetos
+	 * intermediários.
+	 * </p>
+	 * 
+	 * @param toFill
+	 *            Texto a ser preenchido
+	 * @param length
+	 *            tamanho máximo que o texto deve ter depois de preenchido
+	 * @param dest
+	 *            Destino do texto preenchido
+	 * @param offset
+	 *            Posição de <code>dest</code> onde a escrita começa
+	 * @return Posição de <code>dest</code> imediatamente após o último
+	 *         caractere escrito
+	 * @throws IllegalArgumentException
+	 *             Caso <code>toFill</code> ou <code>dest</code> seja
+	 *             <code>null</code>
+	 * @throws ArrayIndexOutOfBoundsException
+	 *             Caso o texto preenchido não caiba em <code>dest</code>
+	 * 
+	 * @since 0.2
+	 */
+	public int fill(CharSequence toFill, int length, char[] dest, int offset) {
+
+		Objects.checkNotNull(toFill, "Valor a ser preenchido nulo!");
+		Objects.checkNotNull(dest, "Destino nulo!");
+
+		final int pads = length - toFill.length();
+
+		int position = offset;
+
+		switch (sideToFill) {
+
+			case LEFT:
+				position = writePadding(dest, position, pads);
+				position = writeChars(toFill, dest, position);
+				break;
+
+			case RIGHT:
+				position = writeChars(toFill, dest, position);
+				position = writePadding(dest, position, pads);
+				break;
+		}
+
+		return position;
+	}
+
 	/**
 	 * <p>
 	 * Preenche a String a direita com valor do atributo <tt>"fillWith".</tt>
@@ -453,7 +654,16 @@ public class Filler<G> implements Serializable {
 	 */
 	private String fillRight(String toFill, int length) {
 
-		return StringUtils.rightPad(toFill, length, fillWith.toString());
+		if (isNull(toFill) || toFill.length() >= length) {
+			return toFill;
+		}
+
+		final char[] chars = new char[length];
+
+		toFill.getChars(0, toFill.length(), chars, 0);
+		writePadding(chars, toFill.length(), length - toFill.length());
+
+		return new String(chars);
 	}
 
 	/**
@@ -471,7 +681,153 @@ public class Filler<G> implements Serializable {
 	 */
 	private String fillLeft(String toFill, int length) {
 
-		return StringUtils.leftPad(toFill, length, fillWith.toString());
+		if (isNull(toFill) || toFill.length() >= length) {
+			return toFill;
+		}
+
+		final char[] chars = new char[length];
+		final int pads = length - toFill.length();
+
+		writePadding(chars, 0, pads);
+		toFill.getChars(0, toFill.length(), chars, pads);
+
+		return new String(chars);
+	}
+
+	/**
+	 * <p>
+	 * Preenche um número escrevendo seus dígitos diretamente no array da nova
+	 * String.
+	 * </p>
+	 * 
+	 * @param toFill
+	 * @param length
+	 * @return Nova String preenchida
+	 */
+	private String fillNumber(long toFill, int length) {
+
+		final char[] chars = new char[Math.max(length, numberOfChars(toFill))];
+
+		fill(toFill, length, chars, 0);
+
+		return new String(chars);
+	}
+
+	/**
+	 * <p>
+	 * Caracteres usados no preenchimento. Assim como em
+	 * <code>StringUtils.leftPad</code>, um preenchedor vazio equivale a um
+	 * espaço em branco.
+	 * </p>
+	 * 
+	 * @return caracteres de preenchimento
+	 */
+	private char[] getPadding() {
+
+		if (isNull(padding)) {
+
+			final String str = fillWith.toString();
+
+			padding = (str.length() == 0 ? Strings.WHITE_SPACE : str).toCharArray();
+		}
+
+		return padding;
+	}
+
+	private void appendPadding(StringBuilder dest, int pads) {
+
+		final char[] pad = getPadding();
+
+		if (pad.length == 1) {
+
+			for (int i = 0; i < pads; i++) {
+				dest.append(pad[0]);
+			}
+
+		} else {
+
+			for (int i = 0; i < pads; i++) {
+				dest.append(pad[i % pad.length]);
+			}
+		}
+	}
+
+	private int writePadding(char[] dest, int offset, int pads) {
+
+		final char[] pad = getPadding();
+
+		for (int i = 0; i < pads; i++) {
+			dest[offset + i] = pad[i % pad.length];
+		}
+
+		return offset + Math.max(pads, 0);
+	}
+
+	private static int writeChars(CharSequence toWrite, char[] dest, int offset) {
+
+		final int length = toWrite.length();
+
+		if (toWrite instanceof String) {
+
+			((String) toWrite).getChars(0, length, dest, offset);
+
+		} else {
+
+			for (int i = 0; i < length; i++) {
+				dest[offset + i] = toWrite.charAt(i);
+			}
+		}
+
+		return offset + length;
+	}
+
+	/**
+	 * <p>
+	 * Escreve os <code>chars</code> caracteres da representação decimal de
+	 * <code>value</code> da direita para a esquerda.
+	 * </p>
+	 */
+	private static int writeNumber(long value, int chars, char[] dest, int offset) {
+
+		if (value == Long.MIN_VALUE) {
+			return writeChars(String.valueOf(value), dest, offset);
+		}
+
+		final int end = offset + chars;
+
+		long v = Math.abs(value);
+		int position = end;
+
+		do {
+			dest[--position] = (char) ('0' + (int) (v % 10));
+			v /= 10;
+		} while (v != 0);
+
+		if (value < 0) {
+			dest[--position] = '-';
+		}
+
+		return end;
+	}
+
+	/**
+	 * <p>
+	 * Quantidade de caracteres de <code>String.valueOf(value)</code>.
+	 * </p>
+	 */
+	private static int numberOfChars(long value) {
+
+		if (value == Long.MIN_VALUE) {
+			return 20;
+		}
+
+		int chars = value < 0 ? 2 : 1;
+
+		for (long v = Math.abs(value); v >= 10; v /= 10) {
+			chars++;
+		}
+
+		return chars;
 	}
 
 	/**
@@ -36,7 +36,6 @@ import static org.apache.commons.lang.StringUtils.isNotBlank;
 import static org.apache.commons.lang.StringUtils.isNumeric;
 import static org.apache.commons.lang.StringUtils.removeStart;
 import static org.apache.commons.lang.StringUtils.replace;
-import static org.apache.commons.lang.StringUtils.replaceChars;
 import static org.apache.commons.lang.StringUtils.startsWith;
 import static org.jrimum.utilix.Objects.isNotNull;
 
@@ -62,6 +61,37 @@ public final class Strings {
 
 	public static final String WHITE_SPACE = " ";
 
+	/**
+	 * Marca, na tabela de transliteração, um caractere que deve ser mantido.
+	 */
+	private static final char KEEP = '\0';
+
+	/**
+	 * Primeiro caractere (À) coberto pela tabela de transliteração.
+	 */
+	private static final char TRANSLITERATION_OFFSET = '\u00C0';
+
+	/**
+	 * <p>
+	 * Tabela de transliteração dos caracteres acentuados do Latin-1 (U+00C0 a
+	 * U+00FF) e do Latin Extended-A (U+0100 a U+017F). Ligaduras e símbolos
+	 * sem equivalente de uma letra (Æ, ß, Œ, ×, ÷, etc.) são mantidos.
+	 * </p>
+	 */
+	private static final char[] TRANSLITERATION = (
+			// U+00C0 - U+00FF
+			"AAAAAA\0CEEEEIIIIDNOOOOO\0OUUUUY\0\0"
+			+ "aaaaaa\0ceeeeiiiidnooooo\0ouuuuy\0y"
+			// U+0100 - U+017F
+			+ "AaAaAaCcCcCcCcDd"
+			+ "DdEeEeEeEeEeGgGg"
+			+ "GgGgHhHhIiIiIiIi"
+			+ "Ii\0\0JjKk\0LlLlLlL"
+			+ "lLlNnNnNn\0NnOoOo"
+			+ "Oo\0\0RrRrRrSsSsSs"
+			+ "SsTtTtTtUuUuUuUu"
+			+ "UuUuWwYyYZzZzZzs").toCharArray();
+
 	/**
 	 * Utility class pattern: classe não instanciável
 	 * 
@@ -187,7 +217,13 @@ public final class Strings {
 	 * Os acentos são removidos tanto para letras minúsculas como para letras
 	 * maiúsculas.
 	 * </p>
-	 * 
+	 * <p>
+	 * Além dos acentos acima, são convertidas as demais letras acentuadas do
+	 * Latin-1 e do Latin Extended-A (ex.: ñ, ý, ø, ł, ş). A conversão é feita
+	 * em uma única passagem e, caso o texto seja ASCII, o próprio objeto
+	 * recebido é devolvido.
+	 * </p>
+	 *
 	 * @param value
 	 *            String com os caracteres a serem removidos.
 	 * @return String sem acentuação.
@@ -195,77 +231,113 @@ public final class Strings {
 	 */
 	public static String eliminateAccent(final String value) {
 
-		String modifiedValue = value;
-
-		// Para ç e Ç
-		modifiedValue = replaceChars(modifiedValue, '\u00E7', 'c');
-		modifiedValue = replaceChars(modifiedValue, '\u00C7', 'C');
-
-		// Para à, á, â, ã e ä
-		modifiedValue = replaceChars(modifiedValue, '\u00E0', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E1', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E2', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E3', 'a');
-		modifiedValue = replaceChars(modifiedValue, '\u00E4', 'a');
-
-		// Para è, é, ê e ë
-		modifiedValue = replaceChars(modifiedValue, '\u00E8', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00E9', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00EA', 'e');
-		modifiedValue = replaceChars(modifiedValue, '\u00EB', 'e');
-
-		// Para ì, í, î e ï
-		modifiedValue = replaceChars(modifiedValue, '\u00EC', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00ED', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00EE', 'i');
-		modifiedValue = replaceChars(modifiedValue, '\u00EF', 'i');
-
-		// Para ò, ó, ô, õ e ö
-		modifiedValue = replaceChars(modifiedValue, '\u00F2', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F3', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F4', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F5', 'o');
-		modifiedValue = replaceChars(modifiedValue, '\u00F6', 'o');
-
-		// Para ù, ú, û e ü
-		modifiedValue = replaceChars(modifiedValue, '\u00F9', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FA', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FB', 'u');
-		modifiedValue = replaceChars(modifiedValue, '\u00FC', 'u');
-
-		// Para À, Á, Â, Ã e Ä
-		modifiedValue = replaceChars(modifiedValue, '\u00C0', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C1', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C2', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C3', 'A');
-		modifiedValue = replaceChars(modifiedValue, '\u00C4', 'A');
-
-		// Para È, É, Ê e Ë
-		modifiedValue = replaceChars(modifiedValue, '\u00C8', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00C9', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00CA', 'E');
-		modifiedValue = replaceChars(modifiedValue, '\u00CB', 'E');
-
-		// Para Ì, Í, Î e Ï
-		modifiedValue = replaceChars(modifiedValue, '\u00CC', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CD', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CE', 'I');
-		modifiedValue = replaceChars(modifiedValue, '\u00CF', 'I');
-
-		// Para Ò, Ó, Ô, Õ e Ö
-		modifiedValue = replaceChars(modifiedValue, '\u00D2', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D3', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D4', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D5', 'O');
-		modifiedValue = replaceChars(modifiedValue, '\u00D6', 'O');
-
-		// Para Ù, Ú, Û e Ü
-		modifiedValue = replaceChars(modifiedValue, '\u00D9', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DA', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DB', 'U');
-		modifiedValue = replaceChars(modifiedValue, '\u00DC', 'U');
-
-		return modifiedValue;
+		return transliterate(value, false);
+	}
+
+	/**
+	 * <p>
+	 * Remove a acentuação do texto, da mesma forma que
+	 * {@link #eliminateAccent(String)}, e converte o resultado para letras
+	 * maiúsculas em uma única passagem.
+	 * </p>
+	 * <p>
+	 * Diferente de <code>String.toUpperCase()</code>, a conversão independe do
+	 * <code>Locale</code> padrão da JVM e nunca altera o tamanho do texto.
+	 * Textos que já estão em ASCII maiúsculo (como campos numéricos) são
+	 * devolvidos sem nenhuma cópia.
+	 * </p>
+	 * 
+	 * @param value
+	 *            String a ser convertida.
+	 * @return String sem acentuação e em letras maiúsculas.
+	 * @since 0.2
+	 */
+	public static String eliminateAccentAndUpperCase(final String value) {
+
+		return transliterate(value, true);
+	}
+
+	/**
+	 * <p>
+	 * Retorna o caractere sem acentuação correspondente a <code>c</code> ou o
+	 * próprio <code>c</code> caso ele não possua acento conhecido.
+	 * </p>
+	 * 
+	 * @param c
+	 *            caractere a ser convertido.
+	 * @return caractere sem acentuação.
+	 * @since 0.2
+	 */
+	public static char eliminateAccent(final char c) {
+
+		if (c >= TRANSLITERATION_OFFSET && c < TRANSLITERATION_OFFSET + TRANSLITERATION.length) {
+
+			final char plain = TRANSLITERATION[c - TRANSLITERATION_OFFSET];
+
+			if (plain != KEEP) {
+				return plain;
+			}
+		}
+
+		return c;
+	}
+
+	/**
+	 * <p>
+	 * Transliteração em uma única passagem usada por
+	 * {@link #eliminateAccent(String)} e
+	 * {@link #eliminateAccentAndUpperCase(String)}.
+	 * </p>
+	 * 
+	 * @param value
+	 * @param upperCase
+	 * @return String transliterada ou o próprio <code>value</code> quando não
+	 *         há o que converter.
+	 */
+	private static String transliterate(final String value, final boolean upperCase) {
+
+		if (value == null) {
+			return null;
+		}
+
+		final int length = value.length();
+		int i = 0;
+
+		// Caminho rápido: nada a fazer enquanto for ASCII (e maiúsculo, se for
+		// o caso).
+		for (; i < length; i++) {
+
+			final char c = value.charAt(i);
+
+			if (c >= 0x80 || (upperCase && c >= 'a' && c <= 'z')) {
+				break;
+			}
+		}
+
+		if (i == length) {
+			return value;
+		}
+
+		final char[] chars = value.toCharArray();
+
+		for (; i < length; i++) {
+
+			char c = eliminateAccent(chars[i]);
+
+			if (upperCase) {
+
+				if (c >= 'a' && c <= 'z') {
+					c -= ('a' - 'A');
+
+				} else if (c >= 0x80) {
+					c = Character.toUpperCase(c);
+				}
+			}
+
+			chars[i] = c;
+		}
+
+		return new String(chars);
 	}
 
 	/**
@@ -41,7 +41,11 @@ import org.jrimum.utilix.Objects;
  * @since 0.2
  * 
  * @version 0.2
+ * 
+ * @deprecated {@link DateFormat} e {@link DecimalFormat} passaram a ser
+ *             imutáveis e não usam mais uma cópia do formatador por thread.
  */
+@Deprecated
 public abstract class ThreadLocalFormat<T> extends ThreadLocal<T> {
 
 	protected final String format;
@@ -44,7 +44,11 @@ import org.jrimum.utilix.Objects;
  * @since 0.2
  * 
  * @version 0.2
+ * 
+ * @deprecated {@link DateFormat} e {@link DecimalFormat} passaram a ser
+ *             imutáveis e não usam mais uma cópia do formatador por thread.
  */
+@Deprecated
 public abstract class ThreadLocalLocalizedFormat<T, S> extends ThreadLocalFormat<T> {
 
 	protected final Locale locale;